@@ -0,0 +1,71 @@
+package com.hongik.books.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학과명 정규화: 컴파일된 트라이(DepartmentNormalizer) vs 이전 방식(trim + HashMap 조회)
+ * - 적중 경로(정확한 이름, 대소문자/공백/프리픽스 변형)는 gc 프로파일러에서 gc.alloc.rate.norm ≈ 0 B/op 이어야 한다
+ * - 오타 보정 경로는 적중하지 않을 때만 타므로 할당이 있어도 된다 (비교용)
+ * - 실행: ./gradlew jmh -PjmhIncludes=DepartmentNormalizerBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DepartmentNormalizerBenchmark {
+
+    private static final String[] EXACT = {
+            "컴퓨터공학과", "Computer Science", "コンピュータ工学科", "计算机工学科",
+            "department.Business Administration", "Urban Engineering", "視覚デザイン専攻", "实用音乐专攻"
+    };
+    private static final String[] VARIANTS = {
+            "computer science", " COMPUTER SCIENCE ", "Department.Urban Engineering", "컴퓨터 공학과",
+            "departments.business administration", "visual-design", "URBAN_ENGINEERING", "Practical  Music"
+    };
+    private static final String[] TYPOS = {
+            "Computr Science", "Urban Enginering", "컴퓨터공학", "Busines Administration"
+    };
+
+    private Map<String, String> legacy;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        legacy = new HashMap<>();
+        for (String name : EXACT) legacy.put(name, DepartmentNormalizer.lookup(name));
+    }
+
+    @Benchmark
+    public String trieExactHit() {
+        return DepartmentNormalizer.toKoreanOrNull(EXACT[next(EXACT.length)]);
+    }
+
+    @Benchmark
+    public String trieVariantHit() {
+        return DepartmentNormalizer.toKoreanOrNull(VARIANTS[next(VARIANTS.length)]);
+    }
+
+    @Benchmark
+    public String trieTypoCorrection() {
+        return DepartmentNormalizer.toKoreanForSearch(TYPOS[next(TYPOS.length)]);
+    }
+
+    @Benchmark
+    public String legacyHashMapHit() {
+        return legacy.get(EXACT[next(EXACT.length)].trim());
+    }
+
+    private int next(int length) {
+        cursor = (cursor + 1) & 0x3ff;
+        return cursor % length;
+    }
+}
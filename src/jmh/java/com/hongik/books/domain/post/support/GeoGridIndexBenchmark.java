@@ -0,0 +1,93 @@
+package com.hongik.books.domain.post.support;
+
+import com.hongik.books.common.util.GeoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주변 게시글 검색: 격자 색인(GeoGridIndex) vs 전체 스캔 + 하버사인 정렬
+ * - 서울 일대(위도 37.45~37.70, 경도 126.80~127.15)에 게시글 좌표를 고르게 뿌리고 임의의 기준점으로 질의
+ * - 서비스(SalePostService)와 같이 개수 제한 없이 반경 안 전체를 거리순으로 받는다
+ * - 실행: ./gradlew jmh -PjmhIncludes=GeoGridIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoGridIndexBenchmark {
+
+    private static final double MIN_LAT = 37.45, MAX_LAT = 37.70;
+    private static final double MIN_LNG = 126.80, MAX_LNG = 127.15;
+    private static final int QUERY_POINTS = 1024;
+
+    @Param({"100000"})
+    private int posts;
+
+    @Param({"1000", "5000"})
+    private int radiusMeters;
+
+    private long[] ids;
+    private double[] lats;
+    private double[] lngs;
+    private double[] queryLats;
+    private double[] queryLngs;
+    private GeoGridIndex index;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        ids = new long[posts];
+        lats = new double[posts];
+        lngs = new double[posts];
+        index = new GeoGridIndex(0.01);
+        for (int i = 0; i < posts; i++) {
+            ids[i] = i + 1;
+            lats[i] = random.nextDouble(MIN_LAT, MAX_LAT);
+            lngs[i] = random.nextDouble(MIN_LNG, MAX_LNG);
+            index.put(ids[i], lats[i], lngs[i]);
+        }
+        queryLats = new double[QUERY_POINTS];
+        queryLngs = new double[QUERY_POINTS];
+        for (int i = 0; i < QUERY_POINTS; i++) {
+            queryLats[i] = random.nextDouble(MIN_LAT, MAX_LAT);
+            queryLngs[i] = random.nextDouble(MIN_LNG, MAX_LNG);
+        }
+    }
+
+    @Benchmark
+    public List<GeoGridIndex.Hit> gridIndex() {
+        int q = nextQuery();
+        return index.withinRadius(queryLats[q], queryLngs[q], radiusMeters, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public List<GeoGridIndex.Hit> naiveScan() {
+        int q = nextQuery();
+        double lat = queryLats[q];
+        double lng = queryLngs[q];
+        List<GeoGridIndex.Hit> hits = new ArrayList<>();
+        for (int i = 0; i < posts; i++) {
+            double distance = GeoUtils.haversineMeters(lat, lng, lats[i], lngs[i]);
+            if (distance <= radiusMeters) hits.add(new GeoGridIndex.Hit(ids[i], distance));
+        }
+        hits.sort(Comparator.comparingDouble(GeoGridIndex.Hit::distanceMeters));
+        return hits;
+    }
+
+    private int nextQuery() {
+        cursor = (cursor + 1) & (QUERY_POINTS - 1);
+        return cursor;
+    }
+}
@@ -1,4 +1,4 @@
-import React, { useState, useEffect, useRef, useContext, useMemo } from 'react';
+import React, { useState, useEffect, useLayoutEffect, useRef, useContext, useMemo } from 'react';
 import styled from 'styled-components';
 import {
   FaPaperPlane, FaUser, FaBook, FaArrowLeft, FaSignOutAlt, FaCalendarAlt,
@@ -716,6 +716,9 @@ const resolveWsEndpoint = () => {
 
 const WS_ENDPOINT = resolveWsEndpoint();
 
+// 채팅 이력 한 페이지 크기 (서버 기본값과 같음). 이보다 적게 오면 더 오래된 메시지가 없다
+const HISTORY_PAGE_SIZE = 50;
+
 // ✅ WS 호스트를 전역에 심어 SSE가 재사용하도록
 try { window.__HBS_BACKEND_HOST__ = new URL(WS_ENDPOINT).host; } catch {}
 
@@ -725,6 +728,11 @@ const ChatRoom = () => {
   const [newMessage, setNewMessage] = useState('');
   const [loading, setLoading] = useState(false);
   const messagesEndRef = useRef(null);
+  const chatMessagesRef = useRef(null);
+  const [hasOlderMessages, setHasOlderMessages] = useState(false);
+  const loadingOlderRef = useRef(false);
+  // 이전 메시지를 앞에 붙일 때 보던 위치를 유지하기 위한 스크롤 스냅샷
+  const scrollRestoreRef = useRef(null);
   const navigate = useNavigate();
   const { chatId } = useParams();
 
@@ -951,10 +959,11 @@ const ChatRoom = () => {
 
     const loadPreviousMessages = async () => {
       try {
-        const res = await fetch(`/api/chat/room/${roomId}/messages`, { headers: { Authorization: `Bearer ${token}` }});
+        const res = await fetch(`/api/chat/room/${roomId}/messages?size=${HISTORY_PAGE_SIZE}`, { headers: { Authorization: `Bearer ${token}` }});
         if (!res.ok) throw new Error(t('chat.chatListError'));
         const data = await res.json();
         setMessages(data);
+        setHasOlderMessages(Array.isArray(data) && data.length >= HISTORY_PAGE_SIZE);
       } catch (err) {
         // ignore
       }
@@ -962,6 +971,41 @@ const ChatRoom = () => {
     loadPreviousMessages();
   }, [roomId, t]);
 
+  // 위로 스크롤: 화면의 가장 오래된 메시지 이전 페이지를 before 커서로 불러와 앞에 붙인다
+  const loadOlderMessages = async () => {
+    const token = localStorage.getItem('accessToken');
+    if (!roomId || !token || !hasOlderMessages || loadingOlderRef.current) return;
+    const oldest = messages.find(m => typeof m.messageId === 'number');
+    if (!oldest) return;
+
+    loadingOlderRef.current = true;
+    try {
+      const res = await fetch(
+          `/api/chat/room/${roomId}/messages?before=${oldest.messageId}&size=${HISTORY_PAGE_SIZE}`,
+          { headers: { Authorization: `Bearer ${token}` }});
+      if (!res.ok) throw new Error(t('chat.chatListError'));
+      const data = await res.json();
+      const older = Array.isArray(data) ? data : [];
+      setHasOlderMessages(older.length >= HISTORY_PAGE_SIZE);
+      if (older.length === 0) return;
+
+      const el = chatMessagesRef.current;
+      if (el) scrollRestoreRef.current = { height: el.scrollHeight, top: el.scrollTop };
+      setMessages(prev => {
+        const seen = new Set(prev.map(m => m.messageId).filter(id => id != null));
+        return [...older.filter(m => !seen.has(m.messageId)), ...prev];
+      });
+    } catch (err) {
+      // ignore
+    } finally {
+      loadingOlderRef.current = false;
+    }
+  };
+
+  const handleMessagesScroll = (e) => {
+    if (e.currentTarget.scrollTop < 80) loadOlderMessages();
+  };
+
   /* ------------------------------ 예약 상태 로드 ------------------------------ */
   useEffect(() => {
     if (!roomId) return;
@@ -1010,13 +1054,23 @@ const ChatRoom = () => {
     stomp.connect({}, () => {
       stomp.subscribe(`/sub/chat/room/${roomId}`, (message) => {
         const newMessage = JSON.parse(message.body);
+        // 전달 후 차단되어 회수된 메시지: 화면에서 지운다
+        if (newMessage?.type === 'RETRACTED') {
+          setMessages(prev => prev.filter(m => m.messageId !== newMessage.messageId));
+          return;
+        }
         setMessages(prev => [...prev, newMessage]);
       });
       stomp.subscribe('/user/queue/chat-errors', (frame) => {
         try {
           const payload = JSON.parse(frame.body);
           const serverMessage = payload?.message;
-          const d = payload?.data;
+          // 비동기 검사 차단: 저장됐던 내 메시지를 지우고, 검사 결과는 moderation에 담겨 온다
+          const retracted = payload?.data?.type === 'RETRACTED' ? payload.data : null;
+          if (retracted) {
+            setMessages(prev => prev.filter(m => m.messageId !== retracted.messageId));
+          }
+          const d = retracted ? retracted.moderation : payload?.data;
           const offendingText = typeof d?.offendingText === 'string' && d.offendingText.trim().length
               ? d.offendingText
               : (lastAttemptedMessageRef.current || '');
@@ -1167,7 +1221,19 @@ const ChatRoom = () => {
     setModerationStats(null);
   };
 
+  // 이전 메시지를 앞에 붙인 경우: 그리기 전에 보던 메시지 위치로 되돌린다
+  useLayoutEffect(() => {
+    const restore = scrollRestoreRef.current;
+    const el = chatMessagesRef.current;
+    if (!restore || !el) return;
+    el.scrollTop = el.scrollHeight - restore.height + restore.top;
+  }, [messages]);
+
   useEffect(() => {
+    if (scrollRestoreRef.current) {
+      scrollRestoreRef.current = null;
+      return;
+    }
     messagesEndRef.current?.scrollIntoView({ behavior: 'smooth' });
   }, [messages]);
 
@@ -1885,7 +1951,7 @@ const ChatRoom = () => {
               </ModalOverlay>
           )}
 
-          <ChatMessages>
+          <ChatMessages ref={chatMessagesRef} onScroll={handleMessagesScroll}>
             {messages.length > 0 ? (
                 messages.map(message => (
                     <MessageGroup key={message.messageId || message.id}>
@@ -0,0 +1,70 @@
+package com.hongik.books.auth.jwt;
+
+import com.hongik.books.auth.dto.LoginUserDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * STOMP CONNECT 시 세션 사용자를 "사용자 ID" 이름의 Principal로 맞춘다
+ * - CONNECT 헤더 Authorization: Bearer {accessToken} 가 있으면 JwtAuthFilter와 같은 검사(서명·블랙리스트) 후 사용
+ * - 없으면 핸드셰이크 요청에서 인증된 사용자(LoginUserDTO)를 사용
+ * - 그래서 서버는 convertAndSendToUser(String.valueOf(userId), "/queue/...") 로 특정 사용자에게 보낼 수 있다
+ * - 인증 정보가 없거나 잘못되면 익명 세션으로 둔다 (기존 동작과 같음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtTokenRedisRepository jwtTokenRedisRepository;
+
+    /**
+     * STOMP 세션 사용자 (getName = 사용자 ID)
+     */
+    public record StompUser(Long userId) implements Principal {
+        @Override
+        public String getName() {
+            return String.valueOf(userId);
+        }
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) return message;
+
+        Long userId = resolveUserId(accessor);
+        if (userId != null) accessor.setUser(new StompUser(userId));
+        return message;
+    }
+
+    private Long resolveUserId(StompHeaderAccessor accessor) {
+        String bearer = accessor.getFirstNativeHeader("Authorization");
+        if (bearer != null && bearer.startsWith("Bearer ")) {
+            String token = bearer.substring(7).trim();
+            try {
+                if (jwtTokenProvider.validateToken(token) && !jwtTokenRedisRepository.hasKey(token)) {
+                    return jwtTokenProvider.getUserIdFromToken(token);
+                }
+            } catch (Exception e) {
+                log.debug("STOMP CONNECT 토큰 확인 실패: {}", e.getMessage());
+            }
+            return null;
+        }
+        if (accessor.getUser() instanceof Authentication auth && auth.getPrincipal() instanceof LoginUserDTO user) {
+            return user.id();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,158 @@
+package com.hongik.books.common.controller;
+
+import com.hongik.books.common.util.ImageBlobRegistry;
+import com.hongik.books.common.util.LocalStorageUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 저장소 이미지 서빙 (app.storage.mode=local)
+ * - 파일 이름이 내용 해시(또는 UUID)라 내용이 바뀌지 않으므로 강한 ETag + 1년 immutable 캐시
+ * - Range 요청(단일 구간)은 206으로 응답, 여러 구간 요청은 전체 응답으로 처리
+ * - 본문은 Tomcat sendfile(커널 zero-copy)로 보내고, 지원하지 않는 환경이면 FileChannel.transferTo로 전송
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.storage.mode", havingValue = "local", matchIfMissing = true)
+public class LocalImageController {
+
+    // Tomcat sendfile 요청 속성 (DefaultServlet과 같은 방식)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS)
+            .cachePublic().immutable().getHeaderValue();
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    private final LocalStorageUtil localStorageUtil;
+
+    @GetMapping("${app.storage.local.public-url-base:/uploads}/**")
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = localStorageUtil.resolveStoredFile(PATH_HELPER.getPathWithinApplication(request));
+        if (file == null || !Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = Files.size(file);
+        String etag = etagOf(file, length);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        MediaType contentType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(contentType.toString());
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = singleRange(request, etag);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equals(request.getMethod())) return;
+        send(request, response, file, start, count);
+    }
+
+    private void send(HttpServletRequest request, HttpServletResponse response,
+                      Path file, long start, long count) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 서블릿이 반환된 뒤 커넥터가 파일을 소켓으로 직접 전송
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) break;
+                position += sent;
+                remaining -= sent;
+            }
+            out.flush();
+        }
+    }
+
+    // Range 헤더가 단일 구간이고 If-Range 조건을 만족할 때만 구간 응답
+    private HttpRange singleRange(HttpServletRequest request, String etag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) return null;
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.trim().equals(etag)) return null;
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // 내용 주소 파일은 해시 자체가 ETag, 예전(UUID) 파일은 크기+수정 시각으로 만든다 (덮어쓰지 않는 파일)
+    private static String etagOf(Path file, long length) throws IOException {
+        String name = file.getFileName().toString();
+        if (ImageBlobRegistry.isContentAddressed(name)) {
+            int dot = name.lastIndexOf('.');
+            return "\"" + (dot > 0 ? name.substring(0, dot) : name) + "\"";
+        }
+        long modified = Files.getLastModifiedTime(file).toMillis();
+        return "\"" + Long.toHexString(length) + "-" + Long.toHexString(modified) + "\"";
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) value = value.substring(2);
+            if (value.equals("*") || value.equals(etag)) return true;
+        }
+        return false;
+    }
+}
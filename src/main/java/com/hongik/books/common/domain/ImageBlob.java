@@ -0,0 +1,65 @@
+package com.hongik.books.common.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소(SHA-256) 기반으로 저장된 이미지 파일의 참조 수를 관리하는 Entity
+ * - storageKey: 저장소 내 경로 ({디렉터리}/{sha256}{확장자})
+ * - refCount: 이 파일을 가리키는 업로드 수. 0이 되면 실제 파일을 삭제한다
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "image_blob",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_image_blob_storage_key",
+                        columnNames = {"storage_key"}
+                )
+        }
+)
+public class ImageBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_blob_id")
+    private Long id;
+
+    @Column(nullable = false, length = 512)
+    private String storageKey;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private long sizeBytes;
+
+    @Column(nullable = false)
+    private int refCount;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public ImageBlob(String storageKey, String contentHash, long sizeBytes) {
+        this.storageKey = storageKey;
+        this.contentHash = contentHash;
+        this.sizeBytes = sizeBytes;
+        this.refCount = 1;
+    }
+
+    /**
+     * 참조 하나를 해제하고 남은 참조 수를 반환
+     */
+    public int release() {
+        if (refCount > 0) refCount--;
+        return refCount;
+    }
+}
@@ -0,0 +1,10 @@
+package com.hongik.books.common.dto;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이지네이션 응답
+ * - count 쿼리 없이 다음 페이지 존재 여부(hasNext)와 다음 요청에 그대로 넘길 커서(nextCursor)만 제공
+ */
+public record CursorResponse<T>(List<T> content, boolean hasNext, String nextCursor) {
+}
@@ -0,0 +1,23 @@
+package com.hongik.books.common.repository;
+
+import com.hongik.books.common.domain.ImageBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, Long> {
+
+    // 이미 저장된 내용이면 참조 수만 올린다 (없으면 0건)
+    @Modifying
+    @Query("update ImageBlob b set b.refCount = b.refCount + 1 where b.storageKey = :storageKey")
+    int incrementRefCount(@Param("storageKey") String storageKey);
+
+    // 참조 해제 시 행 잠금 (해제-삭제 도중 같은 내용의 업로드가 참조를 올리지 못하도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ImageBlob> findByStorageKey(String storageKey);
+}
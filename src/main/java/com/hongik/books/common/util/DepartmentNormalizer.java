@@ -0,0 +1,344 @@
+package com.hongik.books.common.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 프런트가 어떤 언어(ja/en/zh/ko, 그리고 'department.' 같은 프리픽스 포함)로 보내더라도
+ * DB 저장/검색 시에는 항상 한국어 학과명으로 정규화합니다.
+ * - 클래스 초기화 시 매핑 표를 불변 배열 트라이로 컴파일 (간선은 노드별 글자순 정렬 구간, 이진 탐색)
+ * - 대소문자/공백/구분 기호('-', '_', '·', '・')는 무시하고, 프리픽스는 대소문자 구분 없이 건너뛴다
+ *   입력 문자열을 그대로 한 글자씩 따라가므로 적중 경로는 객체를 만들지 않는다
+ * - 적중하지 않으면 NFC 정규화 후 다시 찾는다
+ * - 검색/추천용(toKoreanForSearch)만 편집 거리(길이별 최대 1~2) 안의 유일한 후보로 오타를 보정한다
+ *   (거리가 같은 후보가 여럿이면 보정하지 않음). 저장 경로는 매핑에 없으면 원문을 그대로 둔다
+ *   예) '미술학과'는 저장 시 그대로, 검색 시에는 '예술학과'로 보정
+ */
+public final class DepartmentNormalizer {
+
+    private static final String[] PREFIXES = {"departments.", "department."};
+
+    private static final int NONE = -1;
+    private static final int AMBIGUOUS = -2;
+
+    private static final Trie TRIE;
+
+    static {
+        Builder b = new Builder();
+        // ===== 주요 학과/전공 매핑 (ja/en/zh) =====
+        // 컴퓨터공학과
+        b.map("컴퓨터공학과", "コンピュータ工学科", "Computer Science", "计算机工学科");
+        // 산업데이터공학과
+        b.map("산업데이터공학과", "産業データ工学科", "Industrial Data Engineering", "产业数据工学科");
+        // 전자전기공학부
+        b.map("전자전기공학부", "電子電気工学部", "Electronic & Electrical Engineering", "电子电气工学部");
+        // 경영학부
+        b.map("경영학부", "経営学部", "Business Administration", "经营学部");
+        // 신소재공학전공
+        b.map("신소재공학전공", "新素材工学科", "Advanced Materials Engineering", "新材料工学科");
+        // 화학공학전공
+        b.map("화학공학전공", "化学工学科", "Chemical Engineering", "化学工学科");
+        // 기계시스템디자인공학과
+        b.map("기계시스템디자인공학과", "機械システムデザイン工学科", "Mechanical System Design Engineering", "机械系统设计工学科");
+        // 건설환경공학과
+        b.map("건설환경공학과", "建設環境工学科", "Civil & Environmental Engineering", "建设环境工学科");
+
+        // 건축/도시/실내
+        b.map("건축학전공", "建築学専攻", "Architecture", "建筑学专攻");
+        b.map("실내건축학전공", "インテリア建築学専攻", "Interior Architecture", "室内建筑学专攻");
+        b.map("도시공학과", "都市工学科", "Urban Engineering", "城市工程学科");
+
+        // 인문/사회/교양 계열 (필요 시 확장)
+        b.map("법학부", "法学部", "School of Law", "法学部(中文)");
+        b.map("동양학과", "東洋学科", "Oriental Studies", "东方学科");
+        b.map("경제학전공", "経済学専攻", "Economics", "经济学专攻");
+        b.map("영어영문학과", "英語英文学科", "English Language & Literature", "英语英文学科");
+        b.map("독어독문학과", "独語独文学科", "German Language & Literature", "德语德文学科");
+        b.map("불어불문학과", "仏語仏文学科", "French Language & Literature", "法语法文学科");
+        b.map("국어국문학과", "国語国文学科", "Korean Language & Literature", "国语国文学科");
+
+        // 사범대
+        b.map("수학교육과", "数学教育科", "Mathematics Education", "数学教育科");
+        b.map("국어교육과", "国語教育科", "Korean Language Education", "国语教育科");
+        b.map("영어교육과", "英語教育科", "English Education", "英语教育科");
+        b.map("역사교육과", "歴史教育科", "History Education", "历史教育科");
+        b.map("교육학과", "教育学科", "Education", "教育学科");
+
+        // 미술/디자인/예술
+        b.map("회화과", "絵画科", "Painting", "绘画科");
+        b.map("판화과", "版画科", "Printmaking", "版画科");
+        b.map("조소과", "彫塑科", "Sculpture", "雕塑科");
+        b.map("시각디자인전공", "視覚デザイン専攻", "Visual Design", "视觉设计专攻");
+        b.map("산업디자인전공", "インダストリアルデザイン専攻", "Industrial Design", "工业设计专攻");
+        b.map("금속조형디자인과", "金属造形デザイン科", "Metal Art & Design", "金属造型设计科");
+        b.map("도예유리과", "陶芸ガラス科", "Ceramics & Glass", "陶艺玻璃科");
+        b.map("목조형가구학과", "木造形家具学科", "Woodworking & Furniture", "木造型家具学科");
+        b.map("섬유미술패션디자인과", "繊維美術ファッションデザイン科", "Textile Art & Fashion Design", "纤维美术时尚设计科");
+        b.map("예술학과", "芸術学科", "Art Studies", "艺术学科");
+        b.map("디자인경영전공", "デザイン経営専攻", "Design Management", "设计经营专攻");
+        b.map("예술경영전공", "芸術経営専攻", "Arts Management", "艺术经营专攻");
+        b.map("뮤지컬전공", "ミュージカル専攻", "Musical", "音乐剧专攻");
+        b.map("실용음악전공", "実用音楽専攻", "Practical Music", "实用音乐专攻");
+
+        // 교양 카테고리명(실제 department 저장값으로 쓰지는 않지만, prefix 제거용 안전장치)
+        b.map("ABEEK 교양");
+        b.map("인문계열"); b.map("영어계열"); b.map("사회계열");
+        b.map("제2외국어계열"); b.map("자연계열"); b.map("예체능계열"); b.map("교직");
+
+        TRIE = b.compile();
+    }
+
+    private DepartmentNormalizer() {}
+
+    /**
+     * 입력 문자열을 한국어 학과명으로 정규화한다. (저장 경로: 오타 보정 없음)
+     * - 'department.' / 'departments.' prefix 제거
+     * - ja/en/zh → ko 매핑 (대소문자/공백 무시)
+     * - 이미 한글이면 그대로(다만 prefix는 제거)
+     */
+    public static String toKoreanOrNull(String value) {
+        return normalize(value, false);
+    }
+
+    /**
+     * 검색어/추천용 정규화: toKoreanOrNull과 같되, 매핑에 없으면 가까운 학과명으로 오타를 보정한다
+     */
+    public static String toKoreanForSearch(String value) {
+        return normalize(value, true);
+    }
+
+    private static String normalize(String value, boolean fuzzy) {
+        if (value == null || value.isBlank()) return null;
+        String mapped = lookup(value);
+        if (mapped != null) return mapped;
+
+        String v = value.trim();
+        String noPrefix = v.substring(prefixEnd(v, 0));
+        String folded = fold(Normalizer.normalize(noPrefix, Normalizer.Form.NFC));
+        int index = TRIE.find(folded, 0, folded.length());
+        if (index < 0 && fuzzy) index = TRIE.nearest(folded, maxDistance(folded.length()));
+        if (index >= 0) return TRIE.targets[index];
+
+        // 한글이면 prefix만 제거된 값, 못 찾으면 일단 원문(서비스에서 최종 null 처리 여부 결정)
+        if (noPrefix.length() != v.length() && hasHangul(noPrefix)) return noPrefix;
+        return v;
+    }
+
+    /**
+     * 매핑 표에 정확히(대소문자/공백/구분 기호/프리픽스 무시) 있는 학과면 한국어 학과명, 아니면 null
+     * 새 객체를 만들지 않는다
+     */
+    public static String lookup(String value) {
+        if (value == null) return null;
+        int from = 0;
+        while (from < value.length() && Character.isWhitespace(value.charAt(from))) from++;
+        from = prefixEnd(value, from);
+        int index = TRIE.find(value, from, value.length());
+        return index >= 0 ? TRIE.targets[index] : null;
+    }
+
+    private static int prefixEnd(String value, int from) {
+        for (String prefix : PREFIXES) {
+            if (value.regionMatches(true, from, prefix, 0, prefix.length())) return from + prefix.length();
+        }
+        return from;
+    }
+
+    // 비교용 글자: 무시할 글자는 0, 나머지는 소문자
+    private static char foldChar(char c) {
+        if (Character.isWhitespace(c) || c == '-' || c == '_' || c == '·' || c == '・') return 0;
+        return Character.toLowerCase(c);
+    }
+
+    private static String fold(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = foldChar(value.charAt(i));
+            if (c != 0) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    // 짧은 이름일수록 한 글자 차이로 다른 학과가 되기 쉬우므로 허용 거리를 줄인다
+    private static int maxDistance(int length) {
+        if (length <= 3) return 0;
+        if (length <= 7) return 1;
+        return 2;
+    }
+
+    private static boolean hasHangul(String s) {
+        return s.codePoints().anyMatch(cp -> {
+            Character.UnicodeBlock b = Character.UnicodeBlock.of(cp);
+            return b == Character.UnicodeBlock.HANGUL_SYLLABLES
+                    || b == Character.UnicodeBlock.HANGUL_JAMO
+                    || b == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO;
+        });
+    }
+
+    /**
+     * 컴파일된 불변 트라이: 노드 n의 자식 간선은 [edgeStart[n], edgeStart[n + 1]) 구간 (글자순 정렬)
+     */
+    private static final class Trie {
+        final int[] edgeStart;
+        final char[] edgeChar;
+        final int[] edgeTarget;
+        final int[] nodeValue;   // targets 인덱스, 없으면 NONE, 서로 다른 학과가 겹치면 AMBIGUOUS
+        final String[] targets;
+
+        Trie(int[] edgeStart, char[] edgeChar, int[] edgeTarget, int[] nodeValue, String[] targets) {
+            this.edgeStart = edgeStart;
+            this.edgeChar = edgeChar;
+            this.edgeTarget = edgeTarget;
+            this.nodeValue = nodeValue;
+            this.targets = targets;
+        }
+
+        int find(String s, int from, int to) {
+            int node = 0;
+            for (int i = from; i < to; i++) {
+                char c = foldChar(s.charAt(i));
+                if (c == 0) continue;
+                node = child(node, c);
+                if (node < 0) return NONE;
+            }
+            return nodeValue[node];
+        }
+
+        private int child(int node, char c) {
+            int lo = edgeStart[node], hi = edgeStart[node + 1] - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                char m = edgeChar[mid];
+                if (m < c) lo = mid + 1;
+                else if (m > c) hi = mid - 1;
+                else return edgeTarget[mid];
+            }
+            return -1;
+        }
+
+        /**
+         * 편집 거리 maxDistance 이내에서 가장 가까운 유일한 학과 (Levenshtein 행을 트라이 깊이 우선으로 전개, 초과 가지는 가지치기)
+         */
+        int nearest(String key, int maxDistance) {
+            if (maxDistance <= 0 || key.isEmpty()) return NONE;
+            int[] row = new int[key.length() + 1];
+            for (int i = 0; i < row.length; i++) row[i] = i;
+            Nearest best = new Nearest(maxDistance);
+            search(0, key, row, best);
+            return best.ambiguous ? NONE : best.index;
+        }
+
+        private void search(int node, String key, int[] previous, Nearest best) {
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                char c = edgeChar[e];
+                int[] row = new int[previous.length];
+                row[0] = previous[0] + 1;
+                int rowMin = row[0];
+                for (int i = 1; i < row.length; i++) {
+                    int cost = key.charAt(i - 1) == c ? 0 : 1;
+                    row[i] = Math.min(Math.min(row[i - 1] + 1, previous[i] + 1), previous[i - 1] + cost);
+                    rowMin = Math.min(rowMin, row[i]);
+                }
+                int child = edgeTarget[e];
+                if (nodeValue[child] >= 0) best.offer(row[row.length - 1], nodeValue[child]);
+                if (rowMin <= best.limit()) search(child, key, row, best);
+            }
+        }
+    }
+
+    private static final class Nearest {
+        final int maxDistance;
+        int distance = Integer.MAX_VALUE;
+        int index = NONE;
+        boolean ambiguous;
+
+        Nearest(int maxDistance) {
+            this.maxDistance = maxDistance;
+        }
+
+        int limit() {
+            return Math.min(maxDistance, distance);
+        }
+
+        void offer(int d, int candidate) {
+            if (d > maxDistance) return;
+            if (d < distance) {
+                distance = d;
+                index = candidate;
+                ambiguous = false;
+            } else if (d == distance && candidate != index) {
+                ambiguous = true;
+            }
+        }
+    }
+
+    /**
+     * 매핑 표 → 트라이 (클래스 초기화 때만 사용)
+     */
+    private static final class Builder {
+        private final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        private final List<Integer> values = new ArrayList<>();
+        private final List<String> targets = new ArrayList<>();
+
+        Builder() {
+            newNode();
+        }
+
+        void map(String ko, String... aliases) {
+            int target = targets.size();
+            targets.add(ko);
+            put(ko, target);
+            for (String alias : aliases) {
+                put(alias, target);
+                // 영문 '&'는 'and'로도 입력된다
+                if (alias.contains("&")) put(alias.replace("&", "and"), target);
+            }
+        }
+
+        private void put(String key, int target) {
+            int node = 0;
+            for (int i = 0; i < key.length(); i++) {
+                char c = foldChar(key.charAt(i));
+                if (c == 0) continue;
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = newNode();
+                    children.get(node).put(c, next);
+                }
+                node = next;
+            }
+            int current = values.get(node);
+            if (current == NONE) values.set(node, target);
+            else if (current != target && !targets.get(current).equals(targets.get(target))) values.set(node, AMBIGUOUS);
+        }
+
+        private int newNode() {
+            children.add(new TreeMap<>());
+            values.add(NONE);
+            return children.size() - 1;
+        }
+
+        Trie compile() {
+            int nodes = children.size();
+            int[] edgeStart = new int[nodes + 1];
+            for (int n = 0; n < nodes; n++) edgeStart[n + 1] = edgeStart[n] + children.get(n).size();
+
+            char[] edgeChar = new char[edgeStart[nodes]];
+            int[] edgeTarget = new int[edgeStart[nodes]];
+            int[] nodeValue = new int[nodes];
+            for (int n = 0; n < nodes; n++) {
+                int e = edgeStart[n];
+                for (Map.Entry<Character, Integer> edge : children.get(n).entrySet()) {
+                    edgeChar[e] = edge.getKey();
+                    edgeTarget[e] = edge.getValue();
+                    e++;
+                }
+                nodeValue[n] = values.get(n);
+            }
+            return new Trie(edgeStart, edgeChar, edgeTarget, nodeValue, targets.toArray(new String[0]));
+        }
+    }
+}
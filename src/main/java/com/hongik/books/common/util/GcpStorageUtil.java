@@ -13,16 +13,22 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.util.UUID;
+import java.nio.file.Path;
 
 /**
  * GCP Cloud Storage 관련 유틸리티 클래스
+ * - 객체 이름은 내용의 SHA-256 ({디렉터리}/{sha256}{확장자}), 같은 내용은 다시 올리지 않고 참조 수로 관리
  */
 @Component
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "app.storage.mode", havingValue = "gcp")
 public class GcpStorageUtil implements ImageStorage {
+    private static final String PUBLIC_URL_PREFIX = "https://storage.googleapis.com/";
+    // 해시 계산용 임시 파일 위치
+    private static final Path TEMP_DIRECTORY = Path.of(System.getProperty("java.io.tmpdir"), "hongbook-uploads");
+
     private final Storage storage; // GCP Storage에 대한 의존성 주입
+    private final ImageBlobRegistry imageBlobRegistry;
 
     // application.yml의 spring.cloud.gcp.storage.bucket-name 값을 주입
     @Value("${spring.cloud.gcp.storage.bucket-name}")
@@ -38,25 +44,17 @@ public class GcpStorageUtil implements ImageStorage {
      */
     @Override
     public String uploadImage(MultipartFile file, String directory) throws IOException {
-        // 1. 파일의 확장자를 포함한 고유한 파일 이름 생성 (UUID 사용)
+        // 1. 파일의 확장자 추출 (이름 자체는 내용 해시로 정해진다)
         String originalFileName = file.getOriginalFilename();
         String extension = "";
         if (originalFileName != null && originalFileName.contains(".")) {
-            extension = originalFileName.substring(originalFileName.lastIndexOf("."));
+            extension = originalFileName.substring(originalFileName.lastIndexOf(".")).toLowerCase();
         }
-        String uniqueFileName = UUID.randomUUID() + extension;
-        String objectName = directory + "/" + uniqueFileName;
-
-        // 2. BlobInfo 객체 생성 (파일 메타데이터)
-        BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, objectName)
-                .setContentType(file.getContentType())
-                .build();
-
-        // 3. GCP Storage에 파일 업로드
-        storage.createFrom(blobInfo, file.getInputStream());
 
-        // 4. 업로드된 파일의 공개 URL 반환
-        return "https://storage.googleapis.com/" + bucketName + "/" + objectName;
+        // 2. 해시를 계산하며 받은 뒤, 처음 보는 내용일 때만 업로드하고 공개 URL 반환
+        try (SpooledImage image = SpooledImage.spool(file, TEMP_DIRECTORY)) {
+            return store(image, directory, extension, file.getContentType());
+        }
     }
 
     /**
@@ -67,10 +65,75 @@ public class GcpStorageUtil implements ImageStorage {
     public void deleteImage(String imageUrl) {
         // 전체 URL에서 객체 이름(파일 경로)만 추출
         // 예: "https://storage.googleapis.com/버킷이름/book-covers/파일이름.jpg" -> "book-covers/파일이름.jpg"
-        String objectName = imageUrl.replace("https://storage.googleapis.com/" + bucketName + "/", "");
+        String objectName = toObjectName(imageUrl);
 
+        if (ImageBlobRegistry.isContentAddressed(objectName)) {
+            // 파생 이미지는 자기 참조 수로 관리한다 (releaseDerivative). 원본 객체만 삭제
+            if (ImageVariant.isDerivative(objectName)) return;
+            imageBlobRegistry.release(objectName, () -> storage.delete(BlobId.of(bucketName, objectName)));
+            return;
+        }
+        // 내용 주소 도입 전(UUID 이름) 객체는 공유되지 않으므로 파생 이미지까지 바로 삭제
+        deleteWithDerivatives(objectName);
+    }
+
+    /**
+     * 파생 이미지 참조 하나를 해제 (마지막 참조면 객체 삭제)
+     * 내용 주소가 아닌 원본의 파생 이미지는 원본을 지울 때 함께 삭제된다
+     */
+    @Override
+    public void releaseDerivative(String derivativeUrl) {
+        if (derivativeUrl == null || derivativeUrl.isBlank()) return;
+        String objectName = toObjectName(derivativeUrl);
+        if (!ImageVariant.isDerivative(objectName) || !ImageBlobRegistry.isContentAddressed(objectName)) return;
+        imageBlobRegistry.releaseTracked(objectName, () -> storage.delete(BlobId.of(bucketName, objectName)));
+    }
+
+    private void deleteWithDerivatives(String objectName) {
         // BlobId를 사용하여 GCP에서 해당 객체를 삭제
         storage.delete(BlobId.of(bucketName, objectName));
+
+        // 파생 이미지(썸네일 등)도 함께 삭제 (없으면 무시됨)
+        if (!ImageVariant.isDerivative(objectName)) {
+            for (ImageVariant variant : ImageVariant.values()) {
+                storage.delete(BlobId.of(bucketName, variant.derivativeUrlOf(objectName)));
+            }
+        }
+    }
+
+    /**
+     * 버킷에 저장된 이미지를 읽어 바이트로 반환 (파생 이미지 생성용)
+     */
+    @Override
+    public byte[] readImage(String imageUrl) throws IOException {
+        try {
+            return storage.readAllBytes(BlobId.of(bucketName, toObjectName(imageUrl)));
+        } catch (Exception e) {
+            throw new IOException("Failed to read image: " + imageUrl, e);
+        }
+    }
+
+    /**
+     * 원본과 같은 디렉터리에 파생 이미지를 저장하고 공개 URL을 반환
+     * 내용 주소 이름이면 참조 수로 관리 (이미 등록된 파생 이미지는 다시 올리지 않고 참조만 올린다)
+     */
+    @Override
+    public String storeDerivative(String originalUrl, ImageVariant variant, byte[] jpegBytes) throws IOException {
+        String objectName = variant.derivativeUrlOf(toObjectName(originalUrl));
+        BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, objectName)
+                .setContentType("image/jpeg")
+                .build();
+        if (ImageBlobRegistry.isContentAddressed(objectName)) {
+            imageBlobRegistry.acquire(objectName, SpooledImage.sha256Hex(jpegBytes), jpegBytes.length,
+                    () -> storage.create(blobInfo, jpegBytes));
+        } else {
+            storage.create(blobInfo, jpegBytes);
+        }
+        return PUBLIC_URL_PREFIX + bucketName + "/" + objectName;
+    }
+
+    private String toObjectName(String imageUrl) {
+        return imageUrl.replace(PUBLIC_URL_PREFIX + bucketName + "/", "");
     }
 
     /**
@@ -98,17 +161,23 @@ public class GcpStorageUtil implements ImageStorage {
 
         String contentType = conn.getContentType();
         String ext = guessExtension(imageUrl, contentType);
-        String uniqueFileName = UUID.randomUUID() + ext;
-        String objectName = directory + "/" + uniqueFileName;
 
-        try (InputStream in = conn.getInputStream()) {
+        try (InputStream in = conn.getInputStream();
+             SpooledImage image = SpooledImage.spool(in, TEMP_DIRECTORY)) {
+            return store(image, directory, ext, contentType);
+        }
+    }
+
+    // SHA-256이 계산된 임시 파일 → 같은 내용이 이미 있으면 업로드 없이 참조 수만 올린다
+    private String store(SpooledImage image, String directory, String extension, String contentType) throws IOException {
+        String objectName = directory + "/" + image.fileName(extension);
+        imageBlobRegistry.acquire(objectName, image, () -> {
             BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, objectName)
                     .setContentType(contentType != null ? contentType : "application/octet-stream")
                     .build();
-            storage.createFrom(blobInfo, in);
-        }
-
-        return "https://storage.googleapis.com/" + bucketName + "/" + objectName;
+            storage.createFrom(blobInfo, image.file());
+        });
+        return PUBLIC_URL_PREFIX + bucketName + "/" + objectName;
     }
 
     private String guessExtension(String url, String contentType) {
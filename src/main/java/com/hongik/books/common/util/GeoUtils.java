@@ -0,0 +1,47 @@
+package com.hongik.books.common.util;
+
+/**
+ * 위경도 거리 계산 유틸리티 (WGS84 구면 근사)
+ */
+public final class GeoUtils {
+
+    // 지구 평균 반지름 (IUGG)
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    // 위도 1도의 길이 (경도 1도는 여기에 cos(위도)를 곱한다)
+    public static final double METERS_PER_DEGREE = EARTH_RADIUS_METERS * Math.PI / 180.0;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * 하버사인 거리(m)
+     */
+    public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLng = Math.sin(dLng / 2);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLng * sinLng;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 반경(m)을 감싸는 위도 폭(도)
+     */
+    public static double latitudeDelta(double radiusMeters) {
+        return radiusMeters / METERS_PER_DEGREE;
+    }
+
+    /**
+     * 반경(m)을 감싸는 경도 폭(도). 극지방에서 발산하지 않도록 cos 값을 제한
+     */
+    public static double longitudeDelta(double radiusMeters, double latitude) {
+        double cos = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+        return Math.min(180.0, radiusMeters / (METERS_PER_DEGREE * cos));
+    }
+
+    public static boolean isValid(double latitude, double longitude) {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+}
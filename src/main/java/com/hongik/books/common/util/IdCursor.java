@@ -0,0 +1,32 @@
+package com.hongik.books.common.util;
+
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 단일 ID keyset 페이지네이션 커서 (ID 내림차순 목록에서 마지막으로 내려준 항목의 ID)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출
+ */
+public final class IdCursor {
+
+    private IdCursor() {}
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석한다. 커서가 없으면 null (첫 페이지), 형식이 잘못된 경우 IllegalArgumentException
+     */
+    public static Long decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) return null;
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
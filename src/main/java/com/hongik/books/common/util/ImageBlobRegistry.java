@@ -0,0 +1,112 @@
+package com.hongik.books.common.util;
+
+import com.hongik.books.common.domain.ImageBlob;
+import com.hongik.books.common.repository.ImageBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 주소(SHA-256) 이미지 파일의 참조 수 관리
+ * - 같은 내용이 다시 올라오면 파일은 쓰지 않고 참조 수만 올린다 (메타데이터만 갱신)
+ * - 참조가 모두 해제될 때만 실제 파일을 지운다
+ * - 파생 이미지({sha256}__{variant}.jpg)도 원본과 별개로 등록한다: 원본이 지워져도 파생 이미지를 쓰는 곳이 남아 있으면 유지
+ * - 호출한 쪽 트랜잭션과 분리(REQUIRES_NEW)해서 저장소 상태와 참조 수를 바로 맞춘다
+ */
+@Slf4j
+@Component
+public class ImageBlobRegistry {
+
+    // {sha256}[__variant][.ext]
+    private static final Pattern CONTENT_ADDRESSED_NAME =
+            Pattern.compile("^[0-9a-f]{64}(__[a-z]+)?(\\.[^./]+)?$");
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final TransactionTemplate requiresNew;
+
+    public ImageBlobRegistry(ImageBlobRepository imageBlobRepository, PlatformTransactionManager transactionManager) {
+        this.imageBlobRepository = imageBlobRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @FunctionalInterface
+    public interface BlobWriter {
+        void write() throws IOException;
+    }
+
+    /**
+     * 저장 키가 내용 주소 이름인지 (UUID로 저장된 예전 파일은 참조 수 관리 대상이 아님)
+     */
+    public static boolean isContentAddressed(String storageKey) {
+        if (storageKey == null) return false;
+        String name = storageKey.substring(storageKey.lastIndexOf('/') + 1);
+        return CONTENT_ADDRESSED_NAME.matcher(name).matches();
+    }
+
+    /**
+     * 참조 하나를 얻는다. 처음 보는 내용일 때만 writer로 실제 파일을 쓴다
+     */
+    public void acquire(String storageKey, SpooledImage image, BlobWriter writer) throws IOException {
+        acquire(storageKey, image.sha256(), image.size(), writer);
+    }
+
+    public void acquire(String storageKey, String contentHash, long size, BlobWriter writer) throws IOException {
+        if (incrementRefCount(storageKey)) {
+            log.debug("Duplicate image content, reusing {}", storageKey);
+            return;
+        }
+
+        writer.write();
+        try {
+            requiresNew.executeWithoutResult(status ->
+                    imageBlobRepository.saveAndFlush(new ImageBlob(storageKey, contentHash, size)));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용이 동시에 올라와 다른 요청이 먼저 등록한 경우 (같은 바이트를 덮어썼으므로 파일은 그대로 유효)
+            if (!incrementRefCount(storageKey)) {
+                throw new IOException("Image blob registration failed: " + storageKey, e);
+            }
+        }
+    }
+
+    /**
+     * 참조 하나를 해제하고, 마지막 참조였으면 deleter로 실제 파일을 지운다
+     * (등록 정보가 없는 내용 주소 파일은 참조가 없는 것으로 보고 바로 지운다)
+     */
+    public void release(String storageKey, Runnable deleter) {
+        release(storageKey, true, deleter);
+    }
+
+    /**
+     * release와 같되, 등록 정보가 없는 파일은 지우지 않는다
+     * (참조 수 관리 전에 만들어진 파생 이미지: 누가 쓰는지 알 수 없으므로 남겨 둔다)
+     */
+    public void releaseTracked(String storageKey, Runnable deleter) {
+        release(storageKey, false, deleter);
+    }
+
+    private void release(String storageKey, boolean deleteUntracked, Runnable deleter) {
+        requiresNew.executeWithoutResult(status -> {
+            ImageBlob blob = imageBlobRepository.findByStorageKey(storageKey).orElse(null);
+            if (blob != null) {
+                if (blob.release() > 0) return;
+                imageBlobRepository.delete(blob);
+            } else if (!deleteUntracked) {
+                return;
+            }
+            // 행 잠금을 잡은 채로 삭제해, 그 사이 같은 내용의 업로드가 끼어들지 못하게 한다
+            deleter.run();
+        });
+    }
+
+    private boolean incrementRefCount(String storageKey) {
+        Integer updated = requiresNew.execute(status -> imageBlobRepository.incrementRefCount(storageKey));
+        return updated != null && updated > 0;
+    }
+}
@@ -0,0 +1,160 @@
+package com.hongik.books.common.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 업로드된 원본 이미지로부터 크기 제한된 JPEG 파생 이미지를 만드는 컴포넌트 (JDK ImageIO 사용)
+ * - 원본을 ImageStorage에서 읽어 변형별로 축소 후 ImageStorage.storeDerivative로 저장
+ * - 이미지 디코딩/인코딩은 CPU 작업이므로 코어 수에 맞춘 전용 스레드 풀에서 비동기로 실행
+ * - ImageIO가 읽지 못하는 형식(webp 등)이나 너무 큰 이미지는 건너뛰고, 호출 측은 원본 URL을 그대로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeGenerator {
+
+    // 디코딩 전에 거절할 최대 픽셀 수 (압축 폭탄 방지)
+    private static final long MAX_SOURCE_PIXELS = 40_000_000L;
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final ImageStorage imageStorage;
+
+    @Value("${app.storage.derivatives.threads:0}")
+    private int threads;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        int n = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        executor = Executors.newFixedThreadPool(n, r -> {
+            Thread t = new Thread(r, "image-derivative");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 파생 이미지를 비동기로 생성. 완료 시 생성에 성공한 변형의 URL만 담아 반환
+     */
+    public CompletableFuture<Map<ImageVariant, String>> generateAsync(String originalUrl,
+                                                                     Collection<ImageVariant> variants) {
+        return CompletableFuture.supplyAsync(() -> generate(originalUrl, variants), executor);
+    }
+
+    /**
+     * 반환된 파생 이미지마다 참조 하나씩을 얻는다 (반영하지 못하면 호출 측이 ImageStorage.releaseDerivative로 해제)
+     */
+    public Map<ImageVariant, String> generate(String originalUrl, Collection<ImageVariant> variants) {
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        if (originalUrl == null || originalUrl.isBlank() || ImageVariant.isDerivative(originalUrl)) return urls;
+        try {
+            BufferedImage source = decode(imageStorage.readImage(originalUrl));
+            if (source == null) return urls;
+            for (ImageVariant variant : variants) {
+                byte[] jpeg = encodeJpeg(resize(source, variant.maxEdge()));
+                urls.put(variant, imageStorage.storeDerivative(originalUrl, variant, jpeg));
+            }
+        } catch (Exception e) {
+            log.warn("Image derivative generation failed ({}): {}", originalUrl, e.getMessage());
+        }
+        return urls;
+    }
+
+    private BufferedImage decode(byte[] bytes) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null; // 지원하지 않는 형식
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_SOURCE_PIXELS) return null;
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변을 maxEdge 이하로 축소. 큰 비율은 절반씩 여러 번 줄여 계단 현상을 줄인다
+    private BufferedImage resize(BufferedImage source, int maxEdge) {
+        int w = source.getWidth();
+        int h = source.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(w, h));
+        int targetW = Math.max(1, (int) Math.round(w * scale));
+        int targetH = Math.max(1, (int) Math.round(h * scale));
+
+        BufferedImage current = source;
+        int curW = w, curH = h;
+        do {
+            curW = Math.max(targetW, curW / 2);
+            curH = Math.max(targetH, curH / 2);
+            current = draw(current, curW, curH);
+        } while (curW != targetW || curH != targetH);
+        return current;
+    }
+
+    // JPEG은 알파가 없으므로 흰 배경 RGB로 그린다
+    private BufferedImage draw(BufferedImage src, int width, int height) {
+        BufferedImage out = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(src, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -10,4 +10,14 @@ public interface ImageStorage {
     void deleteImage(String imageUrl);
 
     String uploadImageFromUrl(String imageUrl, String directory) throws IOException;
+
+    // 저장된 이미지의 바이트 (파생 이미지 생성용)
+    byte[] readImage(String imageUrl) throws IOException;
+
+    // 원본 옆에 파생 이미지(JPEG)를 저장하고 공개 URL 반환 (이름은 ImageVariant.derivativeUrlOf 규칙)
+    // 호출할 때마다 파생 이미지 참조 하나를 얻는다. 쓰지 않게 되면 releaseDerivative로 돌려준다
+    String storeDerivative(String originalUrl, ImageVariant variant, byte[] jpegBytes) throws IOException;
+
+    // 파생 이미지 참조 하나를 해제 (마지막 참조면 파일 삭제). 파생 이미지 URL이 아니면 아무것도 하지 않는다
+    void releaseDerivative(String derivativeUrl);
 }
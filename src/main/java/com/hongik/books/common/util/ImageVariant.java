@@ -0,0 +1,44 @@
+package com.hongik.books.common.util;
+
+import java.util.Locale;
+
+/**
+ * 업로드 원본으로부터 만드는 파생(축소) 이미지 종류
+ * - 긴 변 기준 최대 픽셀 (원본이 더 작으면 확대하지 않음)
+ * - 파생 이미지 이름은 원본 이름에서 결정적으로 만든다: {원본 이름(확장자 제외)}__{variant}.jpg
+ */
+public enum ImageVariant {
+    LIST(320),    // 목록 썸네일
+    DETAIL(1080), // 상세 화면
+    AVATAR(160);  // 프로필(채팅방 헤더 등)
+
+    private static final String SEPARATOR = "__";
+
+    private final int maxEdge;
+
+    ImageVariant(int maxEdge) {
+        this.maxEdge = maxEdge;
+    }
+
+    public int maxEdge() {
+        return maxEdge;
+    }
+
+    /**
+     * 원본 URL(또는 경로)에 대응하는 파생 이미지 URL
+     */
+    public String derivativeUrlOf(String originalUrl) {
+        int slash = originalUrl.lastIndexOf('/');
+        int dot = originalUrl.lastIndexOf('.');
+        String base = (dot > slash) ? originalUrl.substring(0, dot) : originalUrl;
+        return base + SEPARATOR + name().toLowerCase(Locale.ROOT) + ".jpg";
+    }
+
+    /**
+     * 이미 파생 이미지인 URL인지 (파생의 파생은 만들지 않는다)
+     */
+    public static boolean isDerivative(String url) {
+        int slash = url.lastIndexOf('/');
+        return url.indexOf(SEPARATOR, slash + 1) >= 0;
+    }
+}
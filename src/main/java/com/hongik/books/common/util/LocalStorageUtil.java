@@ -1,5 +1,6 @@
 package com.hongik.books.common.util;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -10,17 +11,28 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.UUID;
 
+/**
+ * 로컬 디스크 이미지 저장소
+ * - 파일 이름은 내용의 SHA-256 ({디렉터리}/{sha256}{확장자}), 같은 내용은 한 번만 저장하고 참조 수로 관리
+ * - 파일은 임시 파일에 다 쓴 뒤 rename으로 옮긴다: 1년 immutable로 캐시되는 경로라 쓰는 중인 파일이 읽히면 안 된다
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 @ConditionalOnProperty(name = "app.storage.mode", havingValue = "local", matchIfMissing = true)
 public class LocalStorageUtil implements ImageStorage {
 
+    // 업로드 임시 파일 위치 (base-dir 하위: 최종 위치로 rename 가능하도록 같은 파일시스템에 둔다)
+    private static final String TEMP_DIRECTORY = ".tmp";
+
+    private final ImageBlobRegistry imageBlobRegistry;
+
     @Value("${app.storage.local.base-dir:./uploads}")
     private String baseDir;
 
@@ -36,12 +48,10 @@ public class LocalStorageUtil implements ImageStorage {
             throw new IOException("Empty file");
         }
         String ext = guessExtension(file.getOriginalFilename(), file.getContentType());
-        String filename = UUID.randomUUID() + ext;
-        Path target = resolvePath(directory, filename);
-        try (InputStream in = file.getInputStream()) {
-            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        // 멀티파트 임시 파일을 rename으로 넘겨받아 스트림 복사 없이 저장
+        try (SpooledImage image = SpooledImage.spool(file, getBasePath().resolve(TEMP_DIRECTORY))) {
+            return store(image, directory, ext);
         }
-        return buildPublicUrl(directory, filename);
     }
 
     @Override
@@ -63,45 +73,153 @@ public class LocalStorageUtil implements ImageStorage {
 
         String contentType = conn.getContentType();
         String ext = guessExtension(imageUrl, contentType);
-        String filename = UUID.randomUUID() + ext;
-        Path target = resolvePath(directory, filename);
 
-        try (InputStream in = conn.getInputStream()) {
-            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        try (InputStream in = conn.getInputStream();
+             SpooledImage image = SpooledImage.spool(in, getBasePath().resolve(TEMP_DIRECTORY))) {
+            return store(image, directory, ext);
         }
-
-        return buildPublicUrl(directory, filename);
     }
 
     @Override
     public void deleteImage(String imageUrl) {
+        if (imageUrl == null || imageUrl.isBlank()) return;
+        String storageKey = toStorageKey(imageUrl);
+        if (ImageBlobRegistry.isContentAddressed(storageKey)) {
+            // 파생 이미지는 자기 참조 수로 관리한다 (releaseDerivative). 원본만 지운다
+            if (ImageVariant.isDerivative(storageKey)) return;
+            imageBlobRegistry.release(storageKey, () -> deleteFile(imageUrl));
+            return;
+        }
+        // 내용 주소 도입 전(UUID 이름) 파일은 공유되지 않으므로 파생 이미지까지 바로 삭제
+        deleteWithDerivatives(imageUrl);
+    }
+
+    @Override
+    public void releaseDerivative(String derivativeUrl) {
+        if (derivativeUrl == null || derivativeUrl.isBlank() || !ImageVariant.isDerivative(derivativeUrl)) return;
+        String storageKey = toStorageKey(derivativeUrl);
+        // 내용 주소가 아닌 원본의 파생 이미지는 원본을 지울 때 함께 지워진다
+        if (ImageBlobRegistry.isContentAddressed(storageKey)) {
+            imageBlobRegistry.releaseTracked(storageKey, () -> deleteFile(derivativeUrl));
+        }
+    }
+
+    @Override
+    public byte[] readImage(String imageUrl) throws IOException {
+        Path target = toStoragePath(imageUrl);
+        if (target == null) throw new IOException("Not a local storage URL: " + imageUrl);
+        return Files.readAllBytes(target);
+    }
+
+    @Override
+    public String storeDerivative(String originalUrl, ImageVariant variant, byte[] jpegBytes) throws IOException {
+        String derivativeUrl = variant.derivativeUrlOf(originalUrl);
+        Path target = toStoragePath(derivativeUrl);
+        if (target == null) throw new IOException("Not a local storage URL: " + originalUrl);
+        String storageKey = toStorageKey(derivativeUrl);
+        if (ImageBlobRegistry.isContentAddressed(storageKey)) {
+            // 이미 등록된 파생 이미지면 파일은 그대로 두고 참조만 올린다
+            imageBlobRegistry.acquire(storageKey, SpooledImage.sha256Hex(jpegBytes), jpegBytes.length,
+                    () -> writeAtomically(target, jpegBytes));
+        } else {
+            writeAtomically(target, jpegBytes);
+        }
+        return derivativeUrl;
+    }
+
+    /**
+     * 요청 경로(공개 URL 경로)에 해당하는 저장 파일. 저장소 밖이거나 업로드 임시 디렉터리면 null
+     */
+    public Path resolveStoredFile(String requestPath) {
         try {
-            if (imageUrl == null || imageUrl.isBlank()) return;
-            String path = imageUrl;
-            if (imageUrl.startsWith("http://") || imageUrl.startsWith("https://")) {
-                try {
-                    path = new URL(imageUrl).getPath();
-                } catch (Exception ignored) {
-                    return;
-                }
+            Path target = toStoragePath(requestPath);
+            if (target == null || target.startsWith(getBasePath().resolve(TEMP_DIRECTORY))) return null;
+            return target;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // 해시가 계산된 임시 파일 → 처음 보는 내용일 때만 최종 위치로 옮긴다 (같은 파일시스템 rename)
+    private String store(SpooledImage image, String directory, String ext) throws IOException {
+        String dir = sanitizeDirectory(directory);
+        String filename = image.fileName(ext);
+        Path target = resolvePath(dir, filename);
+        imageBlobRegistry.acquire(dir + "/" + filename, image, () -> image.moveTo(target));
+        return buildPublicUrl(dir, filename);
+    }
+
+    // 임시 파일에 다 쓴 뒤 최종 경로로 원자적 rename (읽는 쪽은 이전 파일 또는 완성된 새 파일만 본다)
+    private void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path tempDir = getBasePath().resolve(TEMP_DIRECTORY);
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "derivative-", ".tmp");
+        try {
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
             }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
 
-            String base = normalizePublicBase(publicUrlBase);
-            if (base != null && !base.isBlank() && path.startsWith(base)) {
-                path = path.substring(base.length());
+    private void deleteWithDerivatives(String imageUrl) {
+        deleteFile(imageUrl);
+        if (!ImageVariant.isDerivative(imageUrl)) {
+            for (ImageVariant variant : ImageVariant.values()) {
+                deleteFile(variant.derivativeUrlOf(imageUrl));
             }
-            path = path.replaceAll("^/+", "");
-            if (path.isBlank()) return;
+        }
+    }
 
-            Path basePath = getBasePath();
-            Path target = basePath.resolve(path).normalize();
-            if (!target.startsWith(basePath)) return;
-            Files.deleteIfExists(target);
+    private void deleteFile(String imageUrl) {
+        try {
+            Path target = toStoragePath(imageUrl);
+            if (target != null) Files.deleteIfExists(target);
         } catch (Exception e) {
             log.debug("Local image delete failed: {}", e.getMessage());
         }
     }
 
+    // 공개 URL → 저장 키 (base-dir 기준 상대 경로, '/' 구분)
+    private String toStorageKey(String imageUrl) {
+        try {
+            Path target = toStoragePath(imageUrl);
+            if (target == null) return null;
+            return getBasePath().relativize(target).toString().replace('\\', '/');
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // 공개 URL(절대/상대) → base-dir 하위 파일 경로. 저장소 밖을 가리키면 null
+    private Path toStoragePath(String imageUrl) throws IOException {
+        if (imageUrl == null || imageUrl.isBlank()) return null;
+        String path = imageUrl;
+        if (imageUrl.startsWith("http://") || imageUrl.startsWith("https://")) {
+            try {
+                path = new URL(imageUrl).getPath();
+            } catch (Exception ignored) {
+                return null;
+            }
+        }
+
+        String base = normalizePublicBase(publicUrlBase);
+        if (base != null && !base.isBlank() && path.startsWith(base)) {
+            path = path.substring(base.length());
+        }
+        path = path.replaceAll("^/+", "");
+        if (path.isBlank()) return null;
+
+        Path basePath = getBasePath();
+        Path target = basePath.resolve(path).normalize();
+        if (!target.startsWith(basePath)) return null;
+        return target;
+    }
+
     private Path resolvePath(String directory, String filename) throws IOException {
         String dir = sanitizeDirectory(directory);
         Path basePath = getBasePath();
@@ -0,0 +1,104 @@
+package com.hongik.books.common.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 여러 이미지를 ImageStorage에 동시에 업로드하는 유틸리티
+ * - 파일마다 가상 스레드 하나, 전체 동시 업로드 수는 세마포어로 제한 (스토리지/네트워크 보호)
+ * - 하나라도 실패하면 이미 올라간 파일을 지우고 IOException을 던진다
+ * - DB 트랜잭션 밖에서 호출해 업로드 동안 커넥션을 점유하지 않도록 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParallelImageUploader {
+
+    private final ImageStorage imageStorage;
+
+    @Value("${app.storage.upload.max-concurrency:16}")
+    private int maxConcurrency;
+
+    private Semaphore permits;
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(Math.max(1, maxConcurrency));
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.close();
+    }
+
+    /**
+     * 파일들을 동시에 업로드하고 입력 순서대로 URL을 반환
+     */
+    public List<String> uploadAll(List<MultipartFile> files, String directory) throws IOException {
+        if (files == null || files.isEmpty()) return List.of();
+
+        List<Future<String>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(executor.submit(() -> upload(file, directory)));
+        }
+
+        List<String> uploaded = new ArrayList<>(files.size());
+        Exception failure = null;
+        for (Future<String> future : futures) {
+            try {
+                uploaded.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) failure = (e.getCause() instanceof Exception cause) ? cause : e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) failure = e;
+            }
+        }
+
+        if (failure != null) {
+            deleteAllQuietly(uploaded);
+            if (failure instanceof IOException io) throw io;
+            if (failure instanceof RuntimeException re) throw re;
+            throw new IOException("이미지 업로드에 실패했습니다.", failure);
+        }
+        return uploaded;
+    }
+
+    /**
+     * 업로드된 파일 정리 (DB 반영 실패 시 보상 처리용)
+     */
+    public void deleteAllQuietly(List<String> imageUrls) {
+        for (String url : imageUrls) {
+            try {
+                imageStorage.deleteImage(url);
+            } catch (Exception e) {
+                log.warn("Orphan image cleanup failed ({}): {}", url, e.getMessage());
+            }
+        }
+    }
+
+    private String upload(MultipartFile file, String directory) throws IOException, InterruptedException {
+        permits.acquire();
+        try {
+            return imageStorage.uploadImage(file, directory);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.hongik.books.common.util;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 업로드 내용을 임시 파일로 받으면서 SHA-256을 함께 계산한 결과
+ * - 내용 해시가 곧 저장 이름이 되므로, 실제 저장 전에 한 번 받아 두어야 한다
+ * - 복사는 FileChannel 단위로 처리 (멀티파트 임시 파일은 가능하면 rename으로 넘겨받는다)
+ * - close() 시 임시 파일 삭제 (이미 저장소로 옮겨졌으면 아무 일도 없음)
+ */
+public final class SpooledImage implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+
+    private final Path file;
+    private final String sha256;
+    private final long size;
+
+    private SpooledImage(Path file, String sha256, long size) {
+        this.file = file;
+        this.sha256 = sha256;
+        this.size = size;
+    }
+
+    /**
+     * 멀티파트 파일을 임시 위치로 넘겨받은 뒤 해시 계산
+     * (서블릿 컨테이너가 디스크에 받아 둔 파일이면 Part.write가 rename으로 처리한다)
+     */
+    public static SpooledImage spool(MultipartFile multipartFile, Path tempDir) throws IOException {
+        Path tmp = createTempFile(tempDir);
+        try {
+            multipartFile.transferTo(tmp.toFile());
+            MessageDigest digest = newDigest();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            long size = 0;
+            try (FileChannel in = FileChannel.open(tmp, StandardOpenOption.READ)) {
+                int n;
+                while ((n = in.read(buffer)) >= 0) {
+                    buffer.flip();
+                    digest.update(buffer);
+                    buffer.clear();
+                    size += n;
+                }
+            }
+            return completed(tmp, digest, size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+    }
+
+    /**
+     * 스트림(외부 URL 다운로드 등)을 FileChannel.transferFrom으로 받으며 해시 계산
+     */
+    public static SpooledImage spool(InputStream in, Path tempDir) throws IOException {
+        Path tmp = createTempFile(tempDir);
+        MessageDigest digest = newDigest();
+        try (ReadableByteChannel source = new DigestingChannel(Channels.newChannel(in), digest);
+             FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            long size = 0;
+            long n;
+            while ((n = out.transferFrom(source, size, TRANSFER_CHUNK)) > 0) {
+                size += n;
+            }
+            return completed(tmp, digest, size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public String sha256() {
+        return sha256;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * 내용 주소 파일 이름 ({sha256}{확장자})
+     */
+    public String fileName(String extension) {
+        return sha256 + (extension == null ? "" : extension);
+    }
+
+    /**
+     * 임시 파일을 최종 위치로 옮긴다 (같은 파일시스템이면 원자적 rename)
+     */
+    public void moveTo(Path target) throws IOException {
+        try {
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 무시
+        }
+    }
+
+    private static Path createTempFile(Path tempDir) throws IOException {
+        Files.createDirectories(tempDir);
+        return Files.createTempFile(tempDir, "upload-", ".tmp");
+    }
+
+    private static SpooledImage completed(Path tmp, MessageDigest digest, long size) throws IOException {
+        if (size == 0) throw new IOException("Empty file");
+        return new SpooledImage(tmp, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    // 메모리에 있는 바이트의 SHA-256 (파생 이미지 등록용)
+    static String sha256Hex(byte[] bytes) {
+        return HexFormat.of().formatHex(newDigest().digest(bytes));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 읽은 바이트를 그대로 digest에 반영하는 채널 (transferFrom 중에 해시를 함께 계산)
+    private static final class DigestingChannel implements ReadableByteChannel {
+        private final ReadableByteChannel delegate;
+        private final MessageDigest digest;
+
+        private DigestingChannel(ReadableByteChannel delegate, MessageDigest digest) {
+            this.delegate = delegate;
+            this.digest = digest;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            int start = dst.position();
+            int n = delegate.read(dst);
+            if (n > 0) {
+                ByteBuffer read = dst.duplicate();
+                read.position(start).limit(start + n);
+                digest.update(read);
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
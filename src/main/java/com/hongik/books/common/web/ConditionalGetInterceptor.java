@@ -0,0 +1,66 @@
+package com.hongik.books.common.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.UriTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * @VersionedResource 조회 API의 조건부 GET 처리
+ * - 리소스 버전으로 약한 ETag(W/"v1-v2...")를 만들고, If-None-Match와 같으면 핸들러 실행 없이 304
+ * - 다르면 ETag를 달고 핸들러를 그대로 실행 (버전은 핸들러보다 먼저 읽으므로, 그 사이 변경이 있어도 다음 요청에서 다시 받는다)
+ * - 조회수처럼 버전에 넣지 않는 값은 304 응답에서 갱신되지 않을 수 있다 (그래서 약한 ETag)
+ * - 304로 끝나면 VersionedResourceNotModifiedEvent를 발행해 조회 기록 같은 부수 처리는 그대로 남긴다
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    // 브라우저가 응답을 저장하되 매번 재검증하도록 (Spring Security 기본값 no-store 대신)
+    private static final String CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+
+    private final ResourceVersions resourceVersions;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) return true;
+        VersionedResource versioned = handlerMethod.getMethodAnnotation(VersionedResource.class);
+        if (versioned == null) return true;
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) return true;
+
+        List<String> resources = resolve(versioned.value(), request);
+        Optional<List<String>> versions = resourceVersions.current(resources);
+        if (versions.isEmpty()) return true;
+
+        String etag = "W/\"" + String.join("-", versions.get()) + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        // ETag 헤더 설정 + If-None-Match 비교, 일치하면 304 상태까지 설정된다
+        if (!new ServletWebRequest(request, response).checkNotModified(etag)) return true;
+        eventPublisher.publishEvent(new VersionedResourceNotModifiedEvent(resources, request.getUserPrincipal()));
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> resolve(String[] templates, HttpServletRequest request) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        Map<String, String> vars = (variables == null) ? Map.of() : variables;
+        return Arrays.stream(templates)
+                .map(template -> template.indexOf('{') < 0 ? template : new UriTemplate(template).expand(vars).toString())
+                .toList();
+    }
+}
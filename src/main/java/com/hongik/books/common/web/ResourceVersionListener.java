@@ -0,0 +1,49 @@
+package com.hongik.books.common.web;
+
+import com.hongik.books.domain.book.event.CategoryChangedEvent;
+import com.hongik.books.domain.post.event.PostLikeChangedEvent;
+import com.hongik.books.domain.post.event.SalePostChangedEvent;
+import com.hongik.books.domain.review.peer.event.PeerReviewCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도메인 변경 이벤트(커밋 이후) → 조회 응답 리소스 버전 갱신
+ * 커밋 전에 올리면 새 버전 ETag로 이전 데이터가 캐시될 수 있으므로 반드시 AFTER_COMMIT
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceVersionListener {
+
+    private final ResourceVersions resourceVersions;
+
+    // 시작 시 카테고리 시드가 추가됐을 수 있으므로 한 번 갱신
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        resourceVersions.bump(ResourceVersions.CATEGORIES);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSalePostChanged(SalePostChangedEvent event) {
+        resourceVersions.bump(ResourceVersions.POSTS, ResourceVersions.post(event.postId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostLikeChanged(PostLikeChangedEvent event) {
+        resourceVersions.bump(ResourceVersions.POSTS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        resourceVersions.bump(ResourceVersions.CATEGORIES);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPeerReviewCreated(PeerReviewCreatedEvent event) {
+        resourceVersions.bump(ResourceVersions.userReviews(event.targetUserId()));
+    }
+}
@@ -0,0 +1,107 @@
+package com.hongik.books.common.web;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 조회 응답 ETag용 리소스 버전 카운터 (Redis version:{리소스 키})
+ * - 데이터가 바뀔 때(커밋 이후) bump, 조회 시에는 카운터 값만 읽어 ETag를 만든다
+ * - 키가 없으면 현재 시각(ms)으로 시작: Redis가 비워져도 예전 ETag와 값이 겹치지 않도록
+ * - 키는 ttl-hours 뒤 만료 (bump마다 연장): 없는 게시글 ID 조회 등으로 만들어진 키가 쌓이지 않게 한다
+ *   만료 후 다시 만들어지면 값이 바뀌어 한 번 200으로 응답할 뿐이다
+ * - Redis 장애 시 버전을 알 수 없으므로 조건부 응답을 하지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResourceVersions {
+
+    private static final String KEY_PREFIX = "version:";
+
+    public static final String POSTS = "posts";
+    public static final String CATEGORIES = "categories";
+
+    private static final String POST_PREFIX = "post:";
+
+    public static String post(Long postId) {
+        return POST_PREFIX + postId;
+    }
+
+    /**
+     * post(postId) 키에서 게시글 ID를 꺼낸다. 다른 리소스 키면 null
+     */
+    public static Long postIdOf(String resource) {
+        if (resource == null || !resource.startsWith(POST_PREFIX)) return null;
+        try {
+            return Long.valueOf(resource.substring(POST_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public static String userReviews(Long userId) {
+        return "reviews:user:" + userId;
+    }
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${app.resource-version.ttl-hours:24}")
+    private long ttlHours;
+
+    /**
+     * 리소스들의 현재 버전 (요청 순서대로). Redis를 쓸 수 없으면 empty
+     */
+    public Optional<List<String>> current(List<String> resources) {
+        try {
+            List<String> keys = resources.stream().map(r -> KEY_PREFIX + r).toList();
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null) return Optional.empty();
+
+            List<String> versions = new ArrayList<>(values);
+            for (int i = 0; i < versions.size(); i++) {
+                if (versions.get(i) == null) versions.set(i, initialize(keys.get(i)));
+            }
+            return Optional.of(versions);
+        } catch (Exception e) {
+            log.debug("Resource version read failed {}: {}", resources, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void bump(String... resources) {
+        for (String resource : resources) {
+            String key = KEY_PREFIX + resource;
+            try {
+                if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, seed(), ttl()))) {
+                    redisTemplate.opsForValue().increment(key);
+                    redisTemplate.expire(key, ttl());
+                }
+            } catch (Exception e) {
+                log.warn("Resource version bump failed ({}): {}", resource, e.getMessage());
+            }
+        }
+    }
+
+    private String initialize(String key) {
+        String seed = seed();
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, seed, ttl()))) return seed;
+        String existing = redisTemplate.opsForValue().get(key);
+        return existing != null ? existing : seed;
+    }
+
+    private Duration ttl() {
+        return Duration.ofHours(Math.max(1, ttlHours));
+    }
+
+    private static String seed() {
+        return Long.toString(System.currentTimeMillis());
+    }
+}
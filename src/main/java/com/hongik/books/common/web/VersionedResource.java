@@ -0,0 +1,20 @@
+package com.hongik.books.common.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 조건부 GET(ETag / If-None-Match) 대상 조회 API 표시
+ * - value: 응답이 의존하는 리소스 버전 키 (ResourceVersions). 경로 변수는 {이름}으로 치환된다
+ *   예) @VersionedResource("post:{postId}")
+ * - 버전이 그대로면 핸들러를 실행하지 않고 304로 응답한다 (DB 조회 없음)
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface VersionedResource {
+    String[] value();
+}
@@ -0,0 +1,13 @@
+package com.hongik.books.common.web;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * 조건부 GET이 304로 끝났을 때 발행 (핸들러가 실행되지 않음)
+ * - 조회수처럼 응답 본문과 별개로 요청마다 남겨야 하는 기록은 이 이벤트로 처리한다
+ * @param resources 비교에 쓴 리소스 버전 키 (경로 변수 치환 후)
+ * @param principal 요청 사용자 (비로그인이면 null)
+ */
+public record VersionedResourceNotModifiedEvent(List<String> resources, Principal principal) {
+}
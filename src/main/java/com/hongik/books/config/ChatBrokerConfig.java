@@ -0,0 +1,30 @@
+package com.hongik.books.config;
+
+import com.hongik.books.domain.chat.service.RedisChatBroadcaster;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 멀티 인스턴스 채팅 전달 (app.chat.broker.mode=redis 일 때만)
+ * - 모든 인스턴스가 같은 채널을 구독하고 RedisChatBroadcaster가 받은 묶음을 로컬 구독자에게 전달
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.chat.broker.mode", havingValue = "redis")
+public class ChatBrokerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer chatFanoutListenerContainer(
+            RedisConnectionFactory cf,
+            RedisChatBroadcaster broadcaster,
+            @Value("${app.chat.broker.channel:chat:fanout}") String channel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(broadcaster, new ChannelTopic(channel));
+        return container;
+    }
+}
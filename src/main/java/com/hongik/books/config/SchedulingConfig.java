@@ -0,0 +1,12 @@
+package com.hongik.books.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업(찜 수 보정 등) 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,6 @@
 package com.hongik.books.domain.book.controller;
 
+import com.hongik.books.common.web.VersionedResource;
 import com.hongik.books.domain.book.dto.CategoryCreateRequestDTO;
 import com.hongik.books.domain.book.dto.CategoryResponseDTO;
 import com.hongik.books.domain.book.service.CategoryService;
@@ -36,6 +37,7 @@ public class CategoryController {
      * [GET] /api/categories
      */
     @GetMapping
+    @VersionedResource("categories")
     public ResponseEntity<List<CategoryResponseDTO>> getCategoryTree() {
         List<CategoryResponseDTO> categoryTree = categoryService.getCategoryTree();
         return ResponseEntity.ok(categoryTree);
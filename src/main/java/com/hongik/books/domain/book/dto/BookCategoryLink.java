@@ -0,0 +1,7 @@
+package com.hongik.books.domain.book.dto;
+
+/**
+ * 책 - 카테고리 연결 프로젝션 (일괄 등록 시 중복 연결 확인용)
+ */
+public record BookCategoryLink(Long bookId, Long categoryId) {
+}
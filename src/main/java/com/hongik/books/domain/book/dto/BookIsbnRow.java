@@ -0,0 +1,7 @@
+package com.hongik.books.domain.book.dto;
+
+/**
+ * ISBN 일괄 조회용 프로젝션 (책 ID - ISBN)
+ */
+public record BookIsbnRow(Long bookId, String isbn) {
+}
@@ -0,0 +1,7 @@
+package com.hongik.books.domain.book.dto;
+
+/**
+ * 카테고리 트라이 적재용 프로젝션 (부모는 ID만)
+ */
+public record CategoryRow(Long id, String name, Long parentId) {
+}
@@ -0,0 +1,7 @@
+package com.hongik.books.domain.book.event;
+
+/**
+ * 카테고리 생성 이벤트 (커밋 이후 카테고리 응답 버전 갱신 등에 사용)
+ */
+public record CategoryChangedEvent(Long categoryId) {
+}
@@ -1,8 +1,14 @@
 package com.hongik.books.domain.book.repository;
 
 import com.hongik.books.domain.book.domain.Book;
+import com.hongik.books.domain.book.dto.BookCategoryLink;
+import com.hongik.books.domain.book.dto.BookIsbnRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -10,4 +16,13 @@ import java.util.Optional;
  */
 public interface BookRepository extends JpaRepository<Book, Long> {
     Optional<Book> findByIsbn(String isbn);
+
+    // 일괄 등록: 여러 ISBN을 한 번에 조회 (엔티티 대신 ID만)
+    @Query("select new com.hongik.books.domain.book.dto.BookIsbnRow(b.id, b.isbn) from Book b where b.isbn in :isbns")
+    List<BookIsbnRow> findIsbnRows(@Param("isbns") Collection<String> isbns);
+
+    // 일괄 등록: 기존 책들에 이미 연결된 카테고리
+    @Query("select new com.hongik.books.domain.book.dto.BookCategoryLink(bc.book.id, bc.category.id) " +
+            "from BookCategory bc where bc.book.id in :bookIds")
+    List<BookCategoryLink> findCategoryLinks(@Param("bookIds") Collection<Long> bookIds);
 }
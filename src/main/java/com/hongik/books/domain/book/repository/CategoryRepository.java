@@ -1,7 +1,9 @@
 package com.hongik.books.domain.book.repository;
 
 import com.hongik.books.domain.book.domain.Category;
+import com.hongik.books.domain.book.dto.CategoryRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +18,8 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     Optional<Category> findByNameAndParentIsNull(String name);
     Optional<Category> findByNameAndParent(String name, Category parent);
+
+    // 카테고리 트라이 적재용 (부모 엔티티는 로딩하지 않음)
+    @Query("select new com.hongik.books.domain.book.dto.CategoryRow(c.id, c.name, p.id) from Category c left join c.parent p order by c.id")
+    List<CategoryRow> findAllRows();
 }
@@ -3,14 +3,15 @@ package com.hongik.books.domain.book.service;
 import com.hongik.books.domain.book.domain.Category;
 import com.hongik.books.domain.book.dto.CategoryCreateRequestDTO;
 import com.hongik.books.domain.book.dto.CategoryResponseDTO;
+import com.hongik.books.domain.book.event.CategoryChangedEvent;
 import com.hongik.books.domain.book.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * 카테고리 관련 비즈니스 로직을 처리하는 서비스
@@ -20,6 +21,8 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CategoryService {
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategoryTrie categoryTrie;
 
     /**
      * 새로운 카테고리를 생성합니다.
@@ -41,37 +44,53 @@ public class CategoryService {
                 .build();
 
         Category savedCategory = categoryRepository.save(newCategory);
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId()));
         return savedCategory.getId();
     }
 
+    /**
+     * 대/중/소 경로에 해당하는 leaf 카테고리 ID를 반환합니다. 없는 단계는 새로 생성합니다.
+     * 경로가 모두 카테고리 트라이에 있으면 DB 조회 없이 끝나며, 호출한 쪽 트랜잭션에 참여합니다.
+     * @param main 대분류 (비어 있으면 "교양")
+     * @param sub 중분류 (선택)
+     * @param detail 소분류 (필수)
+     * @return leaf 카테고리 ID
+     */
+    @Transactional
+    public Long resolveCategoryPath(String main, String sub, String detail) {
+        Long rootId = findOrCreate(normalize(main, "교양"), null);
+        Long midId = (sub != null && !sub.isBlank()) ? findOrCreate(sub.trim(), rootId) : rootId;
+        return findOrCreate(detail.trim(), midId);
+    }
+
     /**
      * 전체 카테고리를 계층 구조(Tree)로 조회합니다.
      * @return 최상위 카테고리 목록 (각 카테고리는 자식 카테고리 목록을 포함)
      */
     public List<CategoryResponseDTO> getCategoryTree() {
-        // 1. 모든 카테고리를 DB에서 한 번에 가져옵니다. (N+1 문제 방지)
-        List<Category> allCategories = categoryRepository.findAll();
+        // 메모리 트라이 스냅샷에 미리 구성된 트리를 그대로 반환 (DB 조회 없음)
+        return categoryTrie.current().tree();
+    }
 
-        // 2. DTO로 변환하고, ID를 key로 하는 Map을 만들어 쉽게 찾을 수 있도록 합니다.
-        Map<Long, CategoryResponseDTO> categoryMap = allCategories.stream()
-                .map(CategoryResponseDTO::fromEntity)
-                .collect(Collectors.toMap(CategoryResponseDTO::getId, dto -> dto));
+    private Long findOrCreate(String name, Long parentId) {
+        Optional<Long> known = categoryTrie.find(parentId, name);
+        if (known.isPresent()) return known.get();
 
-        // 3. 각 카테고리를 순회하며 부모-자식 관계를 설정합니다.
-        allCategories.forEach(category -> {
-            if (category.getParent() != null) {
-                CategoryResponseDTO parentDto = categoryMap.get(category.getParent().getId());
-                CategoryResponseDTO childDto = categoryMap.get(category.getId());
-                if (parentDto != null) {
-                    parentDto.getChildren().add(childDto);
-                }
-            }
-        });
+        // 트라이에 없을 때만 DB 확인 (다른 인스턴스가 방금 만들었을 수 있음) 후 없으면 생성
+        Category parent = (parentId == null) ? null : categoryRepository.getReferenceById(parentId);
+        Optional<Category> existing = (parent == null)
+                ? categoryRepository.findByNameAndParentIsNull(name)
+                : categoryRepository.findByNameAndParent(name, parent);
+        if (existing.isPresent()) {
+            eventPublisher.publishEvent(new CategoryChangedEvent(existing.get().getId()));
+            return existing.get().getId();
+        }
+        Category created = categoryRepository.save(Category.builder().name(name).parent(parent).build());
+        eventPublisher.publishEvent(new CategoryChangedEvent(created.getId()));
+        return created.getId();
+    }
 
-        // 4. 부모가 없는 최상위 카테고리(root)만 필터링하여 반환합니다.
-        return allCategories.stream()
-                .filter(category -> category.getParent() == null)
-                .map(category -> categoryMap.get(category.getId()))
-                .collect(Collectors.toList());
+    private String normalize(String v, String def) {
+        return (v == null || v.isBlank()) ? def : v.trim();
     }
 }
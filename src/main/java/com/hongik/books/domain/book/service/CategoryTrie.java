@@ -0,0 +1,97 @@
+package com.hongik.books.domain.book.service;
+
+import com.hongik.books.common.util.DepartmentNormalizer;
+import com.hongik.books.domain.book.event.CategoryChangedEvent;
+import com.hongik.books.domain.book.repository.CategoryRepository;
+import com.hongik.books.domain.book.support.CategorySnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카테고리 전체를 메모리에 올려 두는 트라이 (불변 스냅샷을 AtomicReference로 교체)
+ * - 읽기(경로 탐색/트리 조회/학과명 정규화)는 잠금 없이 현재 스냅샷만 본다
+ * - 애플리케이션 시작 시 적재, 카테고리 생성 커밋 이후 다시 적재
+ * - 다른 인스턴스에서 생성된 카테고리는 주기적인 개수 비교로 따라잡는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTrie {
+
+    private final CategoryRepository categoryRepository;
+
+    private final AtomicReference<CategorySnapshot> snapshot = new AtomicReference<>(CategorySnapshot.EMPTY);
+    private final AtomicLong versions = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        CategorySnapshot loaded = reload();
+        log.info("Category trie loaded: {} categories (v{})", loaded.size(), loaded.version());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.category.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        try {
+            if (categoryRepository.count() != current().size()) reload();
+        } catch (Exception e) {
+            log.warn("Category trie refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 다시 읽어 스냅샷을 교체 (동시에 여러 번 불려도 한 번씩 순서대로 교체)
+     */
+    public synchronized CategorySnapshot reload() {
+        CategorySnapshot next = CategorySnapshot.build(versions.incrementAndGet(), categoryRepository.findAllRows());
+        snapshot.set(next);
+        return next;
+    }
+
+    public CategorySnapshot current() {
+        CategorySnapshot current = snapshot.get();
+        // 시작 이벤트 전에 호출되는 경우(초기화 순서, 테스트 등)에는 바로 적재
+        return current == CategorySnapshot.EMPTY ? reload() : current;
+    }
+
+    public Optional<Long> find(Long parentId, String name) {
+        return current().find(parentId, name);
+    }
+
+    /**
+     * 학과/카테고리 입력값 정규화 (저장용): 이미 존재하는 카테고리 이름이면 그대로, 아니면 다국어 매핑(DepartmentNormalizer)
+     */
+    public String normalizeDepartment(String value) {
+        if (value == null || value.isBlank()) return null;
+        String trimmed = value.trim();
+        if (current().containsName(trimmed)) return trimmed;
+        return DepartmentNormalizer.toKoreanOrNull(trimmed);
+    }
+
+    /**
+     * 검색 필터용 학과/카테고리 이름들: 저장 때와 같은 정규화 값, 그리고 오타 보정 값이 다르면 그것까지
+     * (매핑에 없는 이름으로 저장된 글도 입력한 그대로 찾고, 오타는 보정된 학과로도 찾는다). 입력이 없으면 빈 목록
+     */
+    public List<String> departmentSearchNames(String value) {
+        String exact = normalizeDepartment(value);
+        if (exact == null) return List.of();
+        if (current().containsName(exact)) return List.of(exact);
+        String corrected = DepartmentNormalizer.toKoreanForSearch(value.trim());
+        return (corrected == null || corrected.equals(exact)) ? List.of(exact) : List.of(exact, corrected);
+    }
+}
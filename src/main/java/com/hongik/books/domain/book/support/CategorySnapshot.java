@@ -0,0 +1,88 @@
+package com.hongik.books.domain.book.support;
+
+import com.hongik.books.domain.book.dto.CategoryResponseDTO;
+import com.hongik.books.domain.book.dto.CategoryRow;
+
+import java.util.*;
+
+/**
+ * 특정 시점의 전체 카테고리를 담은 불변 스냅샷 (CategoryTrie가 통째로 교체한다)
+ * - (부모 ID, 이름) → 카테고리 ID: 경로를 한 단계씩 따라가는 트라이
+ * - 계층 트리 응답은 스냅샷을 만들 때 한 번만 구성해 그대로 재사용
+ */
+public final class CategorySnapshot {
+
+    // 최상위 카테고리의 부모 키
+    private static final long ROOT = 0L;
+
+    public static final CategorySnapshot EMPTY = new CategorySnapshot(0, Map.of(), Set.of(), List.of(), 0);
+
+    private final long version;
+    private final Map<Long, Map<String, Long>> childrenByParent;
+    private final Set<String> names;
+    private final List<CategoryResponseDTO> tree;
+    private final int size;
+
+    private CategorySnapshot(long version, Map<Long, Map<String, Long>> childrenByParent, Set<String> names,
+                             List<CategoryResponseDTO> tree, int size) {
+        this.version = version;
+        this.childrenByParent = childrenByParent;
+        this.names = names;
+        this.tree = tree;
+        this.size = size;
+    }
+
+    public static CategorySnapshot build(long version, List<CategoryRow> rows) {
+        Map<Long, Map<String, Long>> children = new HashMap<>();
+        Map<Long, List<CategoryRow>> rowsByParent = new HashMap<>();
+        Set<String> names = new HashSet<>();
+        for (CategoryRow row : rows) {
+            long parent = row.parentId() == null ? ROOT : row.parentId();
+            // 같은 부모 아래 같은 이름이 중복돼 있으면 먼저 만든(ID가 작은) 카테고리를 사용
+            children.computeIfAbsent(parent, k -> new HashMap<>()).merge(row.name(), row.id(), Math::min);
+            rowsByParent.computeIfAbsent(parent, k -> new ArrayList<>()).add(row);
+            names.add(row.name());
+        }
+
+        Map<Long, Map<String, Long>> frozen = new HashMap<>();
+        children.forEach((parent, byName) -> frozen.put(parent, Map.copyOf(byName)));
+        return new CategorySnapshot(version, Map.copyOf(frozen), Set.copyOf(names),
+                buildTree(ROOT, rowsByParent), rows.size());
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 부모(null이면 최상위) 아래 이름이 name인 카테고리 ID
+     */
+    public Optional<Long> find(Long parentId, String name) {
+        Map<String, Long> byName = childrenByParent.get(parentId == null ? ROOT : parentId);
+        return byName == null ? Optional.empty() : Optional.ofNullable(byName.get(name));
+    }
+
+    public boolean containsName(String name) {
+        return names.contains(name);
+    }
+
+    /**
+     * 최상위 카테고리 목록 (각 카테고리는 자식 목록 포함, 수정 불가)
+     */
+    public List<CategoryResponseDTO> tree() {
+        return tree;
+    }
+
+    private static List<CategoryResponseDTO> buildTree(long parent, Map<Long, List<CategoryRow>> rowsByParent) {
+        List<CategoryRow> rows = rowsByParent.getOrDefault(parent, List.of());
+        List<CategoryResponseDTO> nodes = new ArrayList<>(rows.size());
+        for (CategoryRow row : rows) {
+            nodes.add(new CategoryResponseDTO(row.id(), row.name(), buildTree(row.id(), rowsByParent)));
+        }
+        return List.copyOf(nodes);
+    }
+}
@@ -1,23 +1,24 @@
 package com.hongik.books.domain.chat.controller;
 
-import com.hongik.books.domain.chat.domain.ChatMessage;
+import com.hongik.books.auth.dto.LoginUserDTO;
+import com.hongik.books.auth.jwt.StompAuthChannelInterceptor;
 import com.hongik.books.common.dto.ApiResponse;
 import com.hongik.books.common.dto.ModerationErrorDTO;
 import com.hongik.books.domain.chat.dto.ChatMessageRequest;
+import com.hongik.books.domain.chat.dto.ChatReadRequest;
 import com.hongik.books.domain.chat.dto.ChatMessageResponse;
-import com.hongik.books.domain.chat.repository.ChatMessageRepository;
-import com.hongik.books.domain.chat.repository.ChatRoomRepository;
-import com.hongik.books.domain.post.repository.SalePostRepository;
-import com.hongik.books.domain.user.repository.UserRepository;
+import com.hongik.books.domain.chat.service.ChatBroadcaster;
+import com.hongik.books.domain.chat.service.ChatMessageQueryService;
+import com.hongik.books.domain.chat.service.ChatMessageWriter;
+import com.hongik.books.domain.chat.service.ChatModerationGate;
+import com.hongik.books.domain.chat.service.ChatReadStateService;
 import lombok.RequiredArgsConstructor;
 import com.hongik.books.moderation.ModerationPolicyProperties;
 import com.hongik.books.moderation.ModerationService;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.stereotype.Controller;
-import com.hongik.books.domain.notification.service.NotificationService;
 
 
 import java.util.List;
@@ -27,43 +28,46 @@ import java.util.List;
 @RequestMapping("/api/chat")
 public class ChatMessageController {
 
-    private final ChatMessageRepository chatMessageRepository;
-    private final SalePostRepository salePostRepository;
-    private final UserRepository userRepository;
-    private final SimpMessagingTemplate template;
-    private final ChatRoomRepository chatRoomRepository; // ✅ 추가
-    private final NotificationService notificationService; // SSE 알림
+    private final ChatMessageQueryService chatMessageQueryService;
+    private final ChatMessageWriter chatMessageWriter; // 그룹 커밋 저장
+    private final ChatBroadcaster broadcaster; // 인스턴스가 여러 대면 Redis로 다른 인스턴스에도 전달
+    private final ChatModerationGate chatModerationGate; // 상대 전달 + SSE 알림
+    private final ChatReadStateService chatReadStateService; // 안 읽은 수 / 읽음 처리
     private final com.hongik.books.moderation.toxic.ToxicFilterClient toxicFilterClient;
     private final ModerationService moderationService;
     private final ModerationPolicyProperties moderationPolicy;
 
 
-    // 1. REST: 이전 메시지 조회
+    // 1. REST: 이전 메시지 조회 (message_id 커서, 오름차순)
+    // [GET] /api/chat/room/{roomId}/messages?size=50            최신 50개
+    // [GET] /api/chat/room/{roomId}/messages?before={id}&size=50 id 이전 50개 (위로 스크롤)
+    // [GET] /api/chat/room/{roomId}/messages?after={id}          id 이후 메시지 (재연결 시 따라잡기)
+    // 반환 개수가 size보다 적으면 그 방향으로 더 없음
     @ResponseBody // Controller + ResponseBody로 REST 응답 지원
-    @Transactional(readOnly = true) // ✅ 추가
     @GetMapping("/room/{roomId}/messages")
-    public List<ChatMessageResponse> getMessages(@PathVariable Long roomId) {
-        List<ChatMessage> messages = chatMessageRepository.findAllByChatRoomIdOrderBySentAtAsc(roomId);
-        return messages.stream().map(msg ->
-                ChatMessageResponse.builder()
-                        .messageId(msg.getId())
-                        .salePostId(msg.getSalePost().getId())
-                        .senderId(msg.getSender().getId())
-                        .receiverId(msg.getReceiver().getId())
-                        .message(msg.getMessage())
-                        .isRead(msg.isRead())
-                        .sentAt(msg.getSentAt())
-                        .build()
-        ).toList();
+    public List<ChatMessageResponse> getMessages(
+            @PathVariable Long roomId,
+            @RequestParam(name = "before", required = false) Long before,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "size", defaultValue = "50") int size,
+            @AuthenticationPrincipal LoginUserDTO user) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        Long viewerId = user != null ? user.id() : null; // 검사 대기 중인 내 메시지는 나에게만 보인다
+        return chatMessageQueryService.getMessages(roomId, viewerId, before, after, pageSize);
     }
 
     // 2. STOMP: 실시간 메시지 저장 및 전송
     @MessageMapping("/chat.sendMessage")
     public void sendMessage(ChatMessageRequest dto, java.security.Principal principal) {
+        // 비동기 검사 모드(BLOCK + async)면 검사 서버 응답을 기다리지 않고 저장부터 한다 (ChatModerationGate)
+        var mode = moderationPolicy.getChat().getMessage();
+        boolean deferred = principal != null
+                && mode == ModerationPolicyProperties.Mode.BLOCK
+                && moderationPolicy.getChat().isAsync();
+
         // 유해 표현 검사: 메시지 본문. 차단 시 현재 사용자에게 에러 전달 후 중단
         try {
-            var mode = moderationPolicy.getChat().getMessage();
-            moderationService.checkOrThrow(dto.getMessage(), mode, "message");
+            if (!deferred) moderationService.checkOrThrow(dto.getMessage(), mode, "message");
         } catch (com.hongik.books.common.exception.ModerationException ex) {
             if (principal != null) {
                 var data = new ModerationErrorDTO(
@@ -76,48 +80,38 @@ public class ChatMessageController {
                         ex.getFlaggedSegments()
                 );
                 var payload = new ApiResponse<>(false, ex.getMessage(), data);
-                template.convertAndSendToUser(principal.getName(), "/queue/chat-errors", payload);
+                broadcaster.sendToUser(principal.getName(), "/queue/chat-errors", payload);
             }
             return;
         }
-        var salePost = salePostRepository.findById(dto.getSalePostId()).orElseThrow();
-        var sender = userRepository.findById(dto.getSenderId()).orElseThrow();
-        var receiver = userRepository.findById(dto.getReceiverId()).orElseThrow();
-        var room     = chatRoomRepository.findById(dto.getRoomId()).orElseThrow(); // ✅ 방 로드
-
-        ChatMessage chatMessage = ChatMessage.builder()
-                .chatRoom(room)// ✅ 반드시 세팅
-                .salePost(salePost)
-                .sender(sender)
-                .receiver(receiver)
-                .message(dto.getMessage())
-                .build();
-
-        chatMessageRepository.save(chatMessage);
+        // 저장은 그룹 커밋 저장기에 맡기고 STOMP 인바운드 스레드는 바로 반환
+        // 커밋된 뒤 저장 순서대로: SSE 알림 + 방 구독자 전달 (비동기 검사 모드면 보낸 사람에게만 먼저, 상대에게는 판정 후)
+        String senderPrincipal = principal != null ? principal.getName() : null;
+        chatMessageWriter.submit(
+                new ChatMessageWriter.Submission(dto.getRoomId(), dto.getSenderId(), dto.getReceiverId(), dto.getMessage(),
+                        deferred),
+                delivery -> {
+                    if (deferred) {
+                        chatModerationGate.holdUntilVerdict(delivery, senderPrincipal);
+                    } else {
+                        chatModerationGate.deliver(delivery);
+                    }
+                },
+                reason -> {
+                    if (senderPrincipal != null) {
+                        broadcaster.sendToUser(senderPrincipal, "/queue/chat-errors", new ApiResponse<>(false, reason, null));
+                    }
+                });
+    }
 
-        // ✅ SSE 알림: 수신자에게 새 메시지 알림 전송
+    // 3. STOMP: upToMessageId까지 읽음 처리 (변화량은 /user/queue/unread, 상대에게는 /user/queue/read-receipts)
+    @MessageMapping("/chat.markRead")
+    public void markRead(ChatReadRequest dto, java.security.Principal principal) {
+        if (!(principal instanceof StompAuthChannelInterceptor.StompUser user)) return; // 익명 세션은 무시
         try {
-            notificationService.notifyChatMessage(
-                    receiver.getId(),
-                    room.getId(),
-                    salePost.getId(),
-                    sender.getEmail(), // 혹은 getUsername()/getNickname() 있으면 바꿔도 됨
-                    dto.getMessage()
-            );
-        } catch (Exception ignore) {}
-
-        // 메시지 저장 후, 구독자들에게 실시간 전달
-        // ChatMessageResponse로 변환해서 내려주면 프론트 일관성 ↑
-        ChatMessageResponse response = ChatMessageResponse.builder()
-                .messageId(chatMessage.getId())
-                .salePostId(salePost.getId())
-                .senderId(sender.getId())
-                .receiverId(receiver.getId())
-                .message(chatMessage.getMessage())
-                .isRead(chatMessage.isRead())
-                .sentAt(chatMessage.getSentAt())
-                .build();
-
-        template.convertAndSend("/sub/chat/room/" + dto.getRoomId(), response);
+            chatReadStateService.markRead(dto.getRoomId(), user.userId(), dto.getUpToMessageId());
+        } catch (IllegalArgumentException ex) {
+            broadcaster.sendToUser(user.getName(), "/queue/chat-errors", new ApiResponse<>(false, ex.getMessage(), null));
+        }
     }
 }
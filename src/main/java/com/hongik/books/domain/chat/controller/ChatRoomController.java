@@ -3,13 +3,17 @@ package com.hongik.books.domain.chat.controller;
 import com.hongik.books.auth.dto.LoginUserDTO;
 import com.hongik.books.domain.chat.domain.ChatRoom;
 import com.hongik.books.domain.chat.dto.ChatRoomResponse;
+import com.hongik.books.domain.chat.dto.ChatUnreadRow;
+import com.hongik.books.domain.chat.event.ChatRoomCreatedEvent;
 import com.hongik.books.domain.chat.repository.ChatRoomRepository;
+import com.hongik.books.domain.chat.service.ChatReadStateService;
 import com.hongik.books.domain.post.domain.SalePost;
 import com.hongik.books.domain.post.repository.SalePostRepository;
 import com.hongik.books.domain.user.domain.CustomUserDetails;
 import com.hongik.books.domain.user.domain.User;
 import com.hongik.books.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,7 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/chat/rooms")
@@ -27,6 +33,8 @@ public class ChatRoomController {
     private final ChatRoomRepository chatRoomRepository;
     private final SalePostRepository salePostRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChatReadStateService chatReadStateService;
 
     @PostMapping
     @Transactional // LAZY 연관(User/SalePost) 접근 중 세션 유지
@@ -59,6 +67,7 @@ public class ChatRoomController {
                     .userBId(buyer.getId())  // buyer
                     .build();
             chatRoom = chatRoomRepository.save(chatRoom);
+            eventPublisher.publishEvent(new ChatRoomCreatedEvent(chatRoom.getId(), salePostId));
         }
 
         // DTO로 변환해서 반환!
@@ -69,8 +78,8 @@ public class ChatRoomController {
                 .sellerId(chatRoom.getSeller().getId())
                 .buyerNickname(chatRoom.getBuyer().getUsername())
                 .sellerNickname(chatRoom.getSeller().getUsername())
-                .buyerProfileImageUrl(chatRoom.getBuyer().getProfileImagePath())
-                .sellerProfileImageUrl(chatRoom.getSeller().getProfileImagePath())
+                .buyerProfileImageUrl(chatRoom.getBuyer().getAvatarImageUrl())
+                .sellerProfileImageUrl(chatRoom.getSeller().getAvatarImageUrl())
                 .build();
     }
 
@@ -88,8 +97,8 @@ public class ChatRoomController {
                 .sellerId(chatRoom.getSeller().getId())
                 .buyerNickname(chatRoom.getBuyer().getUsername())
                 .sellerNickname(chatRoom.getSeller().getUsername())
-                .buyerProfileImageUrl(chatRoom.getBuyer().getProfileImagePath())
-                .sellerProfileImageUrl(chatRoom.getSeller().getProfileImagePath())
+                .buyerProfileImageUrl(chatRoom.getBuyer().getAvatarImageUrl())
+                .sellerProfileImageUrl(chatRoom.getSeller().getAvatarImageUrl())
                 .build();
     }
 
@@ -99,6 +108,8 @@ public class ChatRoomController {
         Long myId = user.id();
 
         List<ChatRoom> myRooms = chatRoomRepository.findAllByBuyerIdOrSellerId(myId, myId);
+        Map<Long, Integer> unread = chatReadStateService.getUnread(myId).stream()
+                .collect(Collectors.toMap(ChatUnreadRow::roomId, ChatUnreadRow::unreadCount));
 
         List<ChatRoomResponse> result = myRooms.stream()
                 .map(room -> ChatRoomResponse.builder()
@@ -109,11 +120,26 @@ public class ChatRoomController {
                         .bookTitle(room.getSalePost().getPostTitle()) // ✅ 책 제목 추가
                         .buyerNickname(room.getBuyer().getUsername())
                         .sellerNickname(room.getSeller().getUsername())
-                        .buyerProfileImageUrl(room.getBuyer().getProfileImagePath())
-                        .sellerProfileImageUrl(room.getSeller().getProfileImagePath())
+                        .buyerProfileImageUrl(room.getBuyer().getAvatarImageUrl())
+                        .sellerProfileImageUrl(room.getSeller().getAvatarImageUrl())
+                        .unreadCount(unread.getOrDefault(room.getId(), 0))
                         .build())
                 .toList();
 
         return ResponseEntity.ok(result);
     }
+
+    // 내 모든 채팅방의 안 읽은 수 (채팅 목록 배지, 한 번의 조회)
+    @GetMapping("/unread")
+    public List<ChatUnreadRow> getMyUnread(@AuthenticationPrincipal LoginUserDTO user) {
+        return chatReadStateService.getUnread(user.id());
+    }
+
+    // upTo 메시지까지 읽음 처리 (STOMP /pub/chat.markRead 와 같음)
+    @PostMapping("/{roomId}/read")
+    public ChatUnreadRow markRead(@PathVariable Long roomId,
+                                  @RequestParam Long upTo,
+                                  @AuthenticationPrincipal LoginUserDTO user) {
+        return chatReadStateService.markRead(roomId, user.id(), upTo);
+    }
 }
@@ -16,6 +16,10 @@ import java.time.LocalDateTime;
  * 임시로 작성한 것이니 구현하시면서 수정하셔서 사용하시면 될 듯합니다.
  */
 @Getter @Entity
+@Table(indexes = {
+        // 방별 메시지 before/after 커서 조회 (chat_room_id, message_id) 범위 스캔용
+        @Index(name = "idx_chat_message_room_id", columnList = "chat_room_id, message_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatMessage {
     @Id
@@ -46,6 +50,10 @@ public class ChatMessage {
     @Column(nullable = false)
     private boolean isRead = false;
 
+    // 비동기 유해 표현 검사를 기다리는 동안 false (보낸 사람 외에는 이력에서 보이지 않음, 통과 시 true)
+    @Column(nullable = false)
+    private boolean visible = true;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime sentAt;
@@ -0,0 +1,48 @@
+package com.hongik.books.domain.chat.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅방별·사용자별 안 읽은 메시지 수와 마지막으로 읽은 message_id
+ * - 메시지 저장 시 수신자 행의 unreadCount를 같은 트랜잭션에서 올리고 (ChatMessageBatchRepository upsert)
+ * - "X까지 읽음" 시 행을 잠근 뒤 lastReadMessageId 이후 받은 메시지 수로 다시 계산한다
+ * - 채팅 목록의 안 읽은 수는 user_id 인덱스로 한 번에 읽는다 (chat_message 스캔 없음)
+ */
+@Getter
+@Entity
+@Table(name = "chat_read_state",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_read_state_room_user",
+                columnNames = {"chat_room_id", "user_id"}),
+        indexes = @Index(name = "idx_chat_read_state_user_id", columnList = "user_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatReadState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "chat_read_state_id")
+    private Long id;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private int unreadCount;
+
+    @Column(nullable = false)
+    private long lastReadMessageId;
+
+    public void incrementUnread() {
+        this.unreadCount++;
+    }
+
+    public void markRead(long lastReadMessageId, int unreadCount) {
+        this.lastReadMessageId = lastReadMessageId;
+        this.unreadCount = unreadCount;
+    }
+}
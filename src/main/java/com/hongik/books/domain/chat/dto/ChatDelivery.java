@@ -0,0 +1,7 @@
+package com.hongik.books.domain.chat.dto;
+
+/**
+ * 저장된 채팅 메시지 한 건의 전달 정보 (방 브로드캐스트 + 수신자 SSE 알림에 필요한 값)
+ */
+public record ChatDelivery(Long roomId, String senderName, ChatMessageResponse message) {
+}
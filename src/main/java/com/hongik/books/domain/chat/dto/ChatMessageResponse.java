@@ -1,5 +1,6 @@
 package com.hongik.books.domain.chat.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
@@ -7,6 +8,7 @@ import java.time.LocalDateTime;
 
 @Data
 @Builder
+@AllArgsConstructor // JPQL 생성자 프로젝션용 (필드 순서 그대로)
 public class ChatMessageResponse {
     private Long messageId;
     private Long salePostId;
@@ -0,0 +1,14 @@
+package com.hongik.books.domain.chat.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * STOMP "X까지 읽음" 요청 (/pub/chat.markRead)
+ */
+@Getter
+@NoArgsConstructor
+public class ChatReadRequest {
+    private Long roomId;
+    private Long upToMessageId;
+}
@@ -0,0 +1,18 @@
+package com.hongik.books.domain.chat.dto;
+
+import com.hongik.books.common.dto.ModerationErrorDTO;
+
+/**
+ * 비동기 검사에서 차단되어 회수된 메시지
+ * - 보낸 사람: /user/queue/chat-errors 로 검사 결과(moderation)와 함께
+ * - 이미 상대에게 전달된 뒤 차단된 경우: 방 구독자(/sub/chat/room/{roomId})에게 moderation 없이 (화면에서 지우도록)
+ * type은 방 구독의 일반 메시지(ChatMessageResponse)와 구분하기 위한 값 (항상 RETRACTED)
+ */
+public record ChatRetractedDTO(String type, Long messageId, Long roomId, ModerationErrorDTO moderation) {
+
+    public static final String TYPE = "RETRACTED";
+
+    public static ChatRetractedDTO of(Long messageId, Long roomId, ModerationErrorDTO moderation) {
+        return new ChatRetractedDTO(TYPE, messageId, roomId, moderation);
+    }
+}
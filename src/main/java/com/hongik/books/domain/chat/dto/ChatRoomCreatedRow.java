@@ -0,0 +1,7 @@
+package com.hongik.books.domain.chat.dto;
+
+/**
+ * 인기 순위 재구성용 프로젝션 (게시글 - 채팅방 생성 시각, ISO-8601 문자열)
+ */
+public record ChatRoomCreatedRow(Long salePostId, String createdAt) {
+}
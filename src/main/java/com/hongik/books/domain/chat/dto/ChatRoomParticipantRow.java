@@ -0,0 +1,11 @@
+package com.hongik.books.domain.chat.dto;
+
+/**
+ * 채팅 메시지 저장 시 검증용 채팅방 참여자 프로젝션 (연관 ID는 FK 컬럼에서 바로 읽음)
+ */
+public record ChatRoomParticipantRow(Long roomId, Long salePostId, Long sellerId, Long buyerId) {
+
+    public boolean hasParticipant(Long userId) {
+        return userId != null && (userId.equals(sellerId) || userId.equals(buyerId));
+    }
+}
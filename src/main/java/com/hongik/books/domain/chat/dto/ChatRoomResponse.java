@@ -15,4 +15,5 @@ public class ChatRoomResponse {
     private String sellerNickname;
     private String buyerProfileImageUrl;
     private String sellerProfileImageUrl;
+    private Integer unreadCount; // 내 안 읽은 메시지 수 (내 채팅 목록에서만)
 }
@@ -0,0 +1,7 @@
+package com.hongik.books.domain.chat.dto;
+
+/**
+ * 채팅방별 안 읽은 메시지 수 프로젝션 (사용자 한 명의 모든 방을 한 번에)
+ */
+public record ChatUnreadRow(Long roomId, int unreadCount, long lastReadMessageId) {
+}
@@ -0,0 +1,7 @@
+package com.hongik.books.domain.chat.event;
+
+/**
+ * 새 채팅방 생성 이벤트 (구매 문의 = 게시글 관심 신호, 커밋 이후 인기 순위 반영용)
+ */
+public record ChatRoomCreatedEvent(Long chatRoomId, Long salePostId) {
+}
@@ -0,0 +1,15 @@
+package com.hongik.books.domain.chat.event;
+
+/**
+ * 안 읽은 메시지 수 변경 이벤트 (커밋 이후 /user/queue/unread 로 전달)
+ * - delta: 변화량 (새 메시지 +1, 회수 -1, 읽음 처리 시 새 값 - 이전 값)
+ * - unreadCount, lastReadMessageId: 읽음 처리처럼 절대값을 아는 경우에만, 아니면 null
+ * - peerId: 읽음 처리 시 상대에게 읽음 표시를 보낼 사용자 (아니면 null)
+ */
+public record ChatUnreadChangedEvent(Long userId, Long roomId, int delta,
+                                     Integer unreadCount, Long lastReadMessageId, Long peerId) {
+
+    public static ChatUnreadChangedEvent delta(Long userId, Long roomId, int delta) {
+        return new ChatUnreadChangedEvent(userId, roomId, delta, null, null, null);
+    }
+}
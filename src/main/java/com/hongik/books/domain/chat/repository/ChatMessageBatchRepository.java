@@ -0,0 +1,116 @@
+package com.hongik.books.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅 메시지 그룹 커밋용 JDBC 배치 INSERT (+ 수신자 안 읽은 수 upsert)
+ * - ID가 IDENTITY라 Hibernate는 INSERT를 배치로 묶지 못하므로 PreparedStatement 배치를 직접 실행
+ *   (MySQL은 rewriteBatchedStatements=true로 multi-row INSERT 한 번, 생성 키는 입력 순서대로)
+ * - 호출한 쪽 트랜잭션에 참여한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+    // chat_message.message 컬럼 길이 (varchar(255))
+    public static final int MAX_MESSAGE_LENGTH = 255;
+
+    private static final String INSERT_CHAT_MESSAGE =
+            "insert into chat_message (chat_room_id, post_id, sender_id, receiver_id, message, is_read, visible, sent_at) " +
+            "values (?, ?, ?, ?, ?, false, ?, ?)";
+
+    // (방, 사용자) 행이 없으면 만들고 있으면 더한다 (uk_chat_read_state_room_user)
+    // VALUES() 함수는 MySQL 8.0.20부터 deprecated라 행 별칭(8.0.19+)으로 참조
+    private static final String UPSERT_UNREAD =
+            "insert into chat_read_state (chat_room_id, user_id, unread_count, last_read_message_id) " +
+            "values (?, ?, ?, 0) as incoming " +
+            "on duplicate key update unread_count = chat_read_state.unread_count + incoming.unread_count";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 새 채팅 메시지 한 건 (읽음 여부는 false로 시작, 비동기 검사 대기 중이면 visible=false)
+     */
+    public record ChatMessageRow(Long roomId, Long salePostId, Long senderId, Long receiverId,
+                                 String message, boolean visible, LocalDateTime sentAt) {
+    }
+
+    /**
+     * 수신자 안 읽은 수 증가분 한 건 (같은 묶음의 같은 방·수신자는 합쳐서)
+     */
+    public record UnreadIncrement(Long roomId, Long userId, int count) {
+    }
+
+    /**
+     * 메시지를 배치로 저장하고 생성된 message_id를 입력 순서대로 반환
+     */
+    public List<Long> insertMessages(List<ChatMessageRow> rows) {
+        if (rows.isEmpty()) return List.of();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_CHAT_MESSAGE, new String[]{"message_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ChatMessageRow row = rows.get(i);
+                        ps.setLong(1, row.roomId());
+                        ps.setLong(2, row.salePostId());
+                        ps.setLong(3, row.senderId());
+                        ps.setLong(4, row.receiverId());
+                        ps.setString(5, row.message());
+                        ps.setBoolean(6, row.visible());
+                        ps.setTimestamp(7, Timestamp.valueOf(row.sentAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != rows.size()) {
+            throw new IllegalStateException("생성된 키 개수가 일치하지 않습니다. (" + keys.size() + "/" + rows.size() + ")");
+        }
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Map<String, Object> key : keys) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    /**
+     * 수신자별 안 읽은 수를 배치 upsert로 증가 (메시지 INSERT와 같은 트랜잭션)
+     */
+    public void incrementUnread(List<UnreadIncrement> increments) {
+        if (increments.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPSERT_UNREAD, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                UnreadIncrement inc = increments.get(i);
+                ps.setLong(1, inc.roomId());
+                ps.setLong(2, inc.userId());
+                ps.setInt(3, inc.count());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return increments.size();
+            }
+        });
+    }
+}
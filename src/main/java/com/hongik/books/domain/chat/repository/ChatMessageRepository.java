@@ -1,11 +1,76 @@
 package com.hongik.books.domain.chat.repository;
 
 import com.hongik.books.domain.chat.domain.ChatMessage;
+import com.hongik.books.domain.chat.dto.ChatMessageResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
     //List<ChatMessage> findAllBySalePostIdOrderBySentAtAsc(Long salePostId);
 
-    List<ChatMessage> findAllByChatRoomIdOrderBySentAtAsc(Long roomId);
-}
\ No newline at end of file
+    // 메시지 이력 프로젝션: 연관 ID는 FK 컬럼에서 바로 읽는다 (게시글/사용자 조인·지연 로딩 없음)
+    // 검사 대기 중인 메시지(visible=false)는 보낸 사람(viewerId)에게만 보인다
+    // 최신 페이지 또는 before 이전 페이지 (message_id 내림차순, 호출 측에서 오름차순으로 뒤집는다)
+    @Query("""
+        select new com.hongik.books.domain.chat.dto.ChatMessageResponse(
+            m.id, m.salePost.id, m.sender.id, m.receiver.id, m.message, m.isRead, m.sentAt)
+        from ChatMessage m
+        where m.chatRoom.id = :roomId
+          and (:before is null or m.id < :before)
+          and (m.visible = true or m.sender.id = :viewerId)
+        order by m.id desc
+    """)
+    List<ChatMessageResponse> findPageBefore(@Param("roomId") Long roomId, @Param("before") Long before,
+                                             @Param("viewerId") Long viewerId, Pageable pageable);
+
+    // after 이후 페이지 (message_id 오름차순)
+    @Query("""
+        select new com.hongik.books.domain.chat.dto.ChatMessageResponse(
+            m.id, m.salePost.id, m.sender.id, m.receiver.id, m.message, m.isRead, m.sentAt)
+        from ChatMessage m
+        where m.chatRoom.id = :roomId
+          and m.id > :after
+          and (m.visible = true or m.sender.id = :viewerId)
+        order by m.id asc
+    """)
+    List<ChatMessageResponse> findPageAfter(@Param("roomId") Long roomId, @Param("after") Long after,
+                                            @Param("viewerId") Long viewerId, Pageable pageable);
+
+    // 방의 마지막 message_id (읽음 위치 상한)
+    @Query("select max(m.id) from ChatMessage m where m.chatRoom.id = :roomId")
+    Long findMaxIdByRoomId(@Param("roomId") Long roomId);
+
+    // 읽음 처리: (after, upTo] 구간에서 userId가 받은 메시지를 한 번에 읽음으로
+    @Modifying
+    @Query("""
+        update ChatMessage m
+           set m.isRead = true
+         where m.chatRoom.id = :roomId and m.receiver.id = :userId
+           and m.id > :after and m.id <= :upTo and m.isRead = false
+    """)
+    int markReadBetween(@Param("roomId") Long roomId, @Param("userId") Long userId,
+                        @Param("after") Long after, @Param("upTo") Long upTo);
+
+    // after 이후 userId가 받은 메시지 수 (읽음 처리 후 안 읽은 수 재계산, (chat_room_id, message_id) 범위 스캔)
+    // 검사 대기 중인 메시지는 통과해 전달될 때 센다
+    @Query("""
+        select count(m) from ChatMessage m
+         where m.chatRoom.id = :roomId and m.receiver.id = :userId and m.id > :after
+           and m.visible = true
+    """)
+    long countReceivedAfter(@Param("roomId") Long roomId, @Param("userId") Long userId, @Param("after") Long after);
+
+    // 검사 대기 중인 메시지를 상대에게 공개 (이미 회수되었거나 공개된 메시지면 0)
+    @Modifying
+    @Query("update ChatMessage m set m.visible = true where m.id = :messageId and m.visible = false")
+    int markVisible(@Param("messageId") Long messageId);
+
+    // 메시지 공개 여부 (회수 시 안 읽은 수에 포함되었던 메시지인지 판단, 없으면 null)
+    @Query("select m.visible from ChatMessage m where m.id = :messageId")
+    Boolean findVisibleById(@Param("messageId") Long messageId);
+}
@@ -0,0 +1,39 @@
+package com.hongik.books.domain.chat.repository;
+
+import com.hongik.books.domain.chat.domain.ChatReadState;
+import com.hongik.books.domain.chat.dto.ChatUnreadRow;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ChatReadStateRepository extends JpaRepository<ChatReadState, Long> {
+
+    // 사용자의 모든 채팅방 안 읽은 수 (user_id 인덱스 한 번)
+    @Query("""
+        select new com.hongik.books.domain.chat.dto.ChatUnreadRow(s.roomId, s.unreadCount, s.lastReadMessageId)
+        from ChatReadState s
+        where s.userId = :userId
+    """)
+    List<ChatUnreadRow> findUnreadRowsByUserId(@Param("userId") Long userId);
+
+    // 읽음 처리: 메시지 저장기의 카운터 증가와 순서를 맞추기 위해 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ChatReadState> findByRoomIdAndUserId(Long roomId, Long userId);
+
+    // 회수된(차단된) 메시지가 아직 안 읽은 메시지였다면 1 감소
+    @Modifying
+    @Query("""
+        update ChatReadState s
+           set s.unreadCount = s.unreadCount - 1
+         where s.roomId = :roomId and s.userId = :userId
+           and s.lastReadMessageId < :messageId and s.unreadCount > 0
+    """)
+    int decrementUnread(@Param("roomId") Long roomId, @Param("userId") Long userId,
+                        @Param("messageId") Long messageId);
+}
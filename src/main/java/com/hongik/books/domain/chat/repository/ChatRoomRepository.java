@@ -1,10 +1,13 @@
 package com.hongik.books.domain.chat.repository;
 
 import com.hongik.books.domain.chat.domain.ChatRoom;
+import com.hongik.books.domain.chat.dto.ChatRoomCreatedRow;
+import com.hongik.books.domain.chat.dto.ChatRoomParticipantRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +30,22 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
         order by cr.id desc
     """)
     List<ChatRoom> findAllWithSalePostByUser(@Param("userId") Long userId);
+
+    // 인기 순위 재구성용: since 이후 생성된 채팅방 (createdAt은 ISO-8601 문자열이라 문자열 비교로 기간 필터)
+    @Query("""
+        select new com.hongik.books.domain.chat.dto.ChatRoomCreatedRow(sp.id, cr.createdAt)
+        from ChatRoom cr join cr.salePost sp
+        where cr.createdAt >= :since
+          and sp.status <> com.hongik.books.domain.post.domain.SalePost.SaleStatus.SOLD_OUT
+    """)
+    List<ChatRoomCreatedRow> findCreatedRowsSince(@Param("since") String since);
+
+    // 채팅 메시지 일괄 저장 시 방/참여자 검증 (배치에 포함된 방을 한 번에)
+    @Query("""
+        select new com.hongik.books.domain.chat.dto.ChatRoomParticipantRow(
+            cr.id, cr.salePost.id, cr.seller.id, cr.buyer.id)
+        from ChatRoom cr
+        where cr.id in :ids
+    """)
+    List<ChatRoomParticipantRow> findParticipantRowsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,24 @@
+package com.hongik.books.domain.chat.service;
+
+/**
+ * STOMP 구독자에게 서버 메시지를 내보내는 출구
+ * - local(기본): 이 인스턴스의 SimpleBroker로만 전달
+ * - redis: 이 인스턴스에 전달하고 Redis pub/sub으로 다른 인스턴스에도 퍼뜨린다
+ *   (app.chat.broker.mode, 인스턴스가 여러 대일 때)
+ */
+public interface ChatBroadcaster {
+
+    /**
+     * /sub/chat/room/{roomId} 구독자 전체에게 전달
+     */
+    void sendToRoom(Long roomId, Object payload);
+
+    /**
+     * 특정 사용자의 /user{destination} 구독에 전달 (destination 예: /queue/chat-errors)
+     */
+    void sendToUser(String user, String destination, Object payload);
+
+    static String roomDestination(Long roomId) {
+        return "/sub/chat/room/" + roomId;
+    }
+}
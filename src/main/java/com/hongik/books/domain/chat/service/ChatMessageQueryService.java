@@ -0,0 +1,39 @@
+package com.hongik.books.domain.chat.service;
+
+import com.hongik.books.domain.chat.dto.ChatMessageResponse;
+import com.hongik.books.domain.chat.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 채팅 메시지 이력 조회 (message_id keyset 커서)
+ * - 커서 없음: 최신 size개, before: 그 이전 size개 (위로 스크롤), after: 그 이후 size개 (재연결 시 놓친 메시지)
+ * - 결과는 항상 message_id 오름차순, (chat_room_id, message_id) 인덱스 범위 스캔 한 번
+ * - 비동기 검사를 기다리는 메시지는 보낸 사람(viewerId)에게만 보인다
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ChatMessageQueryService {
+
+    private final ChatMessageRepository chatMessageRepository;
+
+    public List<ChatMessageResponse> getMessages(Long roomId, Long viewerId, Long before, Long after, int size) {
+        if (before != null && after != null) {
+            throw new IllegalArgumentException("before와 after는 함께 사용할 수 없습니다.");
+        }
+        PageRequest limit = PageRequest.of(0, size);
+        if (after != null) {
+            return chatMessageRepository.findPageAfter(roomId, after, viewerId, limit);
+        }
+        List<ChatMessageResponse> page = new ArrayList<>(chatMessageRepository.findPageBefore(roomId, before, viewerId, limit));
+        Collections.reverse(page);
+        return page;
+    }
+}
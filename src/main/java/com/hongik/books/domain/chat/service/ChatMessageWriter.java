@@ -0,0 +1,291 @@
+package com.hongik.books.domain.chat.service;
+
+import com.hongik.books.domain.chat.dto.ChatDelivery;
+import com.hongik.books.domain.chat.dto.ChatMessageResponse;
+import com.hongik.books.domain.chat.dto.ChatRoomParticipantRow;
+import com.hongik.books.domain.chat.repository.ChatMessageBatchRepository;
+import com.hongik.books.domain.chat.repository.ChatRoomRepository;
+import com.hongik.books.domain.user.dto.UserNameRow;
+import com.hongik.books.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 채팅 메시지 그룹 커밋 저장기
+ * - STOMP 핸들러는 제한된 큐에 넣기만 하고, 저장 스레드 하나가 모아서 저장한다
+ *   (첫 메시지 뒤 linger-ms만 더 모으고 최대 batch-size개)
+ * - 한 묶음 = 트랜잭션 하나: 방/참여자 조회 1회 + 보낸 사람 이름 조회 1회 + multi-row INSERT 1회
+ *   + 수신자 안 읽은 수 upsert 1회 (메시지마다 findById 4번 + save 1번 하던 왕복을 묶음당 4번으로)
+ *   upsert는 세이브포인트로 감싸 실패해도 메시지 INSERT는 그대로 커밋한다
+ * - 비동기 검사 대기 메시지(pending)는 숨김(visible=false)으로 저장하고 안 읽은 수도 올리지 않는다
+ *   (통과해 상대에게 전달될 때 ChatReadStateService.onDelivered에서 공개 + 증가)
+ * - 저장 스레드가 하나이고 묶음 안 순서대로 INSERT하므로 방별 메시지 순서(message_id)가 보낸 순서와 같다
+ * - 커밋이 끝난 뒤에만 onSaved를 부른다 (전달 스레드 하나에서 저장 순서대로 → 구독자에게도 같은 순서로)
+ * - 큐가 가득 차면 받지 않고 바로 onFailed (보낸 사람에게 재시도 안내)
+ * - 빈 메시지/길이 초과는 큐에 넣기 전에 거절, 묶음 저장이 실패하면 메시지마다 다시 저장해 문제 메시지만 실패 처리
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    private static final String INVALID_ROOM = "채팅방 정보가 올바르지 않습니다.";
+    private static final String SAVE_FAILED = "메시지 저장에 실패했습니다. 잠시 후 다시 시도해 주세요.";
+    private static final String BUSY = "메시지가 많아 잠시 후 다시 시도해 주세요.";
+    private static final String INVALID_MESSAGE = "메시지는 1자 이상 " + ChatMessageBatchRepository.MAX_MESSAGE_LENGTH + "자 이하로 입력해 주세요.";
+
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final long lingerMillis;
+    private final BlockingQueue<Pending> queue;
+
+    private volatile boolean running;
+    private Thread writer;
+    private ExecutorService callbacks;
+
+    /**
+     * 저장할 메시지 한 건 (STOMP 요청 그대로, 방/참여자 검증은 저장 스레드에서)
+     * pending: 비동기 유해 표현 검사 판정 전이라 상대에게 아직 보이면 안 되는 메시지
+     */
+    public record Submission(Long roomId, Long senderId, Long receiverId, String message, boolean pending) {
+    }
+
+    private record Pending(Submission submission, LocalDateTime sentAt,
+                           Consumer<ChatDelivery> onSaved, Consumer<String> onFailed) {
+    }
+
+    private record Outcome(Pending pending, ChatDelivery delivery, String failure) {
+    }
+
+    public ChatMessageWriter(ChatMessageBatchRepository chatMessageBatchRepository,
+                             ChatRoomRepository chatRoomRepository,
+                             UserRepository userRepository,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${app.chat.writer.batch-size:100}") int batchSize,
+                             @Value("${app.chat.writer.linger-ms:5}") long lingerMillis,
+                             @Value("${app.chat.writer.queue-capacity:5000}") int queueCapacity) {
+        this.chatMessageBatchRepository = chatMessageBatchRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.lingerMillis = Math.max(0, lingerMillis);
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    @PostConstruct
+    void start() {
+        callbacks = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "chat-message-delivery");
+            t.setDaemon(true);
+            return t;
+        });
+        running = true;
+        writer = new Thread(this::writeLoop, "chat-message-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // 종료 신호만 주고 남은 메시지 저장은 저장 스레드가 마친다
+        // (호출 스레드에서 따로 저장하면 저장기가 둘이 되어 방별 순서가 깨질 수 있다)
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        if (writer.isAlive()) {
+            log.warn("Chat message writer still running at shutdown, {} messages left in queue", queue.size());
+        }
+        callbacks.shutdown();
+        callbacks.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    public void submit(Submission submission, Consumer<ChatDelivery> onSaved, Consumer<String> onFailed) {
+        if (!isValidMessage(submission.message())) {
+            onFailed.accept(INVALID_MESSAGE);
+            return;
+        }
+        // 종료 중에는 받지 않는다 (저장 스레드의 마지막 비우기 뒤에 남는 메시지가 없도록)
+        if (!running) {
+            onFailed.accept(BUSY);
+            return;
+        }
+        if (!queue.offer(new Pending(submission, LocalDateTime.now(), onSaved, onFailed))) {
+            log.warn("Chat message queue full, rejecting message for room {}", submission.roomId());
+            onFailed.accept(BUSY);
+        }
+    }
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) break;
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                if (!batch.isEmpty()) flush(batch);
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        // 종료: 종료 직전까지 들어온 메시지도 이 스레드에서 저장한다
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        if (batch.isEmpty()) return;
+        List<Outcome> outcomes;
+        try {
+            outcomes = transactionTemplate.execute(status -> persist(batch, status));
+        } catch (RuntimeException e) {
+            // 한 건 때문에 묶음 전체가 실패하지 않도록 메시지마다 따로 다시 저장 (순서는 그대로)
+            log.warn("Chat message batch save failed ({} messages), retrying one by one: {}", batch.size(), e.getMessage());
+            outcomes = new ArrayList<>(batch.size());
+            for (Pending p : batch) outcomes.add(persistAlone(p));
+        }
+
+        // 커밋 이후 저장 순서대로 콜백 (전달 스레드 하나)
+        List<Outcome> ordered = outcomes;
+        callbacks.execute(() -> {
+            for (Outcome outcome : ordered) {
+                try {
+                    if (outcome.delivery() != null) {
+                        outcome.pending().onSaved().accept(outcome.delivery());
+                    } else {
+                        outcome.pending().onFailed().accept(outcome.failure());
+                    }
+                } catch (Exception e) {
+                    log.warn("Chat message callback failed: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    private Outcome persistAlone(Pending pending) {
+        try {
+            return transactionTemplate.execute(status -> persist(List.of(pending), status)).getFirst();
+        } catch (RuntimeException e) {
+            log.warn("Chat message save failed (room {}): {}", pending.submission().roomId(), e.getMessage());
+            return new Outcome(pending, null, SAVE_FAILED);
+        }
+    }
+
+    private static boolean isValidMessage(String message) {
+        return message != null && !message.isBlank()
+                && message.length() <= ChatMessageBatchRepository.MAX_MESSAGE_LENGTH;
+    }
+
+    private List<Outcome> persist(List<Pending> batch, TransactionStatus status) {
+        Set<Long> roomIds = new HashSet<>();
+        Set<Long> senderIds = new HashSet<>();
+        for (Pending p : batch) {
+            if (p.submission().roomId() != null) roomIds.add(p.submission().roomId());
+            if (p.submission().senderId() != null) senderIds.add(p.submission().senderId());
+        }
+        Map<Long, ChatRoomParticipantRow> rooms = new HashMap<>();
+        for (ChatRoomParticipantRow row : chatRoomRepository.findParticipantRowsByIdIn(roomIds)) {
+            rooms.put(row.roomId(), row);
+        }
+
+        List<Pending> valid = new ArrayList<>(batch.size());
+        List<ChatMessageBatchRepository.ChatMessageRow> rows = new ArrayList<>(batch.size());
+        for (Pending p : batch) {
+            Submission s = p.submission();
+            ChatRoomParticipantRow room = rooms.get(s.roomId());
+            if (room == null || !room.hasParticipant(s.senderId()) || !room.hasParticipant(s.receiverId())
+                    || s.senderId().equals(s.receiverId()) || !isValidMessage(s.message())) {
+                continue;
+            }
+            valid.add(p);
+            rows.add(new ChatMessageBatchRepository.ChatMessageRow(
+                    room.roomId(), room.salePostId(), s.senderId(), s.receiverId(), s.message(), !s.pending(), p.sentAt()));
+        }
+
+        List<Long> ids = chatMessageBatchRepository.insertMessages(rows);
+        Map<List<Long>, Integer> unread = new LinkedHashMap<>();
+        for (ChatMessageBatchRepository.ChatMessageRow row : rows) {
+            if (!row.visible()) continue; // 검사 대기 메시지는 전달될 때 센다
+            unread.merge(List.of(row.roomId(), row.receiverId()), 1, Integer::sum);
+        }
+        List<ChatMessageBatchRepository.UnreadIncrement> increments = new ArrayList<>(unread.size());
+        unread.forEach((key, count) ->
+                increments.add(new ChatMessageBatchRepository.UnreadIncrement(key.get(0), key.get(1), count)));
+        // 안 읽은 수 증가는 세이브포인트 안에서: 실패해도 메시지 저장은 커밋 (읽음 처리 때 다시 계산됨)
+        Object savepoint = status.createSavepoint();
+        try {
+            chatMessageBatchRepository.incrementUnread(increments);
+            status.releaseSavepoint(savepoint);
+        } catch (DataAccessException e) {
+            status.rollbackToSavepoint(savepoint);
+            log.warn("Chat unread counter update skipped ({} rooms): {}", increments.size(), e.getMessage());
+        }
+        Map<Long, String> senderNames = new HashMap<>();
+        if (!valid.isEmpty()) {
+            for (UserNameRow row : userRepository.findNameRowsByIdIn(senderIds)) {
+                senderNames.put(row.userId(), row.displayName());
+            }
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        int next = 0;
+        for (Pending p : batch) {
+            if (next < valid.size() && valid.get(next) == p) {
+                ChatMessageBatchRepository.ChatMessageRow row = rows.get(next);
+                ChatMessageResponse response = ChatMessageResponse.builder()
+                        .messageId(ids.get(next))
+                        .salePostId(row.salePostId())
+                        .senderId(row.senderId())
+                        .receiverId(row.receiverId())
+                        .message(row.message())
+                        .isRead(false)
+                        .sentAt(row.sentAt())
+                        .build();
+                outcomes.add(new Outcome(p, new ChatDelivery(row.roomId(), senderNames.get(row.senderId()), response), null));
+                next++;
+            } else {
+                outcomes.add(new Outcome(p, null, INVALID_ROOM));
+            }
+        }
+        return outcomes;
+    }
+}
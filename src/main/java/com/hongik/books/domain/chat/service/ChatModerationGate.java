@@ -0,0 +1,163 @@
+package com.hongik.books.domain.chat.service;
+
+import com.hongik.books.common.dto.ApiResponse;
+import com.hongik.books.common.dto.ModerationErrorDTO;
+import com.hongik.books.common.exception.ModerationException;
+import com.hongik.books.domain.chat.dto.ChatDelivery;
+import com.hongik.books.domain.chat.dto.ChatMessageResponse;
+import com.hongik.books.domain.chat.dto.ChatRetractedDTO;
+import com.hongik.books.domain.chat.event.ChatUnreadChangedEvent;
+import com.hongik.books.domain.notification.service.NotificationService;
+import com.hongik.books.moderation.ModerationPolicyProperties;
+import com.hongik.books.moderation.ModerationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 저장된 채팅 메시지를 상대에게 내보내는 관문
+ * - deliver: 방 구독자 전체에 전달 + 수신자 SSE 알림 + 안 읽은 수 변화 (동기 검사 통과 또는 검사 생략 시)
+ * - holdUntilVerdict: 비동기 검사 모드. 보낸 사람에게만 /user/queue/chat-pending 으로 먼저 보여 주고,
+ *   유해 표현 검사는 가상 스레드에서 돌려 STOMP 인바운드 스레드를 막지 않는다
+ *   메시지는 숨김(visible=false)으로 저장되어 판정 전에는 상대의 이력 조회에도 나오지 않는다
+ *   · 한도(verdict-budget-ms) 안에 통과 → 공개하고 안 읽은 수를 올린 뒤 상대에게 전달
+ *   · 한도 안에 차단 → 저장된 메시지를 지우고 보낸 사람에게 /user/queue/chat-errors 로 회수 알림 (상대는 받지 않음)
+ *   · 한도 초과 → 판정을 기다리지 않고 전달 (fail-open, 검사 서버 장애와 같은 취급)
+ *     늦게 차단 판정이 오면 이력에서 지우고, 방 구독자에게 회수(ChatRetractedDTO)를 보내 상대 화면에서도 지운다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatModerationGate {
+
+    private static final String FIELD = "message";
+
+    private final ChatBroadcaster broadcaster;
+    private final NotificationService notificationService;
+    private final ModerationService moderationService;
+    private final ModerationPolicyProperties moderationPolicy;
+    private final ChatReadStateService chatReadStateService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.close();
+    }
+
+    public void deliver(ChatDelivery delivery) {
+        announce(delivery);
+        // 수신자 채팅 목록의 안 읽은 수 +1 (저장 시 카운터는 이미 반영됨)
+        ChatMessageResponse message = delivery.message();
+        eventPublisher.publishEvent(ChatUnreadChangedEvent.delta(message.getReceiverId(), delivery.roomId(), 1));
+    }
+
+    // 검사를 기다리던 메시지: 공개 + 안 읽은 수 증가(onDelivered가 +1도 알린다) 후 전달, 그 사이 회수됐으면 보내지 않는다
+    private void release(ChatDelivery delivery) {
+        ChatMessageResponse message = delivery.message();
+        try {
+            if (!chatReadStateService.onDelivered(delivery.roomId(), message.getReceiverId(), message.getMessageId())) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Chat message {} release failed: {}", message.getMessageId(), e.getMessage());
+            return;
+        }
+        announce(delivery);
+    }
+
+    // 수신자 SSE 알림 + 방 구독자 전달
+    private void announce(ChatDelivery delivery) {
+        ChatMessageResponse message = delivery.message();
+        // ✅ SSE 알림: 수신자에게 새 메시지 알림 전송
+        try {
+            notificationService.notifyChatMessage(
+                    message.getReceiverId(),
+                    delivery.roomId(),
+                    message.getSalePostId(),
+                    delivery.senderName(),
+                    message.getMessage()
+            );
+        } catch (Exception ignore) {}
+
+        broadcaster.sendToRoom(delivery.roomId(), message);
+    }
+
+    public void holdUntilVerdict(ChatDelivery delivery, String senderPrincipal) {
+        broadcaster.sendToUser(senderPrincipal, "/queue/chat-pending", delivery.message());
+
+        AtomicBoolean decided = new AtomicBoolean();
+        long budgetMs = Math.max(0, moderationPolicy.getChat().getVerdictBudgetMs());
+
+        CompletableFuture
+                .runAsync(() -> moderationService.checkOrThrow(
+                        delivery.message().getMessage(), ModerationPolicyProperties.Mode.BLOCK, FIELD), executor)
+                .whenComplete((ok, failure) -> {
+                    ModerationException blocked = asModerationException(failure);
+                    if (blocked == null) {
+                        if (failure != null) log.warn("Chat moderation failed, allowing message: {}", failure.toString());
+                        if (decided.compareAndSet(false, true)) release(delivery);
+                        return;
+                    }
+                    boolean delivered = !decided.compareAndSet(false, true);
+                    if (delivered) {
+                        log.info("Chat message {} blocked after verdict budget, removing from history",
+                                delivery.message().getMessageId());
+                    }
+                    retract(delivery, senderPrincipal, blocked, delivered);
+                });
+
+        CompletableFuture.runAsync(() -> {
+            if (decided.compareAndSet(false, true)) release(delivery);
+        }, CompletableFuture.delayedExecutor(budgetMs, TimeUnit.MILLISECONDS, executor));
+    }
+
+    private void retract(ChatDelivery delivery, String senderPrincipal, ModerationException ex, boolean delivered) {
+        ChatMessageResponse message = delivery.message();
+        try {
+            chatReadStateService.onRetracted(delivery.roomId(), message.getReceiverId(), message.getMessageId());
+        } catch (Exception e) {
+            log.warn("Blocked chat message {} delete failed: {}", message.getMessageId(), e.getMessage());
+        }
+        var moderation = new ModerationErrorDTO(
+                ex.getField(),
+                ex.getPredictionLevel(),
+                ex.getMalicious(),
+                ex.getClean(),
+                ex.getReason(),
+                ex.getOffendingText() != null ? ex.getOffendingText() : message.getMessage(),
+                ex.getFlaggedSegments()
+        );
+        var payload = new ApiResponse<>(false, ex.getMessage(),
+                ChatRetractedDTO.of(message.getMessageId(), delivery.roomId(), moderation));
+        broadcaster.sendToUser(senderPrincipal, "/queue/chat-errors", payload);
+        // 이미 상대에게 전달된 메시지면 방 구독자 화면에서도 지운다 (검사 결과는 보낸 사람에게만)
+        if (delivered) {
+            broadcaster.sendToRoom(delivery.roomId(), ChatRetractedDTO.of(message.getMessageId(), delivery.roomId(), null));
+        }
+    }
+
+    private static ModerationException asModerationException(Throwable failure) {
+        Throwable cause = failure;
+        while (cause != null) {
+            if (cause instanceof ModerationException me) return me;
+            cause = cause.getCause();
+        }
+        return null;
+    }
+}
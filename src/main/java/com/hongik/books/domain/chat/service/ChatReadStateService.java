@@ -0,0 +1,116 @@
+package com.hongik.books.domain.chat.service;
+
+import com.hongik.books.domain.chat.domain.ChatReadState;
+import com.hongik.books.domain.chat.dto.ChatRoomParticipantRow;
+import com.hongik.books.domain.chat.dto.ChatUnreadRow;
+import com.hongik.books.domain.chat.event.ChatUnreadChangedEvent;
+import com.hongik.books.domain.chat.repository.ChatMessageBatchRepository;
+import com.hongik.books.domain.chat.repository.ChatMessageRepository;
+import com.hongik.books.domain.chat.repository.ChatReadStateRepository;
+import com.hongik.books.domain.chat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 채팅방 안 읽은 수 / 읽음 처리
+ * - 증가는 메시지 저장기(ChatMessageWriter)가 저장과 같은 트랜잭션에서 한다
+ *   비동기 검사를 기다린 메시지는 통과해 공개될 때(onDelivered), 회수되면 공개됐던 경우에만 되돌린다(onRetracted)
+ * - 읽음 처리: (room, user) 행을 먼저 잠그고 (이전 위치, X] 메시지를 한 번에 읽음 표시, 안 읽은 수는 X 이후 받은 메시지로 다시 계산
+ *   잠금 덕분에 동시에 저장되는 메시지의 증가분과 섞여도 값이 어긋나지 않는다
+ * - 변화량은 커밋 이후 /user/queue/unread 로, 읽음 위치는 상대의 /user/queue/read-receipts 로 보낸다 (ChatUnreadPusher)
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatReadStateService {
+
+    private final ChatReadStateRepository chatReadStateRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<ChatUnreadRow> getUnread(Long userId) {
+        return chatReadStateRepository.findUnreadRowsByUserId(userId);
+    }
+
+    /**
+     * roomId에서 userId가 upToMessageId까지 읽음 (이미 더 뒤까지 읽었으면 그대로)
+     * - 다른 어떤 조회보다 먼저 (room, user) 행을 잠근다: REPEATABLE READ에서는 첫 조회 시점의 스냅샷으로
+     *   최대 id/안 읽은 수를 세게 되어, 잠금을 기다리는 사이 커밋된 저장분이 카운터와 어긋난다
+     * - READ_COMMITTED: 잠금 이후의 조회(최대 id, 재계산)가 그 시점까지 커밋된 메시지를 본다
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public ChatUnreadRow markRead(Long roomId, Long userId, Long upToMessageId) {
+        if (roomId == null || upToMessageId == null) {
+            throw new IllegalArgumentException("roomId와 upToMessageId가 필요합니다.");
+        }
+        ChatReadState state = chatReadStateRepository.findByRoomIdAndUserId(roomId, userId).orElse(null);
+
+        ChatRoomParticipantRow room = chatRoomRepository.findParticipantRowsByIdIn(List.of(roomId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채팅방입니다."));
+        if (!room.hasParticipant(userId)) {
+            throw new IllegalArgumentException("채팅방 참여자가 아닙니다.");
+        }
+        // 받은 메시지가 한 번도 없으면 행이 없다 (안 읽은 메시지도 없음)
+        if (state == null) return new ChatUnreadRow(roomId, 0, 0L);
+
+        Long lastId = chatMessageRepository.findMaxIdByRoomId(roomId);
+        long upTo = Math.min(upToMessageId, lastId == null ? 0L : lastId);
+        long previous = state.getLastReadMessageId();
+        if (upTo <= previous) {
+            return new ChatUnreadRow(roomId, state.getUnreadCount(), previous);
+        }
+
+        chatMessageRepository.markReadBetween(roomId, userId, previous, upTo);
+        int before = state.getUnreadCount();
+        int unread = (int) chatMessageRepository.countReceivedAfter(roomId, userId, upTo);
+        state.markRead(upTo, unread);
+
+        Long peerId = userId.equals(room.sellerId()) ? room.buyerId() : room.sellerId();
+        eventPublisher.publishEvent(new ChatUnreadChangedEvent(userId, roomId, unread - before, unread, upTo, peerId));
+        return new ChatUnreadRow(roomId, unread, upTo);
+    }
+
+    /**
+     * 검사를 기다리던 메시지를 공개하고 수신자의 안 읽은 수를 올린다 (이미 그 뒤까지 읽었으면 그대로)
+     * - 수신자 행을 먼저 잠가 회수(onRetracted)·읽음 처리와 순서를 맞춘다
+     * @return 공개했으면 true, 그 사이 회수되어 메시지가 없으면 false (상대에게 전달하지 않는다)
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public boolean onDelivered(Long roomId, Long receiverId, Long messageId) {
+        ChatReadState state = chatReadStateRepository.findByRoomIdAndUserId(roomId, receiverId).orElse(null);
+        if (chatMessageRepository.markVisible(messageId) == 0) return false;
+
+        if (state == null) {
+            // 이 방에서 처음 받는 메시지: 행이 없으면 만든다 (동시에 만들어져도 upsert로 더한다)
+            chatMessageBatchRepository.incrementUnread(
+                    List.of(new ChatMessageBatchRepository.UnreadIncrement(roomId, receiverId, 1)));
+        } else if (state.getLastReadMessageId() < messageId) {
+            state.incrementUnread();
+        } else {
+            return true;
+        }
+        eventPublisher.publishEvent(ChatUnreadChangedEvent.delta(receiverId, roomId, 1));
+        return true;
+    }
+
+    /**
+     * 차단된 메시지를 지우고, 공개되어 안 읽은 수에 들어갔던 메시지면 수신자의 안 읽은 수를 되돌린다 (-1도 알린다)
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void onRetracted(Long roomId, Long receiverId, Long messageId) {
+        chatReadStateRepository.findByRoomIdAndUserId(roomId, receiverId); // onDelivered와 순서를 맞추는 행 잠금
+        boolean counted = Boolean.TRUE.equals(chatMessageRepository.findVisibleById(messageId));
+        chatMessageRepository.deleteById(messageId);
+        if (counted && chatReadStateRepository.decrementUnread(roomId, receiverId, messageId) > 0) {
+            eventPublisher.publishEvent(ChatUnreadChangedEvent.delta(receiverId, roomId, -1));
+        }
+    }
+}
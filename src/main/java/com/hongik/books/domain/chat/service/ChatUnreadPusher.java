@@ -0,0 +1,45 @@
+package com.hongik.books.domain.chat.service;
+
+import com.hongik.books.domain.chat.event.ChatUnreadChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 안 읽은 수 변화를 커밋 이후 사용자 큐로 전달 (STOMP 사용자 이름 = 사용자 ID, StompAuthChannelInterceptor)
+ * - /user/queue/unread        { roomId, delta, unreadCount?, lastReadMessageId? }
+ * - /user/queue/read-receipts { roomId, readerId, lastReadMessageId } : 상대가 어디까지 읽었는지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadPusher {
+
+    private final ChatBroadcaster broadcaster;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUnreadChanged(ChatUnreadChangedEvent event) {
+        try {
+            Map<String, Object> unread = new LinkedHashMap<>();
+            unread.put("roomId", event.roomId());
+            unread.put("delta", event.delta());
+            if (event.unreadCount() != null) unread.put("unreadCount", event.unreadCount());
+            if (event.lastReadMessageId() != null) unread.put("lastReadMessageId", event.lastReadMessageId());
+            broadcaster.sendToUser(String.valueOf(event.userId()), "/queue/unread", unread);
+
+            if (event.peerId() != null && event.lastReadMessageId() != null) {
+                broadcaster.sendToUser(String.valueOf(event.peerId()), "/queue/read-receipts", Map.of(
+                        "roomId", event.roomId(),
+                        "readerId", event.userId(),
+                        "lastReadMessageId", event.lastReadMessageId()));
+            }
+        } catch (Exception e) {
+            log.warn("Unread push failed for user {}: {}", event.userId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.hongik.books.domain.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 인스턴스용: 인메모리 SimpleBroker로 바로 전달 (app.chat.broker.mode=local, 기본값)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.chat.broker.mode", havingValue = "local", matchIfMissing = true)
+public class LocalChatBroadcaster implements ChatBroadcaster {
+
+    private final SimpMessagingTemplate template;
+
+    @Override
+    public void sendToRoom(Long roomId, Object payload) {
+        template.convertAndSend(ChatBroadcaster.roomDestination(roomId), payload);
+    }
+
+    @Override
+    public void sendToUser(String user, String destination, Object payload) {
+        template.convertAndSendToUser(user, destination, payload);
+    }
+}
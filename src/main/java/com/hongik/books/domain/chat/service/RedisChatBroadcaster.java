@@ -0,0 +1,180 @@
+package com.hongik.books.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hongik.books.domain.chat.support.ChatFanoutBatch;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 인스턴스용: Redis pub/sub으로 STOMP 메시지를 모든 인스턴스에 퍼뜨린다 (app.chat.broker.mode=redis)
+ * - 보내는 인스턴스는 자기 SimpleBroker에 바로 전달하고, 같은 메시지를 큐에 넣는다
+ * - 전송 스레드 하나가 큐를 비우며 최대 batch-size개를 JSON 한 건으로 묶어 채널에 PUBLISH
+ *   (첫 메시지 뒤 linger-ms만 더 모음, 몰릴 때 Redis 왕복 수가 메시지 수가 아니라 묶음 수로 준다)
+ * - 받는 인스턴스는 자기 node id가 아닌 묶음만 로컬 SimpleBroker로 전달
+ *   사용자 대상(/user/queue/*)은 각 인스턴스가 자기 세션 레지스트리로 풀기 때문에 접속한 인스턴스에서만 전달된다
+ * - Redis 장애나 큐가 가득 찬 경우 다른 인스턴스 전달만 빠지고, 이 인스턴스 구독자는 그대로 받는다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.chat.broker.mode", havingValue = "redis")
+public class RedisChatBroadcaster implements ChatBroadcaster, MessageListener {
+
+    private final SimpMessagingTemplate template;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final String channel;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final BlockingQueue<ChatFanoutBatch.Message> queue;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private Thread publisher;
+
+    public RedisChatBroadcaster(SimpMessagingTemplate template,
+                                StringRedisTemplate redisTemplate,
+                                ObjectMapper objectMapper,
+                                @Value("${app.chat.broker.channel:chat:fanout}") String channel,
+                                @Value("${app.chat.broker.batch-size:64}") int batchSize,
+                                @Value("${app.chat.broker.linger-ms:2}") long lingerMillis,
+                                @Value("${app.chat.broker.queue-capacity:10000}") int queueCapacity) {
+        this.template = template;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.batchSize = Math.max(1, batchSize);
+        this.lingerMillis = Math.max(0, lingerMillis);
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        publisher = new Thread(this::publishLoop, "chat-fanout-publisher");
+        publisher.setDaemon(true);
+        publisher.start();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // 종료 신호만 주고 남은 메시지 전송은 전송 스레드가 마친다
+        // (호출 스레드에서 따로 PUBLISH하면 전송자가 둘이 되어 묶음 순서가 뒤바뀔 수 있다)
+        running = false;
+        publisher.join(TimeUnit.SECONDS.toMillis(5));
+        if (publisher.isAlive()) {
+            log.warn("Chat fanout publisher still running at shutdown, {} messages left in queue", queue.size());
+        }
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void sendToRoom(Long roomId, Object payload) {
+        String destination = ChatBroadcaster.roomDestination(roomId);
+        template.convertAndSend(destination, payload);
+        enqueue(destination, null, payload);
+    }
+
+    @Override
+    public void sendToUser(String user, String destination, Object payload) {
+        template.convertAndSendToUser(user, destination, payload);
+        enqueue(destination, user, payload);
+    }
+
+    /**
+     * 채널 구독 콜백: 다른 인스턴스가 보낸 묶음을 이 인스턴스 구독자에게 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        ChatFanoutBatch batch;
+        try {
+            batch = objectMapper.readValue(message.getBody(), ChatFanoutBatch.class);
+        } catch (Exception e) {
+            log.warn("Chat fanout batch parse failed: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(batch.node()) || batch.messages() == null) return;
+
+        for (ChatFanoutBatch.Message m : batch.messages()) {
+            try {
+                if (m.user() != null) {
+                    template.convertAndSendToUser(m.user(), m.destination(), m.payload());
+                } else {
+                    template.convertAndSend(m.destination(), m.payload());
+                }
+            } catch (Exception e) {
+                log.warn("Chat fanout delivery failed for {}: {}", m.destination(), e.getMessage());
+            }
+        }
+    }
+
+    private void enqueue(String destination, String user, Object payload) {
+        // 종료 중에는 다른 인스턴스로 보내지 않는다 (전송 스레드의 마지막 비우기 뒤에 남지 않도록, 이 인스턴스 전달은 이미 끝남)
+        if (!running) return;
+        ChatFanoutBatch.Message message =
+                new ChatFanoutBatch.Message(destination, user, objectMapper.valueToTree(payload));
+        if (!queue.offer(message)) {
+            log.warn("Chat fanout queue full, {} delivered to this node only", destination);
+        }
+    }
+
+    private void publishLoop() {
+        List<ChatFanoutBatch.Message> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                ChatFanoutBatch.Message first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) break;
+                    ChatFanoutBatch.Message next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                publish(batch);
+            } catch (InterruptedException e) {
+                if (!batch.isEmpty()) publish(batch);
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+        // 종료: 종료 직전까지 쌓인 메시지도 이 스레드에서 내보낸다
+        while (queue.drainTo(batch, batchSize) > 0) {
+            publish(batch);
+            batch.clear();
+        }
+    }
+
+    private void publish(List<ChatFanoutBatch.Message> messages) {
+        if (messages.isEmpty()) return;
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(new ChatFanoutBatch(nodeId, messages)));
+        } catch (Exception e) {
+            log.warn("Chat fanout publish failed ({} messages): {}", messages.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.hongik.books.domain.chat.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * 인스턴스 간 STOMP 전달 묶음 (Redis 채널 메시지 한 건)
+ * - node: 보낸 인스턴스 id (자기 메시지는 이미 로컬로 전달했으므로 받는 쪽에서 건너뜀)
+ * - user가 있으면 convertAndSendToUser, 없으면 destination으로 그대로 전달
+ */
+public record ChatFanoutBatch(String node, List<Message> messages) {
+
+    public record Message(String destination, String user, JsonNode payload) {
+    }
+}
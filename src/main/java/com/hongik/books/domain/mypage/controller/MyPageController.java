@@ -2,6 +2,7 @@ package com.hongik.books.domain.mypage.controller;
 
 import com.hongik.books.auth.dto.LoginUserDTO;
 import com.hongik.books.common.dto.ApiResponse;
+import com.hongik.books.common.dto.CursorResponse;
 import com.hongik.books.domain.post.dto.MyLikedPostResponseDTO;
 import com.hongik.books.domain.post.dto.MyPostSummaryResponseDTO;
 import com.hongik.books.domain.post.service.PostLikeService;
@@ -70,6 +71,19 @@ public class MyPageController {
         return ResponseEntity.ok(myPosts);
     }
 
+    /**
+     * 내가 쓴 판매글 목록을 커서 기반으로 조회하는 API (최신순)
+     * [GET] /api/my/posts/cursor?size=20&cursor={nextCursor}
+     */
+    @GetMapping("/posts/cursor")
+    public ResponseEntity<CursorResponse<MyPostSummaryResponseDTO>> getMySalePostsByCursor(
+            @AuthenticationPrincipal LoginUserDTO loginUser,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        return ResponseEntity.ok(salePostService.getMySalePostsByCursor(loginUser.id(), cursor, pageSize));
+    }
+
     /**
      * 내가 찜한 모든 게시글 목록을 조회하는 API
      */
@@ -80,6 +94,19 @@ public class MyPageController {
         return ResponseEntity.ok(myLikedPosts);
     }
 
+    /**
+     * 내가 찜한 게시글 목록을 커서 기반으로 조회하는 API (최근 찜한 순)
+     * [GET] /api/my/likes/cursor?size=20&cursor={nextCursor}
+     */
+    @GetMapping("/likes/cursor")
+    public ResponseEntity<CursorResponse<MyLikedPostResponseDTO>> getMyLikedPostsByCursor(
+            @AuthenticationPrincipal LoginUserDTO loginUser,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        return ResponseEntity.ok(postLikeService.getMyLikedPostsByCursor(loginUser.id(), cursor, pageSize));
+    }
+
     /**
      * 학생 인증을 위한 이메일 발송을 요청하는 API
      */
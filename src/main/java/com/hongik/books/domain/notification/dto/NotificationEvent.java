@@ -10,7 +10,7 @@ import java.time.Instant;
 @AllArgsConstructor
 public class NotificationEvent {
     private String id;          // SSE 이벤트 고유 ID
-    private String type;        // "CHAT", "WANTED_COMMENT", "PING", "RESERVATION_*"
+    private String type;        // "CHAT", "WANTED_COMMENT", "SAVED_SEARCH", "PING", "RESERVATION_*"
     private String title;       // 짧은 제목
     private String message;     // 상세 메시지
     private String link;        // 프론트에서 이동할 경로
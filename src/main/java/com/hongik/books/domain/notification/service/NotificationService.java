@@ -84,6 +84,19 @@ public class NotificationService {
         sendToUser(ownerUserId, evt);
     }
 
+    public void notifySavedSearchMatch(Long userId, Long salePostId, String postTitle) {
+        NotificationEvent evt = NotificationEvent.builder()
+                .id(UUID.randomUUID().toString())
+                .type("SAVED_SEARCH")
+                .title("저장한 검색 새 글")
+                .message("저장한 검색 조건에 맞는 새 판매글: " + truncate(safe(postTitle), 80))
+                .link("/posts/" + salePostId)
+                .createdAt(Instant.now())
+                .salePostId(salePostId)
+                .build();
+        sendToUser(userId, evt);
+    }
+
     // ====== 🔔 예약 알림 추가 ======
 
     public void notifyReservationRequested(
@@ -1,5 +1,6 @@
 package com.hongik.books.domain.place.service;
 
+import com.hongik.books.common.util.GeoUtils;
 import com.hongik.books.domain.place.domain.Place;
 import com.hongik.books.domain.place.dto.PlaceDto;
 import com.hongik.books.domain.place.repository.PlaceRepository;
@@ -81,7 +82,7 @@ public class PlaceService {
 
             Double[] latlng = forwardGeocodeToLatLng(geocodeQuery);
             double distKm = (latlng != null)
-                    ? haversine(HONGIK_LAT, HONGIK_LNG, latlng[0], latlng[1])
+                    ? GeoUtils.haversineMeters(HONGIK_LAT, HONGIK_LNG, latlng[0], latlng[1]) / 1000.0
                     : Double.MAX_VALUE;
 
             obj.put("___hongik_distance_km", distKm);
@@ -272,18 +273,6 @@ public class PlaceService {
         return json.substring(startIndex, endIndex);
     }
 
-    // 하버사인 거리(km)
-    private static double haversine(double lat1, double lon1, double lat2, double lon2) {
-        final double R = 6371.0088; // km
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat/2) * Math.sin(dLat/2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon/2) * Math.sin(dLon/2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-        return R * c;
-    }
-
     // 주소(쿼리) -> 위경도/주소 정보 (기존 시그니처 유지)
     public Map<String, Object> forwardGeocode(String query) {
         String apiUrl = "https://naveropenapi.apigw.ntruss.com/map-geocode/v2/geocode";
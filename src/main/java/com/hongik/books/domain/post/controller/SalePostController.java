@@ -1,8 +1,13 @@
 package com.hongik.books.domain.post.controller;
 
 import com.hongik.books.auth.dto.LoginUserDTO;
+import com.hongik.books.common.dto.CursorResponse;
+import com.hongik.books.common.web.VersionedResource;
 import com.hongik.books.domain.post.dto.*;
+import com.hongik.books.domain.post.service.SalePostBulkImportService;
 import com.hongik.books.domain.post.service.SalePostService;
+import com.hongik.books.domain.post.support.BulkImportReader;
+import jakarta.servlet.http.HttpServletResponse;
 import com.hongik.books.domain.post.service.RecentlyViewedPostService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +23,7 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.data.domain.Sort;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 
@@ -30,12 +36,14 @@ import java.util.List;
 public class SalePostController {
     private final SalePostService salePostService;
     private final RecentlyViewedPostService recentlyViewedPostService;
+    private final SalePostBulkImportService salePostBulkImportService;
 
     /**
      * 판매 게시글 목록을 페이지네이션및 동적 조건으로 조회하는 API
      * [GET] /api/posts?query=자바&page=0&size=10&sort=createdAt,desc
      */
     @GetMapping
+    @VersionedResource("posts")
     public ResponseEntity<Page<SalePostSummaryResponseDTO>> getSalePosts(
             @Validated @ModelAttribute PostSearchCondition condition, // @ModelAttribute로 검색 조건 DTO를 받음
             @PageableDefault(size = 10, sort = "createdAt,desc") Pageable pageable) {
@@ -44,12 +52,86 @@ public class SalePostController {
         return ResponseEntity.ok(posts);
     }
 
+    /**
+     * 판매 게시글 목록을 커서 기반으로 조회하는 API (무한 스크롤용, count 쿼리 없음)
+     * [GET] /api/posts/cursor?query=자바&sort=latest&size=20&cursor={이전 응답의 nextCursor}
+     * sort: latest(기본) | price_asc | price_desc
+     */
+    @GetMapping("/cursor")
+    @VersionedResource("posts")
+    public ResponseEntity<CursorResponse<SalePostSummaryResponseDTO>> getSalePostsByCursor(
+            @Validated @ModelAttribute PostSearchCondition condition,
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        return ResponseEntity.ok(salePostService.getSalePostsByCursor(condition, sort, cursor, pageSize));
+    }
+
+    /**
+     * 주변 판매 게시글 조회 API (반경 검색, 가까운 순, 판매 완료 제외)
+     * [GET] /api/posts/nearby?lat=37.5509&lng=126.9254&radius=1000&size=20&query=자바&maxPrice=20000
+     * radius: 미터 단위 (기본 1000, 최대 20000)
+     */
+    @GetMapping("/nearby")
+    @VersionedResource("posts")
+    public ResponseEntity<List<SalePostNearbyResponseDTO>> getNearbySalePosts(
+            @Validated @ModelAttribute PostSearchCondition condition,
+            @RequestParam("lat") double lat,
+            @RequestParam("lng") double lng,
+            @RequestParam(name = "radius", defaultValue = "1000") int radius,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        return ResponseEntity.ok(salePostService.getNearbySalePosts(condition, lat, lng, radius, pageSize));
+    }
+
+    /**
+     * 지도 화면(사각형) 안의 판매 게시글 조회 API (사각형 중심에서 가까운 순, 위도/경도 폭 0.5도 이내)
+     * [GET] /api/posts/within?minLat=37.54&minLng=126.91&maxLat=37.56&maxLng=126.94&size=50
+     */
+    @GetMapping("/within")
+    @VersionedResource("posts")
+    public ResponseEntity<List<SalePostNearbyResponseDTO>> getSalePostsWithinBox(
+            @Validated @ModelAttribute PostSearchCondition condition,
+            @RequestParam("minLat") double minLat,
+            @RequestParam("minLng") double minLng,
+            @RequestParam("maxLat") double maxLat,
+            @RequestParam("maxLng") double maxLng,
+            @RequestParam(name = "size", defaultValue = "50") int size) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        return ResponseEntity.ok(salePostService.getSalePostsWithinBox(
+                condition, minLat, minLng, maxLat, maxLng, pageSize));
+    }
+
+    /**
+     * 지금 뜨는 판매 게시글 조회 API (최근 조회/찜/채팅 문의가 많은 순, 판매 완료 제외)
+     * [GET] /api/posts/trending?size=20
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<SalePostSummaryResponseDTO>> getTrendingPosts(
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        int pageSize = Math.min(Math.max(size, 1), 50);
+        return ResponseEntity.ok(salePostService.getTrendingPosts(pageSize));
+    }
+
+    /**
+     * 판매 게시글 목록 패싯(필터별 개수)을 조회하는 API
+     * [GET] /api/posts/facets?query=자바&category=컴퓨터공학과&minPrice=0&maxPrice=20000
+     */
+    @GetMapping("/facets")
+    @VersionedResource("posts")
+    public ResponseEntity<PostFacetResponseDTO> getSalePostFacets(
+            @Validated @ModelAttribute PostSearchCondition condition) {
+        return ResponseEntity.ok(salePostService.getSalePostFacets(condition));
+    }
+
     /**
      * 특정 판매 게시글의 상세 정보를 조회하는 API
      * [GET] /api/posts/{postId}
      * @param postId URL 경로에 포함된 게시글 ID
      */
     @GetMapping("/{postId}")
+    @VersionedResource("post:{postId}")
     public ResponseEntity<SalePostDetailResponseDTO> getSalePost(
             @PathVariable Long postId,
             @AuthenticationPrincipal LoginUserDTO loginUser) {
@@ -92,6 +174,25 @@ public class SalePostController {
         return ResponseEntity.created(URI.create("/api/posts/" + postId)).build();
     }
 
+    /**
+     * 판매 게시글 일괄 등록 API (학생회/나눔 행사용)
+     * [POST] /api/posts/import  (multipart: file, format=csv|jsonl 생략 시 확장자로 판단)
+     * 응답은 NDJSON 스트림: 행마다 {"row","status","postId"|"message"} 한 줄, 마지막 줄은 {"total","created","failed"}
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public void importSalePosts(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(name = "format", required = false) String format,
+            @AuthenticationPrincipal LoginUserDTO loginUser,
+            HttpServletResponse response) throws IOException {
+        BulkImportReader.Format resolved = BulkImportReader.Format.resolve(format, file.getOriginalFilename());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        try (InputStream in = file.getInputStream()) {
+            salePostBulkImportService.importPosts(in, resolved, loginUser.id(), response.getOutputStream());
+        }
+    }
+
     /**
      * ISBN 없는 경우 (프린트물 교재 등)
      * [직접 등록]으로 새 판매 게시글을 생성하는 API
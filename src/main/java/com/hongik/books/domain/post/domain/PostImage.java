@@ -26,9 +26,24 @@ public class PostImage {
     @Column(nullable = false, length = 2048)
     private String imageUrl; // GCP에 저장된 이미지 URL
 
+    // 파생 이미지 URL (비동기로 생성되며, 준비 전에는 null → 원본 사용 / 생성할 수 없는 형식이면 원본 URL이 들어감)
+    @Column(length = 2048)
+    private String thumbnailUrl; // 목록용 (ImageVariant.LIST)
+
+    @Column(length = 2048)
+    private String detailUrl; // 상세용 (ImageVariant.DETAIL)
+
     @Builder
     public PostImage(SalePost salePost, String imageUrl) {
         this.salePost = salePost;
         this.imageUrl = imageUrl;
     }
+
+    public String getListImageUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
+    public String getDetailImageUrl() {
+        return detailUrl != null ? detailUrl : imageUrl;
+    }
 }
@@ -24,6 +24,10 @@ import java.time.LocalDateTime;
                         name = "uk_post_like_user_post",
                         columnNames = {"user_id", "post_id"}
                 )
+        },
+        indexes = {
+                // 내가 찜한 글 목록 (user_id, post_like_id) keyset 스캔용
+                @Index(name = "idx_post_like_user_id", columnList = "user_id, post_like_id")
         }
 )
 public class PostLike {
@@ -11,7 +11,6 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
-import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.Check;
 
 import java.math.BigDecimal;
@@ -23,6 +22,15 @@ import java.util.List;
  * 판매 게시글 정보를 담는 SalePost Entity
  */
 @Getter @Entity
+@Table(indexes = {
+        // 커서 페이지네이션 (createdAt, post_id) / (price, post_id) keyset 스캔용
+        @Index(name = "idx_sale_post_created_at_id", columnList = "created_at, post_id"),
+        @Index(name = "idx_sale_post_price_id", columnList = "price, post_id"),
+        // 인기순(찜 많은 순) 정렬용
+        @Index(name = "idx_sale_post_like_count_id", columnList = "like_count, post_id"),
+        // 내 판매글 목록 (seller_id, post_id) keyset 스캔용
+        @Index(name = "idx_sale_post_seller_id", columnList = "seller_id, post_id")
+})
 @Check(constraints = "price >= 0 AND price <= 1000000000")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SalePost {
@@ -88,13 +96,15 @@ public class SalePost {
     private Double contentToxicClean;
     private String contentToxicReason;  // disabled | blank | unavailable | error | null
 
-    // 조회수
-    @Column(nullable = false)
+    // 조회수 (PostViewCounter가 누적분을 배치 UPDATE로 반영하므로 엔티티 변경 감지로는 쓰지 않는다)
+    @Column(nullable = false, updatable = false)
     @ColumnDefault("0")
     private int views = 0;
 
-    // 해당 게시글을 찜한 수 (정렬용 가상 컬럼)
-    @Formula("(select count(pl.post_like_id) from post_like pl where pl.post_id = post_id)")
+    // 해당 게시글을 찜한 수 (비정규화 컬럼)
+    // 찜/찜 취소 시 DB에서 원자적으로 증감하고(SalePostRepository), PostLikeCountReconciler가 주기적으로 보정한다
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
     private long likeCount;
 
     private String locationName;
@@ -180,8 +190,6 @@ public class SalePost {
         this.contentToxicReason = reason;
     }
 
-    public void increaseViewCount() { this.views++; }
-
     public void addPostImage(PostImage postImage) { this.postImages.add(postImage); }
 
     public void changeStatus(SaleStatus newStatus) { this.status = newStatus; }
@@ -0,0 +1,22 @@
+package com.hongik.books.domain.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 일괄 등록 행 단위 결과 (NDJSON 한 줄)
+ * @param row 입력 행 번호 (헤더 제외, 1부터)
+ * @param status CREATED | FAILED
+ * @param postId 생성된 게시글 ID (성공 시)
+ * @param message 실패 사유
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkImportResultDTO(int row, String status, Long postId, String message) {
+
+    public static BulkImportResultDTO created(int row, Long postId) {
+        return new BulkImportResultDTO(row, "CREATED", postId, null);
+    }
+
+    public static BulkImportResultDTO failed(int row, String message) {
+        return new BulkImportResultDTO(row, "FAILED", null, message);
+    }
+}
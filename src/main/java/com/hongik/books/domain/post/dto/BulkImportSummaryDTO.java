@@ -0,0 +1,7 @@
+package com.hongik.books.domain.post.dto;
+
+/**
+ * 일괄 등록 최종 집계 (NDJSON 마지막 줄)
+ */
+public record BulkImportSummaryDTO(int total, int created, int failed) {
+}
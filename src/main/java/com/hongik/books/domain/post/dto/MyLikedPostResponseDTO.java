@@ -1,6 +1,5 @@
 package com.hongik.books.domain.post.dto;
 
-import com.hongik.books.domain.post.domain.PostLike;
 import com.hongik.books.domain.post.domain.SalePost;
 
 import java.time.LocalDateTime;
@@ -17,20 +16,15 @@ public record MyLikedPostResponseDTO(
         String sellerNickname,
         LocalDateTime createdAt
 ) {
-    public static MyLikedPostResponseDTO from(PostLike postLike) {
-        SalePost salePost = postLike.getSalePost();
-        String thumbnailUrl = salePost.getPostImages().isEmpty()
-                ? null
-                : salePost.getPostImages().getFirst().getImageUrl();
-
+    public static MyLikedPostResponseDTO of(MyLikedPostRow row, String thumbnailUrl) {
         return new MyLikedPostResponseDTO(
-                salePost.getId(),
-                salePost.getPostTitle(),
-                salePost.getPrice(),
-                salePost.getStatus(),
+                row.postId(),
+                row.postTitle(),
+                row.price(),
+                row.status(),
                 thumbnailUrl,
-                salePost.getSeller().getUsername(),
-                salePost.getCreatedAt()
+                row.sellerNickname(),
+                row.createdAt()
         );
     }
-}
\ No newline at end of file
+}
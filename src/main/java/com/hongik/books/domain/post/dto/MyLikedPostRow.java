@@ -0,0 +1,19 @@
+package com.hongik.books.domain.post.dto;
+
+import com.hongik.books.domain.post.domain.SalePost;
+
+import java.time.LocalDateTime;
+
+/**
+ * '내가 찜한 글 목록' 프로젝션 (likeId는 커서 키, 대표 이미지는 페이지 단위로 따로 조회)
+ */
+public record MyLikedPostRow(
+        Long likeId,
+        Long postId,
+        String postTitle,
+        Integer price,
+        SalePost.SaleStatus status,
+        String sellerNickname,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,17 @@
+package com.hongik.books.domain.post.dto;
+
+import com.hongik.books.domain.post.domain.SalePost;
+
+import java.time.LocalDateTime;
+
+/**
+ * '내 판매글 목록' 프로젝션 (대표 이미지는 페이지 단위로 따로 조회)
+ */
+public record MyPostRow(
+        Long postId,
+        String bookTitle,
+        Integer price,
+        SalePost.SaleStatus status,
+        LocalDateTime createdAt
+) {
+}
@@ -15,18 +15,14 @@ public record MyPostSummaryResponseDTO(
         String thumbnailUrl,
         LocalDateTime createdAt
 ) {
-    public static MyPostSummaryResponseDTO fromEntity(SalePost salePost) {
-        String thumbnailUrl = salePost.getPostImages().isEmpty()
-                ? null // 이미지가 없으면 null
-                : salePost.getPostImages().getFirst().getImageUrl();
-
+    public static MyPostSummaryResponseDTO of(MyPostRow row, String thumbnailUrl) {
         return new MyPostSummaryResponseDTO(
-                salePost.getId(),
-                salePost.getBook().getTitle(),
-                salePost.getPrice(),
-                salePost.getStatus(),
-                thumbnailUrl,
-                salePost.getCreatedAt()
+                row.postId(),
+                row.bookTitle(),
+                row.price(),
+                row.status(),
+                thumbnailUrl, // 이미지가 없으면 null
+                row.createdAt()
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,9 @@
+package com.hongik.books.domain.post.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 순위 재구성용 프로젝션 (게시글 - 활동 시각, 예: 찜)
+ */
+public record PostActivityRow(Long postId, LocalDateTime occurredAt) {
+}
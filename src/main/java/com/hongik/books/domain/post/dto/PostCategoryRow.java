@@ -0,0 +1,7 @@
+package com.hongik.books.domain.post.dto;
+
+/**
+ * 패싯 색인 구축용 프로젝션 (게시글 - 책 카테고리 이름)
+ */
+public record PostCategoryRow(Long postId, String categoryName) {
+}
@@ -0,0 +1,29 @@
+package com.hongik.books.domain.post.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 판매글 목록 패싯(필터별 개수) 응답
+ * - 각 패싯의 개수는 해당 패싯 자신의 필터를 제외한 나머지 조건으로 계산
+ *   (예: 카테고리별 개수는 검색어/가격 조건만 적용 → 다른 카테고리로 바꿨을 때의 결과 수)
+ * - ready=false: 서버 시작 직후 패싯 색인이 아직 준비되지 않음 (개수는 모두 비어 있음)
+ */
+public record PostFacetResponseDTO(
+        long total,
+        Map<String, Long> categories,
+        Map<String, Long> statuses,
+        Map<String, Long> conditions,
+        List<PriceRangeCount> priceRanges,
+        boolean ready
+) {
+    public static PostFacetResponseDTO unavailable() {
+        return new PostFacetResponseDTO(0, Map.of(), Map.of(), Map.of(), List.of(), false);
+    }
+
+    /**
+     * 가격 구간별 개수 (minPrice 이상, maxPrice 미만 / maxPrice가 null이면 상한 없음)
+     */
+    public record PriceRangeCount(Integer minPrice, Integer maxPrice, long count) {
+    }
+}
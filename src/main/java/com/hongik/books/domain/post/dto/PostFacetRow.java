@@ -0,0 +1,17 @@
+package com.hongik.books.domain.post.dto;
+
+import com.hongik.books.domain.post.domain.Condition;
+import com.hongik.books.domain.post.domain.SalePost;
+
+/**
+ * 패싯 색인 구축용 프로젝션 (게시글 속성)
+ */
+public record PostFacetRow(
+        Long postId,
+        Integer price,
+        SalePost.SaleStatus status,
+        Condition writingCondition,
+        Condition tearCondition,
+        Condition waterCondition
+) {
+}
@@ -0,0 +1,16 @@
+package com.hongik.books.domain.post.dto;
+
+import com.hongik.books.domain.post.domain.SalePost;
+
+import java.math.BigDecimal;
+
+/**
+ * 위치 색인 구축용 프로젝션 (게시글 상태 + 거래 위치)
+ */
+public record PostGeoRow(
+        Long postId,
+        SalePost.SaleStatus status,
+        BigDecimal latitude,
+        BigDecimal longitude
+) {
+}
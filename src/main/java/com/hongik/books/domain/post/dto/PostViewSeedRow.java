@@ -0,0 +1,9 @@
+package com.hongik.books.domain.post.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 순위 재구성용 프로젝션 (게시글 - 누적 조회수 - 등록 시각)
+ */
+public record PostViewSeedRow(Long postId, Integer views, LocalDateTime createdAt) {
+}
@@ -0,0 +1,12 @@
+package com.hongik.books.domain.post.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최근 본 게시글 한 건 (Redis ZSET을 테이블 이력으로 채울 때 본 시각을 점수로 쓰기 위한 프로젝션)
+ */
+public record RecentlyViewedRow(
+        Long postId,
+        LocalDateTime viewedAt
+) {
+}
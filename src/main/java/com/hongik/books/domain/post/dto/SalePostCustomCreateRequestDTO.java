@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 
 @Getter
@@ -37,6 +38,16 @@ public class SalePostCustomCreateRequestDTO {
     @NotBlank private String oncampusPlaceCode;
     @NotBlank private String offcampusStationCode;
 
+    // 거래 희망 위치 (선택, 주변 게시글 검색에 사용)
+    @Size(max = 255) private String locationName;
+    @DecimalMin("-90") @DecimalMax("90") private BigDecimal latitude;
+    @DecimalMin("-180") @DecimalMax("180") private BigDecimal longitude;
+
+    @AssertTrue(message = "latitude와 longitude는 함께 입력해야 합니다.")
+    public boolean isLocationPaired() {
+        return (latitude == null) == (longitude == null);
+    }
+
     // ---- 카테고리 입력(여러 이름 허용) ----
     @Size(max = 20)  @JsonAlias({"main_category"})   @Setter private String mainCategory;
     @Size(max = 50)  @JsonAlias({"sub_category"})    @Setter private String subCategory;
@@ -3,6 +3,10 @@ package com.hongik.books.domain.post.dto;
 import com.hongik.books.domain.post.domain.Condition;
 import com.hongik.books.domain.post.domain.PostImage;
 import com.hongik.books.domain.post.domain.SalePost;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -12,6 +16,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE, onConstructor_ = @JsonCreator) // 상세 캐시(JSON) 역직렬화용
 public class SalePostDetailResponseDTO {
 
     // SalePost 정보
@@ -64,6 +70,13 @@ public class SalePostDetailResponseDTO {
         return new SalePostDetailResponseDTO(salePost);
     }
 
+    /**
+     * 조회수만 바꾼 사본 (조회수는 캐시에 넣지 않고 조회 시점 값으로 채운다)
+     */
+    public SalePostDetailResponseDTO withViews(long views) {
+        return toBuilder().views((int) Math.min(Integer.MAX_VALUE, views)).build();
+    }
+
     private SalePostDetailResponseDTO(SalePost salePost) {
         // SalePost
         this.postId = salePost.getId();
@@ -111,7 +124,7 @@ public class SalePostDetailResponseDTO {
 
         // 이미지
         this.postImageUrls = salePost.getPostImages().stream()
-                .map(PostImage::getImageUrl)
+                .map(PostImage::getDetailImageUrl)
                 .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,14 @@
+package com.hongik.books.domain.post.dto;
+
+/**
+ * 저장된 검색 매칭용 프로젝션 (새 게시글의 검색 필드 + 가격 + 판매자)
+ */
+public record SalePostMatchRow(
+        Long postId,
+        Long sellerId,
+        String postTitle,
+        String bookTitle,
+        String author,
+        Integer price
+) {
+}
@@ -0,0 +1,13 @@
+package com.hongik.books.domain.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * 주변 판매 게시글 응답 (목록 요약 + 기준점으로부터의 거리)
+ * @param distanceMeters 기준점(반경 검색의 중심 또는 사각형 중심)까지의 거리(m)
+ */
+public record SalePostNearbyResponseDTO(
+        @JsonUnwrapped SalePostSummaryResponseDTO post,
+        long distanceMeters
+) {
+}
@@ -0,0 +1,12 @@
+package com.hongik.books.domain.post.dto;
+
+/**
+ * 검색 색인 구축용 프로젝션 (게시글 제목 + 책 제목 + 저자)
+ */
+public record SalePostSearchDocument(
+        Long postId,
+        String postTitle,
+        String bookTitle,
+        String author
+) {
+}
@@ -22,6 +22,24 @@ public class SalePostSummaryResponseDTO {
     private final long likeCount;
     private final boolean hasToxicContent;
 
+    /**
+     * 프로젝션 조회(SalePostQueryRepository)용 생성자
+     */
+    public SalePostSummaryResponseDTO(Long postId, String postTitle, String author, int price,
+                                      String thumbnailUrl, SalePost.SaleStatus status, LocalDateTime createdAt,
+                                      String sellerNickname, long likeCount, boolean hasToxicContent) {
+        this.postId = postId;
+        this.postTitle = postTitle;
+        this.author = author;
+        this.price = price;
+        this.thumbnailUrl = thumbnailUrl;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.sellerNickname = sellerNickname;
+        this.likeCount = likeCount;
+        this.hasToxicContent = hasToxicContent;
+    }
+
     public static SalePostSummaryResponseDTO fromEntity(SalePost salePost) {
         return new SalePostSummaryResponseDTO(salePost);
     }
@@ -35,7 +53,7 @@ public class SalePostSummaryResponseDTO {
         // 이미지가 없는 경우를 대비해 null 체크
         this.thumbnailUrl = salePost.getPostImages().isEmpty()
                 ? null // 또는 기본 이미지 URL
-                : salePost.getPostImages().getFirst().getImageUrl();
+                : salePost.getPostImages().getFirst().getListImageUrl();
         this.status = salePost.getStatus();
         this.createdAt = salePost.getCreatedAt();
         this.sellerNickname = salePost.getSeller().getUsername();
@@ -0,0 +1,8 @@
+package com.hongik.books.domain.post.event;
+
+/**
+ * 게시글 찜/찜 취소 이벤트 (목록의 찜 수가 바뀌므로 커밋 이후 목록 응답 버전 갱신에 사용)
+ * @param liked 찜이면 true, 찜 취소면 false
+ */
+public record PostLikeChangedEvent(Long postId, boolean liked) {
+}
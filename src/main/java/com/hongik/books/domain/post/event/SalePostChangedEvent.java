@@ -0,0 +1,22 @@
+package com.hongik.books.domain.post.event;
+
+/**
+ * 판매 게시글 생성/수정/삭제 이벤트
+ * 트랜잭션 커밋 이후(@TransactionalEventListener) 검색 색인 등 부가 구조를 갱신하는 데 사용
+ */
+public record SalePostChangedEvent(Long postId, Type type) {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    public static SalePostChangedEvent created(Long postId) {
+        return new SalePostChangedEvent(postId, Type.CREATED);
+    }
+
+    public static SalePostChangedEvent updated(Long postId) {
+        return new SalePostChangedEvent(postId, Type.UPDATED);
+    }
+
+    public static SalePostChangedEvent deleted(Long postId) {
+        return new SalePostChangedEvent(postId, Type.DELETED);
+    }
+}
@@ -0,0 +1,36 @@
+package com.hongik.books.domain.post.repository;
+
+import com.hongik.books.domain.post.domain.PostImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * PostImage 엔티티를 위한 JPA 레포지토리
+ */
+public interface PostImageRepository extends JpaRepository<PostImage, Long> {
+
+    // 아직 파생 이미지가 만들어지지 않은 게시글 이미지
+    @Query("select pi from PostImage pi where pi.salePost.id = :postId and pi.thumbnailUrl is null")
+    List<PostImage> findWithoutDerivativesByPostId(@Param("postId") Long postId);
+
+    // 파생 이미지 URL 반영 (그 사이 이미지가 교체/삭제됐거나 다른 생성이 먼저 반영했으면 0건)
+    @Transactional
+    @Modifying
+    @Query("""
+        update PostImage pi
+           set pi.thumbnailUrl = :thumbnailUrl,
+               pi.detailUrl = :detailUrl
+         where pi.id = :postImageId
+           and pi.imageUrl = :imageUrl
+           and pi.thumbnailUrl is null
+    """)
+    int updateDerivatives(@Param("postImageId") Long postImageId,
+                          @Param("imageUrl") String imageUrl,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("detailUrl") String detailUrl);
+}
@@ -1,8 +1,15 @@
 package com.hongik.books.domain.post.repository;
 
 import com.hongik.books.domain.post.domain.PostLike;
+import com.hongik.books.domain.post.dto.MyLikedPostRow;
+import com.hongik.books.domain.post.dto.PostActivityRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +21,29 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     // 사용자와 게시글로 찜 정보를 찾음 (찜 여부 확인, 찜 취소 시 사용)
     Optional<PostLike> findByUserIdAndSalePostId(Long userId, Long postId);
 
-    // 특정 사용자가 찜한 모든 게시글 목록을 조회
-    List<PostLike> findAllByUserId(Long userId);
+    // 내가 찜한 게시글 목록 프로젝션 (찜 ID 내림차순 = 최근 찜한 순, cursorId가 있으면 그보다 작은 ID부터)
+    @Query("""
+        select new com.hongik.books.domain.post.dto.MyLikedPostRow(
+            pl.id, p.id, p.postTitle, p.price, p.status, s.username, p.createdAt)
+        from PostLike pl join pl.salePost p join p.seller s
+        where pl.user.id = :userId
+          and (:cursorId is null or pl.id < :cursorId)
+        order by pl.id desc
+    """)
+    List<MyLikedPostRow> findMyLikedPostRows(@Param("userId") Long userId, @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    // 찜 취소: 삭제된 행 수를 반환 (동시 취소 요청 시 한 요청만 1을 받는다)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from PostLike pl where pl.user.id = :userId and pl.salePost.id = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    // 인기 순위 재구성용: since 이후의 찜 (판매 완료 게시글 제외)
+    @Query("""
+        select new com.hongik.books.domain.post.dto.PostActivityRow(p.id, pl.createdAt)
+        from PostLike pl join pl.salePost p
+        where pl.createdAt >= :since
+          and p.status <> com.hongik.books.domain.post.domain.SalePost.SaleStatus.SOLD_OUT
+    """)
+    List<PostActivityRow> findActivityRowsSince(@Param("since") LocalDateTime since);
 }
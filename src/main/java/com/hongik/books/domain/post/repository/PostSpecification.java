@@ -4,12 +4,18 @@ import com.hongik.books.domain.book.domain.Book;
 import com.hongik.books.domain.book.domain.BookCategory;
 import com.hongik.books.domain.book.domain.Category;
 import com.hongik.books.domain.post.domain.SalePost;
+import com.hongik.books.domain.post.support.PostCursor;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -38,6 +44,29 @@ public class PostSpecification {
         };
     }
 
+    // 검색 색인이 찾아준 게시글 ID 목록으로 필터링하는 Specification
+    public static Specification<SalePost> idIn(Collection<Long> postIds) {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            if (postIds == null) {
+                return null;
+            }
+            if (postIds.isEmpty()) {
+                return criteriaBuilder.disjunction(); // 매칭 결과 없음
+            }
+            return root.get("id").in(postIds);
+        };
+    }
+
+    // 판매자로 필터링하는 Specification
+    public static Specification<SalePost> soldBy(Long sellerId) {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            if (sellerId == null) {
+                return null;
+            }
+            return criteriaBuilder.equal(root.get("seller").get("id"), sellerId);
+        };
+    }
+
     // 카테고리로 필터링하는 Specification
     public static Specification<SalePost> inCategory(String categoryName) {
         return (root, criteriaQuery, criteriaBuilder) -> {
@@ -53,6 +82,24 @@ public class PostSpecification {
         };
     }
 
+    // 여러 카테고리 중 하나라도 속하면 (이름이 하나면 inCategory와 같음)
+    // 조인 대신 서브쿼리로 거른다: 한 책이 여러 이름에 걸려도 게시글 행이 중복되지 않도록
+    public static Specification<SalePost> inAnyCategory(Collection<String> categoryNames) {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            if (categoryNames == null || categoryNames.isEmpty()) {
+                return null;
+            }
+            if (categoryNames.size() == 1) {
+                return inCategory(categoryNames.iterator().next()).toPredicate(root, criteriaQuery, criteriaBuilder);
+            }
+            Subquery<Long> bookIds = criteriaQuery.subquery(Long.class);
+            Root<BookCategory> bookCategory = bookIds.from(BookCategory.class);
+            bookIds.select(bookCategory.get("book").get("id"))
+                    .where(bookCategory.get("category").get("name").in(categoryNames));
+            return root.get("book").get("id").in(bookIds);
+        };
+    }
+
     // 가격 범위로 필터링하는 Specification
     public static Specification<SalePost> priceBetween(Integer minPrice, Integer maxPrice) {
         return (root, criteriaQuery, criteriaBuilder) -> {
@@ -70,4 +117,41 @@ public class PostSpecification {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    // keyset 페이지네이션: 커서(마지막 게시글)보다 뒤에 오는 게시글만 조회하는 Specification
+    // (정렬 키 < 커서 키) OR (정렬 키 = 커서 키 AND post_id < 커서 ID) 형태로 인덱스 범위 스캔이 가능하다
+    public static Specification<SalePost> after(PostCursor cursor) {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            if (cursor == null) {
+                return null; // 첫 페이지
+            }
+            Path<Long> id = root.get("id");
+            return switch (cursor.order()) {
+                case LATEST -> {
+                    Path<LocalDateTime> createdAt = root.get("createdAt");
+                    yield criteriaBuilder.or(
+                            criteriaBuilder.lessThan(createdAt, cursor.createdAt()),
+                            criteriaBuilder.and(
+                                    criteriaBuilder.equal(createdAt, cursor.createdAt()),
+                                    criteriaBuilder.lessThan(id, cursor.postId())));
+                }
+                case PRICE_ASC -> {
+                    Path<Integer> price = root.get("price");
+                    yield criteriaBuilder.or(
+                            criteriaBuilder.greaterThan(price, cursor.price()),
+                            criteriaBuilder.and(
+                                    criteriaBuilder.equal(price, cursor.price()),
+                                    criteriaBuilder.greaterThan(id, cursor.postId())));
+                }
+                case PRICE_DESC -> {
+                    Path<Integer> price = root.get("price");
+                    yield criteriaBuilder.or(
+                            criteriaBuilder.lessThan(price, cursor.price()),
+                            criteriaBuilder.and(
+                                    criteriaBuilder.equal(price, cursor.price()),
+                                    criteriaBuilder.lessThan(id, cursor.postId())));
+                }
+            };
+        };
+    }
 }
@@ -1,23 +1,39 @@
 package com.hongik.books.domain.post.repository;
 
 import com.hongik.books.domain.post.domain.RecentlyViewedPost;
+import com.hongik.books.domain.post.dto.RecentlyViewedRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 public interface RecentlyViewedPostRepository extends JpaRepository<RecentlyViewedPost, Long> {
-    Optional<RecentlyViewedPost> findByUserIdAndSalePostId(Long userId, Long postId);
 
-    List<RecentlyViewedPost> findTop10ByUserIdOrderByViewedAtDesc(Long userId);
-
-    List<RecentlyViewedPost> findTop5ByUserIdOrderByViewedAtDesc(Long userId);
-
-    long countByUserId(Long userId);
-
-    @Query("select r.id from RecentlyViewedPost r where r.user.id = :userId order by r.viewedAt desc")
-    List<Long> findIdsByUserOrderByViewedAtDesc(@Param("userId") Long userId);
+    @Query("select r.salePost.id from RecentlyViewedPost r where r.user.id = :userId order by r.viewedAt desc")
+    List<Long> findRecentPostIds(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+        select new com.hongik.books.domain.post.dto.RecentlyViewedRow(r.salePost.id, r.viewedAt)
+        from RecentlyViewedPost r
+        where r.user.id = :userId
+        order by r.viewedAt desc
+    """)
+    List<RecentlyViewedRow> findRecentViews(@Param("userId") Long userId, Pageable pageable);
+
+    // 이미 본 게시글이면 본 시각만 갱신 (엔티티 조회 없이 UPDATE 한 번)
+    @Modifying(clearAutomatically = true)
+    @Query("update RecentlyViewedPost r set r.viewedAt = :viewedAt where r.user.id = :userId and r.salePost.id = :postId")
+    int touch(@Param("userId") Long userId, @Param("postId") Long postId, @Param("viewedAt") LocalDateTime viewedAt);
+
+    // 보관 한도 경계: 최신순으로 pageable.offset 번째 기록의 본 시각
+    @Query("select r.viewedAt from RecentlyViewedPost r where r.user.id = :userId order by r.viewedAt desc")
+    List<LocalDateTime> findViewedAtDesc(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from RecentlyViewedPost r where r.user.id = :userId and r.viewedAt <= :cutoff")
+    int deleteViewedAtOrBefore(@Param("userId") Long userId, @Param("cutoff") LocalDateTime cutoff);
 }
-
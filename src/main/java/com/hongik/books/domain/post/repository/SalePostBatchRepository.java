@@ -0,0 +1,179 @@
+package com.hongik.books.domain.post.repository;
+
+import com.hongik.books.domain.book.dto.BookCategoryLink;
+import com.hongik.books.domain.post.domain.Condition;
+import com.hongik.books.domain.post.domain.SalePost;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 판매 게시글 일괄 등록용 JDBC 배치 INSERT
+ * - ID가 IDENTITY라 Hibernate는 INSERT를 배치로 묶지 못하므로, 청크 단위 PreparedStatement 배치를 직접 실행
+ * - 생성된 키는 입력 순서대로 돌려받는다 (MySQL은 rewriteBatchedStatements=true로 multi-row INSERT 한 번)
+ * - 호출한 쪽 트랜잭션(JPA 트랜잭션의 같은 커넥션)에 참여한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class SalePostBatchRepository {
+
+    private static final String INSERT_BOOK =
+            "insert into book (isbn, title, author, publisher, is_custom, original_price, created_at, updated_at) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_BOOK_CATEGORY =
+            "insert into book_category (book_id, category_id, created_at, updated_at) values (?, ?, ?, ?)";
+
+    private static final String INSERT_SALE_POST =
+            "insert into sale_post (seller_id, book_id, post_title, post_content, price, status, " +
+            "writing_condition, tear_condition, water_condition, negotiable, " +
+            "content_toxic, content_toxic_level, content_toxic_malicious, content_toxic_clean, content_toxic_reason, " +
+            "views, like_count, oncampus_place_code, offcampus_station_code, location_name, latitude, longitude, " +
+            "main_category, sub_category, detail_category, created_at, updated_at) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 새 책 한 건 (isbn이 null이면 직접 등록 책)
+     */
+    public record BookRow(String isbn, String title, String author, String publisher,
+                          boolean custom, Integer originalPrice) {
+    }
+
+    /**
+     * 새 판매 게시글 한 건 (상태는 FOR_SALE, 조회수/찜 수는 0으로 시작)
+     */
+    public record SalePostRow(Long sellerId, Long bookId, String postTitle, String postContent, int price,
+                              Condition writingCondition, Condition tearCondition, Condition waterCondition,
+                              boolean negotiable,
+                              boolean contentToxic, String contentToxicLevel,
+                              Double contentToxicMalicious, Double contentToxicClean, String contentToxicReason,
+                              String oncampusPlaceCode, String offcampusStationCode,
+                              String locationName, BigDecimal latitude, BigDecimal longitude,
+                              String mainCategory, String subCategory, String detailCategory) {
+    }
+
+    /**
+     * 책을 배치로 저장하고 생성된 book_id를 입력 순서대로 반환
+     */
+    public List<Long> insertBooks(List<BookRow> books) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insertReturningKeys(INSERT_BOOK, "book_id", books.size(), (ps, i) -> {
+            BookRow b = books.get(i);
+            ps.setString(1, b.isbn());
+            ps.setString(2, b.title());
+            ps.setString(3, b.author());
+            ps.setString(4, b.publisher());
+            ps.setBoolean(5, b.custom());
+            ps.setObject(6, b.originalPrice(), Types.INTEGER);
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    /**
+     * 책-카테고리 연결을 배치로 저장
+     */
+    public void insertBookCategories(List<BookCategoryLink> links) {
+        if (links.isEmpty()) return;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_BOOK_CATEGORY, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                BookCategoryLink link = links.get(i);
+                ps.setLong(1, link.bookId());
+                ps.setLong(2, link.categoryId());
+                ps.setTimestamp(3, now);
+                ps.setTimestamp(4, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return links.size();
+            }
+        });
+    }
+
+    /**
+     * 판매 게시글을 배치로 저장하고 생성된 post_id를 입력 순서대로 반환
+     */
+    public List<Long> insertSalePosts(List<SalePostRow> posts) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insertReturningKeys(INSERT_SALE_POST, "post_id", posts.size(), (ps, i) -> {
+            SalePostRow p = posts.get(i);
+            ps.setLong(1, p.sellerId());
+            ps.setLong(2, p.bookId());
+            ps.setString(3, p.postTitle());
+            ps.setString(4, p.postContent());
+            ps.setInt(5, p.price());
+            ps.setString(6, SalePost.SaleStatus.FOR_SALE.name());
+            ps.setString(7, p.writingCondition().name());
+            ps.setString(8, p.tearCondition().name());
+            ps.setString(9, p.waterCondition().name());
+            ps.setBoolean(10, p.negotiable());
+            ps.setBoolean(11, p.contentToxic());
+            ps.setString(12, p.contentToxicLevel());
+            ps.setObject(13, p.contentToxicMalicious(), Types.DOUBLE);
+            ps.setObject(14, p.contentToxicClean(), Types.DOUBLE);
+            ps.setString(15, p.contentToxicReason());
+            ps.setString(16, p.oncampusPlaceCode());
+            ps.setString(17, p.offcampusStationCode());
+            ps.setString(18, p.locationName());
+            ps.setBigDecimal(19, p.latitude());
+            ps.setBigDecimal(20, p.longitude());
+            ps.setString(21, p.mainCategory());
+            ps.setString(22, p.subCategory());
+            ps.setString(23, p.detailCategory());
+            ps.setTimestamp(24, now);
+            ps.setTimestamp(25, now);
+        });
+    }
+
+    private List<Long> insertReturningKeys(String sql, String keyColumn, int size, RowBinder binder) {
+        if (size == 0) return List.of();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(sql, new String[]{keyColumn}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        binder.bind(ps, i);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return size;
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != size) {
+            throw new IllegalStateException("생성된 키 개수가 일치하지 않습니다. (" + keys.size() + "/" + size + ")");
+        }
+        List<Long> ids = new ArrayList<>(size);
+        for (Map<String, Object> key : keys) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int index) throws SQLException;
+    }
+}
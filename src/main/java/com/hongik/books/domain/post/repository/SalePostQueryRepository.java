@@ -0,0 +1,31 @@
+package com.hongik.books.domain.post.repository;
+
+import com.hongik.books.domain.post.domain.SalePost;
+import com.hongik.books.domain.post.dto.SalePostSummaryResponseDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 판매글 목록(요약) 전용 프로젝션 조회
+ * 엔티티를 로딩하지 않고 필요한 컬럼만 가져와 book/seller/postImages 지연 로딩(N+1)을 없앤다
+ * - 본문 1회 (sale_post + book + user 조인) + 대표 이미지 1회 (+ Page일 때 count 1회)
+ */
+public interface SalePostQueryRepository {
+
+    Page<SalePostSummaryResponseDTO> findSummaries(Specification<SalePost> spec, Pageable pageable);
+
+    // count 없이 정렬 + 최대 limit건 (커서 페이지네이션, 판매자 글 목록 등)
+    List<SalePostSummaryResponseDTO> findSummaries(Specification<SalePost> spec, Sort sort, int limit);
+
+    // 주어진 ID 순서를 유지해 반환 (존재하지 않는 ID는 제외)
+    List<SalePostSummaryResponseDTO> findSummariesByIds(List<Long> postIds);
+
+    // 게시글별 첫 번째 이미지 URL (postId -> imageUrl)
+    Map<Long, String> findFirstImageUrls(Collection<Long> postIds);
+}
@@ -0,0 +1,147 @@
+package com.hongik.books.domain.post.repository;
+
+import com.hongik.books.domain.book.domain.Book;
+import com.hongik.books.domain.post.domain.SalePost;
+import com.hongik.books.domain.post.dto.SalePostSummaryResponseDTO;
+import com.hongik.books.domain.user.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * SalePostQueryRepository 구현 (Criteria 튜플 프로젝션)
+ * Specification(PostSpecification)은 엔티티 조회와 동일하게 재사용한다
+ */
+@RequiredArgsConstructor
+public class SalePostQueryRepositoryImpl implements SalePostQueryRepository {
+
+    private final EntityManager em;
+
+    @Override
+    public Page<SalePostSummaryResponseDTO> findSummaries(Specification<SalePost> spec, Pageable pageable) {
+        TypedQuery<Tuple> query = summaryQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<SalePostSummaryResponseDTO> content = toSummaries(query.getResultList());
+        // 마지막 페이지 등 전체 건수를 계산할 수 있으면 count 쿼리를 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<SalePostSummaryResponseDTO> findSummaries(Specification<SalePost> spec, Sort sort, int limit) {
+        TypedQuery<Tuple> query = summaryQuery(spec, sort);
+        query.setMaxResults(limit);
+        return toSummaries(query.getResultList());
+    }
+
+    @Override
+    public List<SalePostSummaryResponseDTO> findSummariesByIds(List<Long> postIds) {
+        if (postIds.isEmpty()) return List.of();
+        Specification<SalePost> byIds = (root, cq, cb) -> root.get("id").in(postIds);
+        Map<Long, SalePostSummaryResponseDTO> byId = new HashMap<>();
+        for (SalePostSummaryResponseDTO summary : toSummaries(summaryQuery(byIds, Sort.unsorted()).getResultList())) {
+            byId.put(summary.getPostId(), summary);
+        }
+        return postIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public Map<Long, String> findFirstImageUrls(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        // 게시글별 가장 먼저 등록된(= 가장 작은 ID) 이미지가 대표 이미지 (목록용 썸네일이 준비됐으면 썸네일)
+        List<Object[]> rows = em.createQuery("""
+                select pi.salePost.id, coalesce(pi.thumbnailUrl, pi.imageUrl)
+                from PostImage pi
+                where pi.id in (
+                    select min(pi2.id) from PostImage pi2
+                    where pi2.salePost.id in :postIds
+                    group by pi2.salePost.id
+                )
+                """, Object[].class)
+                .setParameter("postIds", postIds)
+                .getResultList();
+        Map<Long, String> urls = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            urls.put((Long) row[0], (String) row[1]);
+        }
+        return urls;
+    }
+
+    private TypedQuery<Tuple> summaryQuery(Specification<SalePost> spec, Sort sort) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<SalePost> root = cq.from(SalePost.class);
+        Join<SalePost, Book> book = root.join("book");
+        Join<SalePost, User> seller = root.join("seller");
+
+        cq.multiselect(
+                root.get("id").alias("postId"),
+                root.get("postTitle").alias("postTitle"),
+                book.get("author").alias("author"),
+                root.get("price").alias("price"),
+                root.get("status").alias("status"),
+                root.get("createdAt").alias("createdAt"),
+                seller.get("username").alias("sellerNickname"),
+                root.get("likeCount").alias("likeCount"),
+                root.get("contentToxic").alias("contentToxic")
+        );
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, cq, cb);
+        if (predicate != null) cq.where(predicate);
+        if (sort.isSorted()) cq.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return em.createQuery(cq);
+    }
+
+    private long count(Specification<SalePost> spec) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<SalePost> root = cq.from(SalePost.class);
+        cq.select(cb.count(root));
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, cq, cb);
+        if (predicate != null) cq.where(predicate);
+        return em.createQuery(cq).getSingleResult();
+    }
+
+    private List<SalePostSummaryResponseDTO> toSummaries(List<Tuple> rows) {
+        if (rows.isEmpty()) return List.of();
+        List<Long> postIds = rows.stream().map(t -> t.get("postId", Long.class)).toList();
+        Map<Long, String> thumbnails = findFirstImageUrls(postIds);
+
+        List<SalePostSummaryResponseDTO> summaries = new ArrayList<>(rows.size());
+        for (Tuple t : rows) {
+            Long postId = t.get("postId", Long.class);
+            summaries.add(new SalePostSummaryResponseDTO(
+                    postId,
+                    t.get("postTitle", String.class),
+                    t.get("author", String.class),
+                    t.get("price", Integer.class),
+                    thumbnails.get(postId),
+                    t.get("status", SalePost.SaleStatus.class),
+                    t.get("createdAt", LocalDateTime.class),
+                    t.get("sellerNickname", String.class),
+                    t.get("likeCount", Long.class),
+                    t.get("contentToxic", Boolean.class)
+            ));
+        }
+        return summaries;
+    }
+}
@@ -1,19 +1,160 @@
 package com.hongik.books.domain.post.repository;
 
 import com.hongik.books.domain.post.domain.SalePost;
+import com.hongik.books.domain.post.dto.MyPostRow;
+import com.hongik.books.domain.post.dto.PostCategoryRow;
+import com.hongik.books.domain.post.dto.PostFacetRow;
+import com.hongik.books.domain.post.dto.PostGeoRow;
+import com.hongik.books.domain.post.dto.PostViewSeedRow;
+import com.hongik.books.domain.post.dto.SalePostMatchRow;
+import com.hongik.books.domain.post.dto.SalePostSearchDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SalePost 엔티티를 위한 JPA 레포지토리
  */
-public interface SalePostRepository extends JpaRepository<SalePost, Long>, JpaSpecificationExecutor<SalePost> {
-    // 특정 판매자가 작성한 모든 게시글을 최신순으로 조회
-    List<SalePost> findAllBySellerIdOrderByCreatedAtDesc(Long sellerId);
+public interface SalePostRepository extends JpaRepository<SalePost, Long>, JpaSpecificationExecutor<SalePost>,
+        SalePostQueryRepository {
+    // 내 판매글 목록 프로젝션 (post_id 내림차순 = 최신순, cursorId가 있으면 그보다 작은 ID부터)
+    @Query("""
+        select new com.hongik.books.domain.post.dto.MyPostRow(p.id, b.title, p.price, p.status, p.createdAt)
+        from SalePost p join p.book b
+        where p.seller.id = :sellerId
+          and (:cursorId is null or p.id < :cursorId)
+        order by p.id desc
+    """)
+    List<MyPostRow> findMyPostRows(@Param("sellerId") Long sellerId, @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+
+    // 검색 색인 적재용 프로젝션 (엔티티 그래프를 로딩하지 않음)
+    @Query("""
+        select new com.hongik.books.domain.post.dto.SalePostSearchDocument(p.id, p.postTitle, b.title, b.author)
+        from SalePost p join p.book b
+    """)
+    List<SalePostSearchDocument> findAllSearchDocuments();
+
+    @Query("""
+        select new com.hongik.books.domain.post.dto.SalePostSearchDocument(p.id, p.postTitle, b.title, b.author)
+        from SalePost p join p.book b
+        where p.id = :postId
+    """)
+    Optional<SalePostSearchDocument> findSearchDocumentById(@Param("postId") Long postId);
+
+    // 패싯 색인 적재용 프로젝션
+    @Query("""
+        select new com.hongik.books.domain.post.dto.PostFacetRow(
+            p.id, p.price, p.status, p.writingCondition, p.tearCondition, p.waterCondition)
+        from SalePost p
+    """)
+    List<PostFacetRow> findAllFacetRows();
+
+    @Query("""
+        select new com.hongik.books.domain.post.dto.PostCategoryRow(p.id, c.name)
+        from SalePost p join p.book b join b.bookCategories bc join bc.category c
+    """)
+    List<PostCategoryRow> findAllPostCategoryRows();
+
+    // 같은 책을 공유하는 게시글들 (책 카테고리가 바뀌면 함께 갱신해야 함)
+    @Query("""
+        select new com.hongik.books.domain.post.dto.PostFacetRow(
+            p.id, p.price, p.status, p.writingCondition, p.tearCondition, p.waterCondition)
+        from SalePost p
+        where p.book.id = (select p2.book.id from SalePost p2 where p2.id = :postId)
+    """)
+    List<PostFacetRow> findFacetRowsSharingBookWith(@Param("postId") Long postId);
+
+    @Query("""
+        select new com.hongik.books.domain.post.dto.PostCategoryRow(p.id, c.name)
+        from SalePost p join p.book b join b.bookCategories bc join bc.category c
+        where b.id = (select p2.book.id from SalePost p2 where p2.id = :postId)
+    """)
+    List<PostCategoryRow> findCategoryRowsSharingBookWith(@Param("postId") Long postId);
+
+    // 위치 색인 적재용 프로젝션 (좌표가 있고 판매 완료가 아닌 게시글)
+    @Query("""
+        select new com.hongik.books.domain.post.dto.PostGeoRow(p.id, p.status, p.latitude, p.longitude)
+        from SalePost p
+        where p.latitude is not null and p.longitude is not null
+          and p.status <> com.hongik.books.domain.post.domain.SalePost.SaleStatus.SOLD_OUT
+    """)
+    List<PostGeoRow> findAllActiveGeoRows();
+
+    @Query("""
+        select new com.hongik.books.domain.post.dto.PostGeoRow(p.id, p.status, p.latitude, p.longitude)
+        from SalePost p
+        where p.id = :postId
+    """)
+    Optional<PostGeoRow> findGeoRowById(@Param("postId") Long postId);
+
+    // 저장된 검색 매칭용 프로젝션
+    @Query("""
+        select new com.hongik.books.domain.post.dto.SalePostMatchRow(
+            p.id, p.seller.id, p.postTitle, b.title, b.author, p.price)
+        from SalePost p join p.book b
+        where p.id = :postId
+    """)
+    Optional<SalePostMatchRow> findMatchRowById(@Param("postId") Long postId);
+
+    @Query("""
+        select c.name
+        from SalePost p join p.book b join b.bookCategories bc join bc.category c
+        where p.id = :postId
+    """)
+    List<String> findCategoryNamesById(@Param("postId") Long postId);
+
+    // 인기 순위 재구성용: since 이후 등록된 판매 중/예약 중 게시글의 누적 조회수
+    @Query("""
+        select new com.hongik.books.domain.post.dto.PostViewSeedRow(p.id, p.views, p.createdAt)
+        from SalePost p
+        where p.createdAt >= :since
+          and p.status <> com.hongik.books.domain.post.domain.SalePost.SaleStatus.SOLD_OUT
+    """)
+    List<PostViewSeedRow> findViewSeedRowsSince(@Param("since") LocalDateTime since);
+
+    @Query("select p.status from SalePost p where p.id = :postId")
+    Optional<SalePost.SaleStatus> findStatusById(@Param("postId") Long postId);
+
+    // 검색 색인을 쓸 수 없을 때 LIKE 검색으로 매칭 ID만 조회
+    @Query("""
+        select p.id from SalePost p join p.book b
+        where p.postTitle like concat('%', :query, '%')
+           or b.title like concat('%', :query, '%')
+           or b.author like concat('%', :query, '%')
+    """)
+    List<Long> findIdsByKeyword(@Param("query") String query);
+
+    // 판매자의 게시글 ID (판매자 프로필 변경 시 상세 캐시/응답 버전 갱신)
+    @Query("select p.id from SalePost p where p.seller.id = :sellerId")
+    List<Long> findIdsBySellerId(@Param("sellerId") Long sellerId);
+
+    // 상세 캐시 hit 시 조회수만 PK로 조회
+    @Query("select p.views from SalePost p where p.id = :postId")
+    Optional<Integer> findViewsById(@Param("postId") Long postId);
+
+    // 찜 수 원자적 증감 (영속성 컨텍스트를 거치지 않고 DB에서 바로 갱신)
+    @Modifying(flushAutomatically = true)
+    @Query("update SalePost p set p.likeCount = p.likeCount + 1 where p.id = :postId")
+    int incrementLikeCount(@Param("postId") Long postId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update SalePost p set p.likeCount = p.likeCount - 1 where p.id = :postId and p.likeCount > 0")
+    int decrementLikeCount(@Param("postId") Long postId);
 
-    Page<SalePost> findAllBySellerId(Long sellerId, Pageable pageable);
+    // 실제 post_like 개수와 어긋난 like_count만 보정하고, 보정된 게시글 수를 반환
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        update sale_post p
+           set like_count = (select count(*) from post_like pl where pl.post_id = p.post_id)
+         where p.like_count <> (select count(*) from post_like pl where pl.post_id = p.post_id)
+    """, nativeQuery = true)
+    int reconcileLikeCounts();
 }
@@ -0,0 +1,67 @@
+package com.hongik.books.domain.post.service;
+
+import com.hongik.books.domain.post.domain.RecentlyViewedPost;
+import com.hongik.books.domain.post.dto.RecentlyViewedRow;
+import com.hongik.books.domain.post.repository.RecentlyViewedPostRepository;
+import com.hongik.books.domain.post.repository.SalePostRepository;
+import com.hongik.books.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * recently_viewed_post 테이블 기반 저장소
+ * - store=jpa일 때 기본 저장소, store=redis일 때는 선택적 보관소(archive)로 사용
+ * - 조회 기록: UPDATE 한 번, 처음 본 게시글이면 참조 프록시로 INSERT (사용자/게시글 SELECT 없음)
+ * - 한도 정리: 한도 경계의 본 시각 한 건만 조회해 그 이전 기록을 DELETE 한 번으로 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaRecentlyViewedStore implements RecentlyViewedStore {
+
+    private final RecentlyViewedPostRepository recentlyViewedPostRepository;
+    private final UserRepository userRepository;
+    private final SalePostRepository salePostRepository;
+
+    @Value("${app.post.recently-viewed.max-size:50}")
+    private int maxSize;
+
+    @Override
+    @Transactional
+    public void record(Long userId, Long postId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (recentlyViewedPostRepository.touch(userId, postId, now) == 0) {
+            recentlyViewedPostRepository.save(new RecentlyViewedPost(
+                    userRepository.getReferenceById(userId),
+                    salePostRepository.getReferenceById(postId)));
+            trimIfNeeded(userId);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> recentPostIds(Long userId, int limit) {
+        return recentlyViewedPostRepository.findRecentPostIds(userId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 최근 본 순서대로 게시글 ID + 본 시각 (Redis 저장소의 ZSET 채우기용)
+     */
+    @Transactional(readOnly = true)
+    public List<RecentlyViewedRow> recentViews(Long userId, int limit) {
+        return recentlyViewedPostRepository.findRecentViews(userId, PageRequest.of(0, limit));
+    }
+
+    // 새 기록이 생겼을 때만: 최신순 maxSize+1 번째 기록이 있으면 그 시각 이전 기록을 모두 삭제
+    private void trimIfNeeded(Long userId) {
+        List<LocalDateTime> boundary = recentlyViewedPostRepository.findViewedAtDesc(
+                userId, PageRequest.of(maxSize, 1));
+        if (boundary.isEmpty() || boundary.get(0) == null) return;
+        recentlyViewedPostRepository.deleteViewedAtOrBefore(userId, boundary.get(0));
+    }
+}
@@ -0,0 +1,156 @@
+package com.hongik.books.domain.post.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hongik.books.domain.post.dto.SalePostDetailResponseDTO;
+import com.hongik.books.domain.post.event.SalePostChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 판매 게시글 상세 2단 캐시 (로컬 LRU → Redis)
+ * - 로컬: 인스턴스별 LRU, 짧은 TTL (다른 인스턴스의 수정은 이 TTL 안에 반영)
+ * - Redis: post:detail:{postId} 에 상세 DTO JSON 저장
+ * - 조회수는 캐시에 넣지 않는다 (조회 시 DB 값 + 미반영 누적분으로 채움)
+ * - SalePostChangedEvent(커밋 이후)로 무효화. Redis 장애 시 캐시 없이 DB 조회로 동작
+ * - 무효화할 때마다 post:detail:ver:{postId} 세대 번호를 올린다. DB에서 읽기 전에 받은 세대 번호가
+ *   쓰는 시점에도 같을 때만 저장(Lua 한 번)하므로, 읽는 사이 커밋된 수정 이전 값이 다시 캐시되지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDetailCache {
+
+    private static final String KEY_PREFIX = "post:detail:";
+    private static final String VERSION_KEY_PREFIX = "post:detail:ver:";
+
+    // KEYS[1]=상세 키, KEYS[2]=세대 키, ARGV[1]=읽기 전 세대, ARGV[2]=JSON, ARGV[3]=TTL(초)
+    private static final RedisScript<Long> PUT_IF_SAME_VERSION = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "redis.call('set', KEYS[1], ARGV[2], 'EX', ARGV[3]) return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.post.detail-cache.local-max-size:1000}")
+    private int localMaxSize;
+
+    @Value("${app.post.detail-cache.local-ttl-seconds:10}")
+    private long localTtlSeconds;
+
+    @Value("${app.post.detail-cache.redis-ttl-seconds:600}")
+    private long redisTtlSeconds;
+
+    private final Map<Long, LocalEntry> local = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, LocalEntry> eldest) {
+            return size() > localMaxSize;
+        }
+    };
+
+    private record LocalEntry(SalePostDetailResponseDTO value, long expiresAt) {}
+
+    public Optional<SalePostDetailResponseDTO> get(Long postId) {
+        SalePostDetailResponseDTO hit = getLocal(postId);
+        if (hit != null) return Optional.of(hit);
+
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + postId);
+            if (json == null) return Optional.empty();
+            SalePostDetailResponseDTO value = objectMapper.readValue(json, SalePostDetailResponseDTO.class);
+            putLocal(postId, value);
+            return Optional.of(value);
+        } catch (Exception e) {
+            log.debug("Post detail cache read failed (postId={}): {}", postId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 현재 세대 번호 (DB에서 상세를 읽기 전에 받아 put에 넘긴다). Redis를 쓸 수 없으면 -1
+     */
+    public long version(Long postId) {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + postId);
+            return version == null ? 0 : Long.parseLong(version);
+        } catch (Exception e) {
+            log.debug("Post detail cache version read failed (postId={}): {}", postId, e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 읽기 전 세대 번호(version)가 그대로일 때만 저장 (그 사이 무효화됐으면 버린다)
+     */
+    public void put(Long postId, SalePostDetailResponseDTO detail, long version) {
+        if (version < 0) return;
+        SalePostDetailResponseDTO value = detail.withViews(0);
+        try {
+            Long stored = redisTemplate.execute(PUT_IF_SAME_VERSION,
+                    List.of(KEY_PREFIX + postId, VERSION_KEY_PREFIX + postId),
+                    Long.toString(version), objectMapper.writeValueAsString(value), Long.toString(redisTtlSeconds));
+            if (stored != null && stored == 1) putLocal(postId, value);
+        } catch (Exception e) {
+            log.debug("Post detail cache write failed (postId={}): {}", postId, e.getMessage());
+        }
+    }
+
+    public void evict(Long postId) {
+        synchronized (local) {
+            local.remove(postId);
+        }
+        try {
+            // 세대를 먼저 올려 진행 중인 put을 무효로 만든 뒤 삭제 (세대 키는 상세 TTL보다 오래 유지)
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] versionKey = (VERSION_KEY_PREFIX + postId).getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().incr(versionKey);
+                connection.keyCommands().expire(versionKey, redisTtlSeconds * 2);
+                connection.keyCommands().del((KEY_PREFIX + postId).getBytes(StandardCharsets.UTF_8));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Post detail cache evict failed (postId={}): {}", postId, e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSalePostChanged(SalePostChangedEvent event) {
+        if (event.type() != SalePostChangedEvent.Type.CREATED) {
+            evict(event.postId());
+        }
+    }
+
+    private SalePostDetailResponseDTO getLocal(Long postId) {
+        synchronized (local) {
+            LocalEntry entry = local.get(postId);
+            if (entry == null) return null;
+            if (entry.expiresAt() < System.currentTimeMillis()) {
+                local.remove(postId);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    private void putLocal(Long postId, SalePostDetailResponseDTO value) {
+        long expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(localTtlSeconds);
+        synchronized (local) {
+            local.put(postId, new LocalEntry(value, expiresAt));
+        }
+    }
+}
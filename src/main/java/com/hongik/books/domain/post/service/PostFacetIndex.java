@@ -0,0 +1,298 @@
+package com.hongik.books.domain.post.service;
+
+import com.hongik.books.domain.post.domain.Condition;
+import com.hongik.books.domain.post.domain.SalePost;
+import com.hongik.books.domain.post.dto.PostCategoryRow;
+import com.hongik.books.domain.post.dto.PostFacetResponseDTO;
+import com.hongik.books.domain.post.dto.PostFacetRow;
+import com.hongik.books.domain.post.event.SalePostChangedEvent;
+import com.hongik.books.domain.post.repository.SalePostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 판매글 패싯(카테고리/상태/책 상태/가격대별 개수) 계산용 인메모리 비트맵 색인
+ * - post_id를 비트 위치로 쓰는 BitSet을 속성 값마다 하나씩 유지
+ * - 필터 적용과 개수 계산을 BitSet AND + cardinality로 처리하므로 DB 왕복 없이 한 번에 모든 패싯을 계산
+ * - 카테고리는 PostSpecification.inCategory와 같은 기준(게시글의 책에 연결된 카테고리 이름)으로 색인
+ * - 애플리케이션 시작 시 적재, 이후 SalePostChangedEvent(커밋 이후)로 갱신
+ * - 적재가 끝나기 전(또는 실패 후 재시도 전)에는 요청 스레드에서 적재하지 않고 준비되지 않은 패싯을 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostFacetIndex {
+
+    // 가격대 경계 (구간: [0, 5천), [5천, 1만), ... , [5만, ∞))
+    private static final int[] PRICE_BOUNDS = {0, 5_000, 10_000, 20_000, 30_000, 50_000};
+
+    private final SalePostRepository salePostRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final BitSet alive = new BitSet();
+    private final Map<String, BitSet> byCategory = new HashMap<>();
+    private final Map<SalePost.SaleStatus, BitSet> byStatus = new EnumMap<>(SalePost.SaleStatus.class);
+    private final Map<Condition, BitSet> byCondition = new EnumMap<>(Condition.class);
+    private final BitSet[] byPriceRange = new BitSet[PRICE_BOUNDS.length];
+    // 정확한 가격 범위(minPrice/maxPrice) 필터용
+    private int[] prices = new int[1024];
+    // 게시글 삭제/수정 시 카테고리 비트 제거용
+    private final Map<Integer, Set<String>> categoriesOf = new HashMap<>();
+    private volatile boolean ready = false;
+
+    {
+        for (SalePost.SaleStatus status : SalePost.SaleStatus.values()) byStatus.put(status, new BitSet());
+        for (Condition condition : Condition.values()) byCondition.put(condition, new BitSet());
+        for (int i = 0; i < byPriceRange.length; i++) byPriceRange[i] = new BitSet();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            alive.clear();
+            byCategory.clear();
+            byStatus.values().forEach(BitSet::clear);
+            byCondition.values().forEach(BitSet::clear);
+            for (BitSet bits : byPriceRange) bits.clear();
+            categoriesOf.clear();
+
+            Map<Long, List<String>> categories = groupCategories(salePostRepository.findAllPostCategoryRows());
+            for (PostFacetRow row : salePostRepository.findAllFacetRows()) {
+                putInternal(row, categories.getOrDefault(row.postId(), List.of()));
+            }
+            ready = true;
+            log.info("Sale post facet index built: {} posts, {} categories", alive.cardinality(), byCategory.size());
+        } catch (Exception e) {
+            log.warn("Sale post facet index build failed: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 시작 시 적재에 실패했으면 주기적으로 다시 시도
+    @Scheduled(initialDelayString = "${app.post.index.retry-interval-ms:60000}",
+            fixedDelayString = "${app.post.index.retry-interval-ms:60000}")
+    public void retryRebuild() {
+        if (!ready) rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSalePostChanged(SalePostChangedEvent event) {
+        if (event.type() == SalePostChangedEvent.Type.DELETED) {
+            remove(event.postId());
+            return;
+        }
+        // 같은 책(ISBN)을 쓰는 게시글은 책 카테고리를 공유하므로 함께 다시 색인
+        List<PostFacetRow> rows = salePostRepository.findFacetRowsSharingBookWith(event.postId());
+        Map<Long, List<String>> categories = groupCategories(
+                salePostRepository.findCategoryRowsSharingBookWith(event.postId()));
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(toBit(event.postId()));
+            for (PostFacetRow row : rows) {
+                removeInternal(toBit(row.postId()));
+                putInternal(row, categories.getOrDefault(row.postId(), List.of()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(toBit(postId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 패싯 개수 계산
+     * 색인이 아직 준비되지 않았으면 PostFacetResponseDTO.unavailable()
+     * @param matchedPostIds 검색어로 매칭된 게시글 ID (검색어가 없으면 null, 목록 조회와 같은 후보)
+     * @param categories     카테고리 필터 (한국어 정규화된 이름 중 하나라도, 없으면 빈 목록)
+     */
+    public PostFacetResponseDTO count(Collection<Long> matchedPostIds, Collection<String> categories,
+                                      Integer minPrice, Integer maxPrice) {
+        if (!ready) return PostFacetResponseDTO.unavailable();
+
+        lock.readLock().lock();
+        try {
+            BitSet base = (BitSet) alive.clone();
+            if (matchedPostIds != null) {
+                BitSet matched = new BitSet();
+                for (Long postId : matchedPostIds) matched.set(toBit(postId));
+                base.and(matched);
+            }
+            BitSet categoryMask = categoryMask(categories);
+            BitSet priceMask = (minPrice == null && maxPrice == null) ? null : priceMask(base, minPrice, maxPrice);
+
+            BitSet withoutCategory = and(base, priceMask);   // 카테고리 패싯용
+            BitSet withoutPrice = and(base, categoryMask);   // 가격대 패싯용
+            BitSet filtered = and(withoutCategory, categoryMask);
+
+            Map<String, Long> statuses = new LinkedHashMap<>();
+            byStatus.forEach((status, bits) -> statuses.put(status.name(), intersectCount(filtered, bits)));
+
+            Map<String, Long> conditions = new LinkedHashMap<>();
+            byCondition.forEach((condition, bits) -> conditions.put(condition.name(), intersectCount(filtered, bits)));
+
+            Map<String, Long> categoryCounts = byCategory.entrySet().stream()
+                    .map(e -> Map.entry(e.getKey(), intersectCount(withoutCategory, e.getValue())))
+                    .filter(e -> e.getValue() > 0)
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+
+            List<PostFacetResponseDTO.PriceRangeCount> priceRanges = new ArrayList<>(PRICE_BOUNDS.length);
+            for (int i = 0; i < PRICE_BOUNDS.length; i++) {
+                Integer upper = (i + 1 < PRICE_BOUNDS.length) ? PRICE_BOUNDS[i + 1] : null;
+                priceRanges.add(new PostFacetResponseDTO.PriceRangeCount(
+                        PRICE_BOUNDS[i], upper, intersectCount(withoutPrice, byPriceRange[i])));
+            }
+
+            return new PostFacetResponseDTO(filtered.cardinality(), categoryCounts, statuses, conditions, priceRanges, true);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 ID 중 카테고리/가격 조건을 만족하는 것만 순서를 유지해 반환 (목록 검색의 후보 축소용)
+     * 색인이 준비되지 않았으면 Optional.empty() (호출 측에서 DB 조건만으로 거른다)
+     */
+    public Optional<List<Long>> filter(List<Long> postIds, Collection<String> categories,
+                                       Integer minPrice, Integer maxPrice) {
+        if (categories.isEmpty() && minPrice == null && maxPrice == null) return Optional.of(postIds);
+        if (!ready) return Optional.empty();
+
+        lock.readLock().lock();
+        try {
+            BitSet categoryMask = categoryMask(categories);
+            List<Long> result = new ArrayList<>();
+            for (Long postId : postIds) {
+                int bit = toBit(postId);
+                if (!alive.get(bit)) continue;
+                if (categoryMask != null && !categoryMask.get(bit)) continue;
+                int price = prices[bit];
+                if (minPrice != null && price < minPrice) continue;
+                if (maxPrice != null && price > maxPrice) continue;
+                result.add(postId);
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putInternal(PostFacetRow row, List<String> categories) {
+        int bit = toBit(row.postId());
+        alive.set(bit);
+        byStatus.get(row.status()).set(bit);
+        byCondition.get(worstCondition(row)).set(bit);
+
+        int price = row.price() == null ? 0 : row.price();
+        byPriceRange[priceRange(price)].set(bit);
+        if (bit >= prices.length) prices = Arrays.copyOf(prices, Math.max(bit + 1, prices.length * 2));
+        prices[bit] = price;
+
+        if (!categories.isEmpty()) {
+            Set<String> names = new HashSet<>(categories);
+            for (String name : names) byCategory.computeIfAbsent(name, k -> new BitSet()).set(bit);
+            categoriesOf.put(bit, names);
+        }
+    }
+
+    private void removeInternal(int bit) {
+        if (!alive.get(bit)) return;
+        alive.clear(bit);
+        byStatus.values().forEach(bits -> bits.clear(bit));
+        byCondition.values().forEach(bits -> bits.clear(bit));
+        for (BitSet bits : byPriceRange) bits.clear(bit);
+
+        Set<String> names = categoriesOf.remove(bit);
+        if (names == null) return;
+        for (String name : names) {
+            BitSet bits = byCategory.get(name);
+            if (bits == null) continue;
+            bits.clear(bit);
+            if (bits.isEmpty()) byCategory.remove(name);
+        }
+    }
+
+    private BitSet priceMask(BitSet candidates, Integer minPrice, Integer maxPrice) {
+        BitSet mask = new BitSet();
+        for (int bit = candidates.nextSetBit(0); bit >= 0; bit = candidates.nextSetBit(bit + 1)) {
+            int price = prices[bit];
+            if (minPrice != null && price < minPrice) continue;
+            if (maxPrice != null && price > maxPrice) continue;
+            mask.set(bit);
+        }
+        return mask;
+    }
+
+    // 세 가지 책 상태(필기/찢어짐/물 얼룩) 중 가장 나쁜 상태를 대표 상태로 사용
+    private static Condition worstCondition(PostFacetRow row) {
+        Condition worst = Condition.HIGH;
+        for (Condition c : new Condition[]{row.writingCondition(), row.tearCondition(), row.waterCondition()}) {
+            if (c != null && c.ordinal() > worst.ordinal()) worst = c;
+        }
+        return worst;
+    }
+
+    private static int priceRange(int price) {
+        for (int i = PRICE_BOUNDS.length - 1; i > 0; i--) {
+            if (price >= PRICE_BOUNDS[i]) return i;
+        }
+        return 0;
+    }
+
+    // 카테고리 이름들 중 하나라도 속한 게시글 (조건이 없으면 null, 읽기 잠금 안에서 호출)
+    private BitSet categoryMask(Collection<String> categories) {
+        if (categories.isEmpty()) return null;
+        BitSet mask = new BitSet();
+        for (String category : categories) {
+            BitSet bits = byCategory.get(category);
+            if (bits != null) mask.or(bits);
+        }
+        return mask;
+    }
+
+    private static BitSet and(BitSet bits, BitSet mask) {
+        if (mask == null) return bits;
+        BitSet result = (BitSet) bits.clone();
+        result.and(mask);
+        return result;
+    }
+
+    private static long intersectCount(BitSet a, BitSet b) {
+        BitSet result = (BitSet) a.clone();
+        result.and(b);
+        return result.cardinality();
+    }
+
+    private static int toBit(Long postId) {
+        return Math.toIntExact(postId);
+    }
+
+    private static Map<Long, List<String>> groupCategories(List<PostCategoryRow> rows) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        for (PostCategoryRow row : rows) {
+            grouped.computeIfAbsent(row.postId(), k -> new ArrayList<>()).add(row.categoryName());
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,113 @@
+package com.hongik.books.domain.post.service;
+
+import com.hongik.books.domain.post.domain.SalePost;
+import com.hongik.books.domain.post.dto.PostGeoRow;
+import com.hongik.books.domain.post.event.SalePostChangedEvent;
+import com.hongik.books.domain.post.repository.SalePostRepository;
+import com.hongik.books.domain.post.support.GeoGridIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 판매 중/예약 중 게시글의 거래 위치 인메모리 공간 색인 (주변 게시글 검색용)
+ * - 위경도 격자(GeoGridIndex) 버킷에 좌표가 있는 게시글만 보관, 판매 완료 게시글은 제외
+ * - 애플리케이션 시작 시 적재, 이후 SalePostChangedEvent(커밋 이후)로 갱신
+ * - 적재가 끝나기 전(또는 실패 후 재시도 전)에는 요청 스레드에서 적재하지 않고 빈 결과를 반환
+ */
+@Slf4j
+@Component
+public class PostGeoIndex {
+
+    private final SalePostRepository salePostRepository;
+    private final GeoGridIndex grid;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    public PostGeoIndex(SalePostRepository salePostRepository,
+                        @Value("${app.post.geo.cell-size-deg:0.01}") double cellSizeDeg) {
+        this.salePostRepository = salePostRepository;
+        this.grid = new GeoGridIndex(cellSizeDeg);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            grid.clear();
+            for (PostGeoRow row : salePostRepository.findAllActiveGeoRows()) {
+                putInternal(row);
+            }
+            ready = true;
+            log.info("Sale post geo index built: {} posts", grid.size());
+        } catch (Exception e) {
+            log.warn("Sale post geo index build failed: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 시작 시 적재에 실패했으면 주기적으로 다시 시도
+    @Scheduled(initialDelayString = "${app.post.index.retry-interval-ms:60000}",
+            fixedDelayString = "${app.post.index.retry-interval-ms:60000}")
+    public void retryRebuild() {
+        if (!ready) rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSalePostChanged(SalePostChangedEvent event) {
+        PostGeoRow row = (event.type() == SalePostChangedEvent.Type.DELETED)
+                ? null
+                : salePostRepository.findGeoRowById(event.postId()).orElse(null);
+
+        lock.writeLock().lock();
+        try {
+            grid.remove(event.postId());
+            if (row != null) putInternal(row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기준점에서 radiusMeters 안의 게시글을 가까운 순으로 최대 limit개 (색인 준비 전이면 빈 목록)
+     */
+    public List<GeoGridIndex.Hit> withinRadius(double latitude, double longitude, double radiusMeters, int limit) {
+        if (!ready) return List.of();
+        lock.readLock().lock();
+        try {
+            return grid.withinRadius(latitude, longitude, radiusMeters, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사각형(지도 화면) 안의 게시글을 사각형 중심에서 가까운 순으로 최대 limit개 (색인 준비 전이면 빈 목록)
+     */
+    public List<GeoGridIndex.Hit> withinBox(double minLat, double minLng, double maxLat, double maxLng, int limit) {
+        if (!ready) return List.of();
+        lock.readLock().lock();
+        try {
+            return grid.withinBox(minLat, minLng, maxLat, maxLng,
+                    (minLat + maxLat) / 2, (minLng + maxLng) / 2, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putInternal(PostGeoRow row) {
+        if (row.latitude() == null || row.longitude() == null) return;
+        if (row.status() == SalePost.SaleStatus.SOLD_OUT) return;
+        grid.put(row.postId(), row.latitude().doubleValue(), row.longitude().doubleValue());
+    }
+}
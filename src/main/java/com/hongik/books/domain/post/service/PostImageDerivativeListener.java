@@ -0,0 +1,67 @@
+package com.hongik.books.domain.post.service;
+
+import com.hongik.books.common.util.ImageDerivativeGenerator;
+import com.hongik.books.common.util.ImageStorage;
+import com.hongik.books.common.util.ImageVariant;
+import com.hongik.books.common.web.ResourceVersions;
+import com.hongik.books.domain.post.domain.PostImage;
+import com.hongik.books.domain.post.event.SalePostChangedEvent;
+import com.hongik.books.domain.post.repository.PostImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 게시글 이미지 파생본(목록 썸네일/상세용) 생성 트리거
+ * 게시글 생성·이미지 추가가 커밋된 뒤, 파생본이 없는 이미지에 대해 비동기로 생성하고 URL을 반영한다
+ * 생성 전이나 실패 시에는 원본 URL이 그대로 쓰인다 (PostImage.getListImageUrl / getDetailImageUrl)
+ * 만들지 못한 변형(webp 등 디코딩 불가)은 원본 URL로 채워 두어, 이후 게시글 수정 이벤트마다 다시 시도하지 않는다
+ * 파생 이미지는 참조 수로 관리하므로, 반영하지 못한 생성 결과(이미지 교체/삭제, 중복 생성)는 참조를 돌려준다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostImageDerivativeListener {
+
+    private static final List<ImageVariant> POST_VARIANTS = List.of(ImageVariant.LIST, ImageVariant.DETAIL);
+
+    private final PostImageRepository postImageRepository;
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+    private final ImageStorage imageStorage;
+    private final PostDetailCache postDetailCache;
+    private final ResourceVersions resourceVersions;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSalePostChanged(SalePostChangedEvent event) {
+        if (event.type() == SalePostChangedEvent.Type.DELETED) return;
+
+        for (PostImage image : postImageRepository.findWithoutDerivativesByPostId(event.postId())) {
+            Long postImageId = image.getId();
+            String originalUrl = image.getImageUrl();
+            imageDerivativeGenerator.generateAsync(originalUrl, POST_VARIANTS)
+                    .thenAccept(urls -> {
+                        if (!urls.containsKey(ImageVariant.LIST)) {
+                            log.info("Post image derivative skipped, keeping original (postImageId={})", postImageId);
+                        }
+                        int updated = postImageRepository.updateDerivatives(postImageId, originalUrl,
+                                urls.getOrDefault(ImageVariant.LIST, originalUrl),
+                                urls.getOrDefault(ImageVariant.DETAIL, originalUrl));
+                        // 상세 캐시/ETag에 원본 URL 기준 응답이 남아 있을 수 있으므로 비운다 (원본 그대로면 응답도 같음)
+                        if (updated == 0) {
+                            urls.values().forEach(imageStorage::releaseDerivative);
+                        } else if (!urls.isEmpty()) {
+                            postDetailCache.evict(event.postId());
+                            resourceVersions.bump(ResourceVersions.POSTS, ResourceVersions.post(event.postId()));
+                        }
+                    })
+                    .exceptionally(e -> {
+                        log.warn("Post image derivative update failed (postImageId={}): {}", postImageId, e.getMessage());
+                        return null;
+                    });
+        }
+    }
+}
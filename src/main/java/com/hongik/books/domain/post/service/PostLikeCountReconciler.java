@@ -0,0 +1,30 @@
+package com.hongik.books.domain.post.service;
+
+import com.hongik.books.domain.post.repository.SalePostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * sale_post.like_count 보정 작업
+ * 찜/찜 취소는 원자적 증감으로 카운트를 유지하지만, 게시글·회원 삭제 등 다른 경로로 post_like가 지워지면
+ * 카운트가 어긋날 수 있으므로 주기적으로 실제 post_like 개수와 맞춘다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeCountReconciler {
+
+    private final SalePostRepository salePostRepository;
+
+    @Scheduled(cron = "${app.post.like-count.reconcile-cron:0 30 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        int repaired = salePostRepository.reconcileLikeCounts();
+        if (repaired > 0) {
+            log.info("Reconciled like_count drift on {} sale posts", repaired);
+        }
+    }
+}
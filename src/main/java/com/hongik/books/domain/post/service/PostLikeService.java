@@ -1,18 +1,25 @@
 package com.hongik.books.domain.post.service;
 
+import com.hongik.books.common.dto.CursorResponse;
+import com.hongik.books.common.util.IdCursor;
 import com.hongik.books.domain.post.domain.PostLike;
 import com.hongik.books.domain.post.domain.SalePost;
 import com.hongik.books.domain.post.dto.MyLikedPostResponseDTO;
+import com.hongik.books.domain.post.dto.MyLikedPostRow;
+import com.hongik.books.domain.post.event.PostLikeChangedEvent;
 import com.hongik.books.domain.post.repository.PostLikeRepository;
 import com.hongik.books.domain.post.repository.SalePostRepository;
 import com.hongik.books.domain.user.domain.User;
 import com.hongik.books.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * '찜하기' 관련 비즈니스 로직을 처리하는 서비스
@@ -25,6 +32,7 @@ public class PostLikeService {
     private final PostLikeRepository postLikeRepository;
     private final UserRepository userRepository;
     private final SalePostRepository salePostRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글을 찜하기
@@ -47,7 +55,10 @@ public class PostLikeService {
                 .salePost(salePost)
                 .build();
 
+        // uk_post_like_user_post 제약으로 중복 찜은 insert 단계에서 막히므로, insert 성공 시에만 카운트 증가
         postLikeRepository.save(postLike);
+        salePostRepository.incrementLikeCount(postId);
+        eventPublisher.publishEvent(new PostLikeChangedEvent(postId, true));
     }
 
     /**
@@ -55,22 +66,43 @@ public class PostLikeService {
      */
     @Transactional
     public void unlikePost(Long postId, Long userId) {
-        PostLike postLike = postLikeRepository.findByUserIdAndSalePostId(userId, postId)
-                .orElseThrow(() -> new IllegalArgumentException("찜하지 않은 게시글입니다."));
-
-        postLikeRepository.delete(postLike);
+        int deleted = postLikeRepository.deleteByUserIdAndPostId(userId, postId);
+        if (deleted == 0) {
+            throw new IllegalArgumentException("찜하지 않은 게시글입니다.");
+        }
+        salePostRepository.decrementLikeCount(postId);
+        eventPublisher.publishEvent(new PostLikeChangedEvent(postId, false));
     }
 
     /**
-     * 내가 찜한 모든 게시글 목록을 조회
+     * 내가 찜한 모든 게시글 목록을 조회 (최근 찜한 순)
      */
+    @Transactional(readOnly = true)
     public List<MyLikedPostResponseDTO> getMyLikedPosts(Long userId) {
-        // 1. 사용자 ID로 모든 찜 정보를 가져오기
-        List<PostLike> myLikes = postLikeRepository.findAllByUserId(userId);
+        return toMyLikedPosts(postLikeRepository.findMyLikedPostRows(userId, null, Pageable.unpaged()));
+    }
+
+    /**
+     * 내가 찜한 게시글 목록 (커서 페이지네이션, 최근 찜한 순)
+     * 페이지마다 찜-게시글-판매자 조인 프로젝션 1회 + 대표 이미지 1회
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<MyLikedPostResponseDTO> getMyLikedPostsByCursor(Long userId, String cursor, int size) {
+        List<MyLikedPostRow> rows = postLikeRepository.findMyLikedPostRows(
+                userId, IdCursor.decode(cursor), PageRequest.of(0, size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<MyLikedPostRow> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? IdCursor.encode(page.getLast().likeId()) : null;
+        return new CursorResponse<>(toMyLikedPosts(page), hasNext, nextCursor);
+    }
 
-        // 2. 각 찜 정보(PostLike)를 MyLikedPostResponse DTO로 변환하여 리스트로 반환
-        return myLikes.stream()
-                .map(MyLikedPostResponseDTO::from)
-                .collect(Collectors.toList());
+    private List<MyLikedPostResponseDTO> toMyLikedPosts(List<MyLikedPostRow> rows) {
+        if (rows.isEmpty()) return List.of();
+        Map<Long, String> thumbnails = salePostRepository.findFirstImageUrls(
+                rows.stream().map(MyLikedPostRow::postId).toList());
+        return rows.stream()
+                .map(row -> MyLikedPostResponseDTO.of(row, thumbnails.get(row.postId())))
+                .toList();
     }
 }
@@ -0,0 +1,41 @@
+package com.hongik.books.domain.post.service;
+
+import com.hongik.books.auth.dto.LoginUserDTO;
+import com.hongik.books.common.web.ResourceVersions;
+import com.hongik.books.common.web.VersionedResourceNotModifiedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 상세가 304로 끝난 조회도 한 번의 조회로 기록
+ * - 조회수 누적, 지금 뜨는 점수, 로그인 사용자의 최근 본 게시글 (핸들러 경로와 같은 기록)
+ * - 기록 실패는 304 응답에 영향을 주지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostNotModifiedViewListener {
+
+    private final SalePostService salePostService;
+    private final RecentlyViewedPostService recentlyViewedPostService;
+
+    @EventListener
+    public void onNotModified(VersionedResourceNotModifiedEvent event) {
+        for (String resource : event.resources()) {
+            Long postId = ResourceVersions.postIdOf(resource);
+            if (postId == null) continue;
+            try {
+                salePostService.recordView(postId);
+                if (event.principal() instanceof Authentication auth
+                        && auth.getPrincipal() instanceof LoginUserDTO loginUser) {
+                    recentlyViewedPostService.recordView(loginUser.id(), postId);
+                }
+            } catch (Exception e) {
+                log.warn("Post {} view record on 304 failed: {}", postId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.hongik.books.domain.post.service;
+
+import com.hongik.books.common.web.ResourceVersions;
+import com.hongik.books.domain.post.repository.SalePostRepository;
+import com.hongik.books.domain.user.event.UserProfileChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 판매자 닉네임/프로필 이미지 변경 → 그 판매자 게시글의 상세 캐시 무효화 + 조회 응답 버전 갱신
+ * 게시글 상세/목록에 판매자 정보가 들어가므로, 캐시를 먼저 지운 뒤 버전을 올린다
+ * (버전을 먼저 올리면 새 ETag로 예전 판매자 정보가 캐시될 수 있다)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostSellerProfileListener {
+
+    private final SalePostRepository salePostRepository;
+    private final PostDetailCache postDetailCache;
+    private final ResourceVersions resourceVersions;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        List<Long> postIds = salePostRepository.findIdsBySellerId(event.userId());
+        if (postIds.isEmpty()) return;
+
+        List<String> resources = new ArrayList<>(postIds.size() + 1);
+        resources.add(ResourceVersions.POSTS);
+        for (Long postId : postIds) {
+            postDetailCache.evict(postId);
+            resources.add(ResourceVersions.post(postId));
+        }
+        resourceVersions.bump(resources.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,87 @@
+package com.hongik.books.domain.post.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 판매 게시글 조회수 write-behind 카운터
+ * - 상세 조회 시에는 게시글별 LongAdder만 증가시키고 (행 잠금 없음)
+ * - 주기적으로 누적분을 "views = views + ?" 배치 UPDATE로 반영한다 (기본 3초, 반영 지연은 최대 한 주기)
+ * - 누적분을 더하는 방식이므로 여러 인스턴스가 각자 flush해도 값이 덮어써지지 않는다
+ * - 증가와 누적분 가져가기/제거는 모두 맵의 compute 안에서: 제거된 카운터에 더해져 사라지는 증가분이 없다
+ * - 배치는 트랜잭션 하나라 실패하면 전부 롤백되고 그대로 다시 넣는다 (일부만 반영된 채 재시도해 두 번 세지 않도록)
+ *   여러 인스턴스가 같은 행들을 갱신해도 교착되지 않게 post_id 순서로 갱신한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private static final String FLUSH_SQL = "update sale_post set views = views + ? where post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        add(postId, 1);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 (상세 응답에서 DB 값에 더해 보여준다)
+     */
+    public long pendingViews(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${app.post.views.flush-interval-ms:3000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Long postId : new TreeSet<>(pending.keySet())) {
+            pending.computeIfPresent(postId, (id, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta == 0) return null; // 한 주기 동안 조회가 없던 게시글은 제거
+                batch.add(new Object[]{delta, id});
+                return adder;
+            });
+        }
+        if (batch.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+        } catch (Exception e) {
+            // 반영 실패분은 다음 주기에 다시 시도
+            log.warn("View count flush failed ({} posts): {}", batch.size(), e.getMessage());
+            for (Object[] row : batch) {
+                add((Long) row[1], (Long) row[0]);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void add(Long postId, long delta) {
+        pending.compute(postId, (id, adder) -> {
+            LongAdder counter = adder != null ? adder : new LongAdder();
+            counter.add(delta);
+            return counter;
+        });
+    }
+}
@@ -0,0 +1,20 @@
+package com.hongik.books.domain.post.service;
+
+import java.util.List;
+
+/**
+ * 사용자별 최근 본 게시글 저장소
+ * - app.post.recently-viewed.store 값으로 구현 선택 (redis: 사용자별 ZSET, jpa: recently_viewed_post 테이블)
+ */
+public interface RecentlyViewedStore {
+
+    /**
+     * 게시글 조회 기록 (이미 있으면 본 시각만 갱신, 최대 보관 개수 초과분은 오래된 것부터 제거)
+     */
+    void record(Long userId, Long postId);
+
+    /**
+     * 최근 본 순서대로 게시글 ID 목록
+     */
+    List<Long> recentPostIds(Long userId, int limit);
+}
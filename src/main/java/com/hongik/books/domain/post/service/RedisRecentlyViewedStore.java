@@ -0,0 +1,178 @@
+package com.hongik.books.domain.post.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import com.hongik.books.domain.post.dto.RecentlyViewedRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Redis ZSET 기반 최근 본 게시글 저장소 (app.post.recently-viewed.store=redis, 기본값)
+ * - 사용자별 recent:user:{userId} (member = postId, score = 본 시각 ms)
+ * - 조회 기록은 ZADD + ZREMRANGEBYRANK + EXPIRE를 파이프라인 한 번으로 처리 (DB 왕복 없음)
+ * - archive=true면 recently_viewed_post 테이블에도 요청 스레드 밖에서 보관한다
+ * - 사용자 키가 없으면 테이블에 남은 이력으로 ZSET을 채운다 (recent:seeded:{userId} 표시로 한 번만)
+ *   · archive=false: 테이블 저장소를 쓰던 기존 사용자의 이력을 배포 후 한 번만 옮긴다. 표시는 만료되지 않아
+ *     이력이 없는 사용자도 매번 테이블을 읽지 않고, ZSET이 만료된 뒤 멈춰 있는 예전 이력이 되살아나지 않는다
+ *   · archive=true: 테이블도 계속 쌓이므로 표시를 ZSET과 같은 TTL로 두어 만료 후에는 다시 채운다
+ * - Redis 장애 시 조회는 테이블로 대신한다
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.post.recently-viewed.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRecentlyViewedStore implements RecentlyViewedStore {
+
+    private static final String KEY_PREFIX = "recent:user:";
+    private static final String SEEDED_KEY_PREFIX = "recent:seeded:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final JpaRecentlyViewedStore archiveStore;
+
+    @Value("${app.post.recently-viewed.max-size:50}")
+    private int maxSize;
+
+    @Value("${app.post.recently-viewed.ttl-days:30}")
+    private long ttlDays;
+
+    @Value("${app.post.recently-viewed.archive:false}")
+    private boolean archive;
+
+    private ExecutorService archiveExecutor;
+
+    @PostConstruct
+    void init() {
+        if (archive) archiveExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (archiveExecutor != null) archiveExecutor.close();
+    }
+
+    @Override
+    public void record(Long userId, Long postId) {
+        byte[] key = key(userId);
+        byte[] member = postId.toString().getBytes(StandardCharsets.UTF_8);
+        double score = System.currentTimeMillis();
+        long ttlSeconds = Duration.ofDays(ttlDays).toSeconds();
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.keyCommands().exists(key);
+                pipeline(connection, key, member, score, ttlSeconds);
+                return null;
+            });
+            // 키가 없던 첫 기록이면 테이블 이력으로 채운다 (방금 본 게시글의 점수는 NX라 그대로)
+            if (!results.isEmpty() && Boolean.FALSE.equals(results.get(0))) seedOnce(userId);
+        } catch (Exception e) {
+            log.debug("Recently viewed write failed (userId={}): {}", userId, e.getMessage());
+        }
+
+        if (archiveExecutor != null) {
+            archiveExecutor.execute(() -> {
+                try {
+                    archiveStore.record(userId, postId);
+                } catch (Exception e) {
+                    log.debug("Recently viewed archive failed (userId={}, postId={}): {}", userId, postId, e.getMessage());
+                }
+            });
+        }
+    }
+
+    @Override
+    public List<Long> recentPostIds(Long userId, int limit) {
+        Set<String> members;
+        try {
+            members = redisTemplate.opsForZSet().reverseRange(KEY_PREFIX + userId, 0, limit - 1L);
+        } catch (Exception e) {
+            log.debug("Recently viewed read failed (userId={}): {}", userId, e.getMessage());
+            return archiveStore.recentPostIds(userId, limit);
+        }
+        if (members == null || members.isEmpty()) {
+            // 키가 없음: 아직 채운 적이 없으면 테이블 이력으로 채우고 그대로 반환
+            List<Long> seeded = seedOnce(userId);
+            return seeded.size() > limit ? seeded.subList(0, limit) : seeded;
+        }
+        List<Long> ids = new ArrayList<>(members.size());
+        for (String member : members) ids.add(Long.valueOf(member));
+        return ids;
+    }
+
+    // 사용자마다 한 번만 테이블 이력으로 채운다 (표시를 먼저 선점한 요청만, 채우지 못하면 표시를 되돌린다)
+    private List<Long> seedOnce(Long userId) {
+        String seededKey = SEEDED_KEY_PREFIX + userId;
+        try {
+            Boolean first = archive
+                    ? redisTemplate.opsForValue().setIfAbsent(seededKey, "1", Duration.ofDays(ttlDays))
+                    : redisTemplate.opsForValue().setIfAbsent(seededKey, "1");
+            if (!Boolean.TRUE.equals(first)) return List.of();
+        } catch (Exception e) {
+            log.debug("Recently viewed seed mark failed (userId={}): {}", userId, e.getMessage());
+            return List.of();
+        }
+        try {
+            return seedFromTable(userId);
+        } catch (RuntimeException e) {
+            log.debug("Recently viewed seed read failed (userId={}): {}", userId, e.getMessage());
+            try {
+                redisTemplate.delete(seededKey);
+            } catch (Exception ignored) {
+                // 표시가 남으면 이 사용자의 예전 이력만 옮겨지지 않는다
+            }
+            return List.of();
+        }
+    }
+
+    // recently_viewed_post의 최근 maxSize건을 본 시각 점수로 ZSET에 넣는다 (ZADD NX: 이미 있는 게시글은 유지)
+    private List<Long> seedFromTable(Long userId) {
+        List<RecentlyViewedRow> rows = archiveStore.recentViews(userId, maxSize);
+        if (rows.isEmpty()) return List.of();
+
+        byte[] key = key(userId);
+        long ttlSeconds = Duration.ofDays(ttlDays).toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (RecentlyViewedRow row : rows) {
+                    double score = row.viewedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                    byte[] member = row.postId().toString().getBytes(StandardCharsets.UTF_8);
+                    connection.zSetCommands().zAdd(key, score, member, RedisZSetCommands.ZAddArgs.ifNotExists());
+                }
+                connection.zSetCommands().zRemRange(key, 0, -(maxSize + 1L));
+                connection.keyCommands().expire(key, ttlSeconds);
+                return null;
+            });
+        } catch (Exception e) {
+            log.debug("Recently viewed seed failed (userId={}): {}", userId, e.getMessage());
+        }
+        return rows.stream().map(RecentlyViewedRow::postId).toList();
+    }
+
+    // 점수(본 시각) 기준 상위 maxSize개만 남기고, 일정 기간 조회가 없으면 키 자체를 만료
+    private void pipeline(RedisConnection connection, byte[] key, byte[] member, double score, long ttlSeconds) {
+        connection.zSetCommands().zAdd(key, score, member);
+        connection.zSetCommands().zRemRange(key, 0, -(maxSize + 1L));
+        connection.keyCommands().expire(key, ttlSeconds);
+    }
+
+    private static byte[] key(Long userId) {
+        return (KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,396 @@
+package com.hongik.books.domain.post.service;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hongik.books.common.exception.ModerationException;
+import com.hongik.books.domain.book.dto.BookCategoryLink;
+import com.hongik.books.domain.book.dto.BookIsbnRow;
+import com.hongik.books.domain.book.repository.BookRepository;
+import com.hongik.books.domain.book.service.CategoryService;
+import com.hongik.books.domain.book.service.CategoryTrie;
+import com.hongik.books.domain.post.dto.BulkImportResultDTO;
+import com.hongik.books.domain.post.dto.BulkImportSummaryDTO;
+import com.hongik.books.domain.post.dto.SalePostCreateRequestDTO;
+import com.hongik.books.domain.post.event.SalePostChangedEvent;
+import com.hongik.books.domain.post.repository.SalePostBatchRepository;
+import com.hongik.books.domain.post.repository.SalePostBatchRepository.BookRow;
+import com.hongik.books.domain.post.repository.SalePostBatchRepository.SalePostRow;
+import com.hongik.books.domain.post.support.BulkImportReader;
+import com.hongik.books.domain.user.repository.UserRepository;
+import com.hongik.books.moderation.ModerationPolicyProperties;
+import com.hongik.books.moderation.ModerationService;
+import com.hongik.books.moderation.toxic.ToxicFilterClient;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 판매 게시글 일괄 등록 (학생회/중고책 나눔 행사 등)
+ * - 입력(CSV / JSON Lines)을 스트림으로 읽어 chunk-size 행씩 처리하고, 행 단위 결과를 바로 NDJSON으로 내보낸다
+ * - 청크마다: 검증 → 유해 표현 검사(가상 스레드 병렬, 동시 호출 수 제한) → ISBN 일괄 조회 → 한 트랜잭션에서 JDBC 배치 INSERT
+ * - 청크 저장이 실패하면 그 청크의 행만 실패로 보고하고 다음 청크를 계속 처리한다
+ * - 이미지는 받지 않는다 (등록 후 게시글 수정 화면에서 추가)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalePostBulkImportService {
+
+    private static final Pattern ISBN = Pattern.compile("\\d{9}[\\dX]|\\d{13}");
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ModerationService moderationService;
+    private final ModerationPolicyProperties moderationPolicy;
+    private final UserRepository userRepository;
+    private final BookRepository bookRepository;
+    private final CategoryService categoryService;
+    private final CategoryTrie categoryTrie;
+    private final SalePostBatchRepository salePostBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.post.import.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${app.post.import.max-rows:2000}")
+    private int maxRows;
+
+    @Value("${app.post.import.moderation-concurrency:8}")
+    private int moderationConcurrency;
+
+    /**
+     * 입력을 끝까지 처리하며 행마다 결과 한 줄, 마지막에 집계 한 줄을 out에 쓴다
+     * @return 최종 집계
+     */
+    public BulkImportSummaryDTO importPosts(InputStream in, BulkImportReader.Format format,
+                                            Long sellerId, OutputStream out) throws IOException {
+        if (!userRepository.existsById(sellerId)) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+
+        int total = 0;
+        int created = 0;
+        BulkImportResultDTO stopped = null;
+        Semaphore permits = new Semaphore(Math.max(1, moderationConcurrency));
+        try (BulkImportReader reader = BulkImportReader.open(in, format, objectMapper);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            int size = Math.max(1, chunkSize);
+            List<BulkImportReader.Row> chunk = new ArrayList<>(size);
+            while (true) {
+                BulkImportReader.Row row;
+                try {
+                    row = reader.next();
+                } catch (IllegalArgumentException e) {
+                    // 구조가 깨진 CSV: 이후 행은 신뢰할 수 없으므로 여기서 중단
+                    stopped = BulkImportResultDTO.failed(total + chunk.size() + 1, e.getMessage());
+                    break;
+                }
+                if (row == null) break;
+                if (row.number() > maxRows) {
+                    stopped = BulkImportResultDTO.failed(row.number(), "한 번에 최대 " + maxRows + "건까지 등록할 수 있습니다.");
+                    break;
+                }
+                chunk.add(row);
+                if (chunk.size() == size) {
+                    created += flush(processChunk(chunk, sellerId, executor, permits), out);
+                    total += chunk.size();
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                created += flush(processChunk(chunk, sellerId, executor, permits), out);
+                total += chunk.size();
+            }
+        }
+        if (stopped != null) {
+            write(out, stopped);
+            total++;
+        }
+
+        BulkImportSummaryDTO summary = new BulkImportSummaryDTO(total, created, total - created);
+        write(out, summary);
+        out.flush();
+        return summary;
+    }
+
+    private List<BulkImportResultDTO> processChunk(List<BulkImportReader.Row> rows, Long sellerId,
+                                                   ExecutorService executor, Semaphore permits) {
+        Map<Integer, BulkImportResultDTO> results = new HashMap<>();
+
+        // 1) 변환/검증
+        List<Pending> pending = new ArrayList<>(rows.size());
+        for (BulkImportReader.Row row : rows) {
+            if (!row.valid()) {
+                results.put(row.number(), BulkImportResultDTO.failed(row.number(), row.error()));
+                continue;
+            }
+            try {
+                pending.add(prepare(row));
+            } catch (IllegalArgumentException e) {
+                results.put(row.number(), BulkImportResultDTO.failed(row.number(), e.getMessage()));
+            }
+        }
+
+        // 2) 유해 표현 검사 (외부 API 호출이므로 트랜잭션 밖에서 병렬로)
+        pending = moderate(pending, results, executor, permits);
+
+        // 3) ISBN 일괄 조회: DB에 없는 ISBN은 책 정보가 있어야 새로 만들 수 있다
+        Set<String> isbns = pending.stream()
+                .map(p -> p.isbn).filter(i -> i != null).collect(Collectors.toSet());
+        Map<String, Long> knownBooks = isbns.isEmpty() ? Map.of()
+                : bookRepository.findIsbnRows(isbns).stream()
+                        .collect(Collectors.toMap(BookIsbnRow::isbn, BookIsbnRow::bookId, (a, b) -> a));
+        List<Pending> ready = new ArrayList<>(pending.size());
+        for (Pending p : pending) {
+            if (p.isbn != null && !knownBooks.containsKey(p.isbn) && !hasBookInfo(p.request)) {
+                results.put(p.row, BulkImportResultDTO.failed(p.row,
+                        "등록되지 않은 ISBN입니다. bookTitle, author, publisher를 함께 입력해 주세요."));
+            } else {
+                ready.add(p);
+            }
+        }
+
+        // 4) 한 트랜잭션에서 배치 저장
+        if (!ready.isEmpty()) {
+            try {
+                List<Long> postIds = transactionTemplate.execute(status -> persist(ready, knownBooks, sellerId));
+                for (int i = 0; i < ready.size(); i++) {
+                    int row = ready.get(i).row;
+                    results.put(row, BulkImportResultDTO.created(row, postIds.get(i)));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Bulk import chunk failed (rows {}-{}): {}",
+                        ready.get(0).row, ready.get(ready.size() - 1).row, e.getMessage());
+                for (Pending p : ready) {
+                    results.put(p.row, BulkImportResultDTO.failed(p.row, "저장에 실패했습니다. 잠시 후 다시 시도해 주세요."));
+                }
+            }
+        }
+
+        List<BulkImportResultDTO> ordered = new ArrayList<>(rows.size());
+        for (BulkImportReader.Row row : rows) ordered.add(results.get(row.number()));
+        return ordered;
+    }
+
+    private Pending prepare(BulkImportReader.Row row) {
+        SalePostCreateRequestDTO request;
+        try {
+            request = objectMapper.convertValue(row.fields(), SalePostCreateRequestDTO.class);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(describeConversionError(e));
+        }
+
+        Set<ConstraintViolation<SalePostCreateRequestDTO>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        String isbn = normalizeIsbn(request.getIsbn());
+        if (isbn == null && !hasBookInfo(request)) {
+            throw new IllegalArgumentException("ISBN이 없으면 bookTitle, author, publisher가 필요합니다.");
+        }
+
+        String main = request.getMainCategoryOrDerived();
+        String sub = request.getSubCategoryOrDerived();
+        String detail = categoryTrie.normalizeDepartment(request.getDetailCategoryOrDerived());
+        if (tooLong(main, 20) || tooLong(sub, 50) || tooLong(detail, 100)) {
+            throw new IllegalArgumentException("카테고리 이름이 너무 깁니다.");
+        }
+        return new Pending(row.number(), request, isbn, main, sub, detail);
+    }
+
+    private List<Pending> moderate(List<Pending> pending, Map<Integer, BulkImportResultDTO> results,
+                                   ExecutorService executor, Semaphore permits) {
+        var titleMode = moderationPolicy.getSalePost().getTitle();
+        var contentMode = moderationPolicy.getSalePost().getContent();
+
+        List<Future<ToxicFilterClient.Result>> futures = new ArrayList<>(pending.size());
+        for (Pending p : pending) {
+            futures.add(executor.submit(() -> {
+                permits.acquire();
+                try {
+                    moderationService.checkOrThrow(p.request.getPostTitle(), titleMode, "postTitle");
+                    return moderationService.checkOrThrow(p.request.getPostContent(), contentMode, "postContent");
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        List<Pending> passed = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            Pending p = pending.get(i);
+            try {
+                p.contentModeration = futures.get(i).get();
+                passed.add(p);
+            } catch (ExecutionException e) {
+                String message = (e.getCause() instanceof ModerationException me)
+                        ? me.getMessage() + " (" + me.getField() + ")"
+                        : "유해 표현 검사에 실패했습니다.";
+                results.put(p.row, BulkImportResultDTO.failed(p.row, message));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("일괄 등록이 중단되었습니다.", e);
+            }
+        }
+        return passed;
+    }
+
+    // 트랜잭션 안: 새 책 → 카테고리 경로/연결 → 게시글 순으로 배치 INSERT, 게시글 ID를 입력 순서대로 반환
+    private List<Long> persist(List<Pending> ready, Map<String, Long> knownBooks, Long sellerId) {
+        // 새 책: ISBN 책은 청크 안에서 한 번만, 직접 등록 책(ISBN 없음)은 행마다
+        Map<String, Pending> newIsbnBooks = new LinkedHashMap<>();
+        List<Pending> customBooks = new ArrayList<>();
+        for (Pending p : ready) {
+            if (p.isbn == null) customBooks.add(p);
+            else if (!knownBooks.containsKey(p.isbn)) newIsbnBooks.putIfAbsent(p.isbn, p);
+        }
+        List<BookRow> bookRows = new ArrayList<>(newIsbnBooks.size() + customBooks.size());
+        newIsbnBooks.values().forEach(p -> bookRows.add(bookRow(p, false)));
+        customBooks.forEach(p -> bookRows.add(bookRow(p, true)));
+        List<Long> newBookIds = salePostBatchRepository.insertBooks(bookRows);
+
+        Map<String, Long> bookIdByIsbn = new HashMap<>(knownBooks);
+        int index = 0;
+        for (String isbn : newIsbnBooks.keySet()) bookIdByIsbn.put(isbn, newBookIds.get(index++));
+        for (Pending p : customBooks) p.bookId = newBookIds.get(index++);
+        for (Pending p : ready) {
+            if (p.isbn != null) p.bookId = bookIdByIsbn.get(p.isbn);
+        }
+
+        // 카테고리 경로 (대부분 트라이에서 끝남) + 기존 책에 이미 있는 연결은 건너뜀
+        Set<BookCategoryLink> links = new LinkedHashSet<>();
+        for (Pending p : ready) {
+            if (p.detail == null) continue;
+            links.add(new BookCategoryLink(p.bookId, categoryService.resolveCategoryPath(p.main, p.sub, p.detail)));
+        }
+        Set<Long> existingBookIds = new HashSet<>(knownBooks.values());
+        List<Long> linkedExistingBooks = links.stream()
+                .map(BookCategoryLink::bookId).filter(existingBookIds::contains).distinct().toList();
+        if (!linkedExistingBooks.isEmpty()) {
+            bookRepository.findCategoryLinks(linkedExistingBooks).forEach(links::remove);
+        }
+        salePostBatchRepository.insertBookCategories(new ArrayList<>(links));
+
+        List<SalePostRow> postRows = ready.stream().map(p -> salePostRow(p, sellerId)).toList();
+        List<Long> postIds = salePostBatchRepository.insertSalePosts(postRows);
+        postIds.forEach(id -> eventPublisher.publishEvent(SalePostChangedEvent.created(id)));
+        return postIds;
+    }
+
+    private static BookRow bookRow(Pending p, boolean custom) {
+        SalePostCreateRequestDTO r = p.request;
+        return new BookRow(custom ? null : p.isbn, r.getBookTitle().trim(), r.getAuthor().trim(),
+                r.getPublisher().trim(), custom, r.getOriginalPrice());
+    }
+
+    private static SalePostRow salePostRow(Pending p, Long sellerId) {
+        SalePostCreateRequestDTO r = p.request;
+        ToxicFilterClient.Result m = p.contentModeration;
+        return new SalePostRow(sellerId, p.bookId, r.getPostTitle(), r.getPostContent(), r.getPrice(),
+                r.getWritingCondition(), r.getTearCondition(), r.getWaterCondition(), r.isNegotiable(),
+                m != null && m.blocked(),
+                m == null ? null : m.predictionLevel(),
+                m == null ? null : m.malicious(),
+                m == null ? null : m.clean(),
+                m == null ? null : m.reason(),
+                r.getOncampusPlaceCode(), r.getOffcampusStationCode(),
+                r.getLocationName(), r.getLatitude(), r.getLongitude(),
+                p.main, p.sub, p.detail);
+    }
+
+    private int flush(List<BulkImportResultDTO> results, OutputStream out) throws IOException {
+        int created = 0;
+        for (BulkImportResultDTO result : results) {
+            if (result.postId() != null) created++;
+            write(out, result);
+        }
+        out.flush();
+        return created;
+    }
+
+    private void write(OutputStream out, Object line) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(line));
+        out.write(NEW_LINE);
+    }
+
+    private static String normalizeIsbn(String raw) {
+        if (raw == null || raw.isBlank()) return null;
+        String isbn = raw.replaceAll("[\\s-]", "").toUpperCase(Locale.ROOT);
+        if (!ISBN.matcher(isbn).matches()) {
+            throw new IllegalArgumentException("ISBN 형식이 올바르지 않습니다.");
+        }
+        return isbn;
+    }
+
+    private static boolean hasBookInfo(SalePostCreateRequestDTO r) {
+        return notBlank(r.getBookTitle()) && notBlank(r.getAuthor()) && notBlank(r.getPublisher());
+    }
+
+    private static boolean notBlank(String v) {
+        return v != null && !v.isBlank();
+    }
+
+    private static boolean tooLong(String v, int max) {
+        return v != null && v.length() > max;
+    }
+
+    private static String describeConversionError(IllegalArgumentException e) {
+        if (e.getCause() instanceof JsonMappingException jme && !jme.getPath().isEmpty()) {
+            String field = jme.getPath().get(jme.getPath().size() - 1).getFieldName();
+            return field + ": 값 형식이 올바르지 않습니다.";
+        }
+        return "값 형식이 올바르지 않습니다.";
+    }
+
+    // 청크 처리 중인 행 하나의 중간 상태
+    private static final class Pending {
+        final int row;
+        final SalePostCreateRequestDTO request;
+        final String isbn;
+        final String main;
+        final String sub;
+        final String detail;
+        ToxicFilterClient.Result contentModeration;
+        Long bookId;
+
+        Pending(int row, SalePostCreateRequestDTO request, String isbn, String main, String sub, String detail) {
+            this.row = row;
+            this.request = request;
+            this.isbn = isbn;
+            this.main = main;
+            this.sub = sub;
+            this.detail = detail;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.hongik.books.domain.post.service;
+
+import com.hongik.books.domain.post.dto.SalePostSearchDocument;
+import com.hongik.books.domain.post.event.SalePostChangedEvent;
+import com.hongik.books.domain.post.repository.SalePostRepository;
+import com.hongik.books.domain.post.support.KoreanNgramTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 판매글 검색용 인메모리 역색인 (n-gram → 게시글 ID)
+ * - 게시글 제목 / 책 제목 / 저자를 KoreanNgramTokenizer로 색인
+ * - 애플리케이션 시작 시 DB에서 한 번 적재하고, 이후 SalePostChangedEvent(커밋 이후)로 갱신
+ * - 검색어의 모든 키를 포함하는 게시글만 반환하며, 필드 가중치 합으로 정렬
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalePostSearchIndex {
+
+    // 필드별 가중치 (게시글 제목 > 책 제목 > 저자)
+    private static final int POST_TITLE_WEIGHT = 3;
+    private static final int BOOK_TITLE_WEIGHT = 2;
+    private static final int AUTHOR_WEIGHT = 1;
+
+    private final SalePostRepository salePostRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // key -> (postId -> 해당 key를 포함한 필드 가중치 합)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // postId -> 색인된 key 목록 (수정/삭제 시 제거용)
+    private final Map<Long, Set<String>> forward = new HashMap<>();
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            forward.clear();
+            List<SalePostSearchDocument> documents = salePostRepository.findAllSearchDocuments();
+            documents.forEach(this::putInternal);
+            ready = true;
+            log.info("Sale post search index built: {} posts, {} keys", forward.size(), postings.size());
+        } catch (Exception e) {
+            // 색인 실패 시 LIKE 검색으로 동작하도록 ready=false 유지
+            log.warn("Sale post search index build failed: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSalePostChanged(SalePostChangedEvent event) {
+        if (event.type() == SalePostChangedEvent.Type.DELETED) {
+            remove(event.postId());
+            return;
+        }
+        salePostRepository.findSearchDocumentById(event.postId())
+                .ifPresentOrElse(this::put, () -> remove(event.postId()));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색어에 매칭되는 게시글 ID를 점수 내림차순(동점은 최신 ID 우선)으로 최대 limit개 반환
+     * 색인이 준비되지 않았거나 검색어에서 키를 만들 수 없으면 Optional.empty() (호출 측에서 LIKE 검색으로 대체)
+     */
+    public Optional<List<Long>> search(String query, int limit) {
+        if (!ready) return Optional.empty();
+        List<String> keys = KoreanNgramTokenizer.queryKeys(query);
+        if (keys.isEmpty()) return Optional.empty();
+
+        lock.readLock().lock();
+        try {
+            // posting이 작은 key부터 교집합을 만들어 후보 수를 빠르게 줄인다
+            List<Map<Long, Integer>> lists = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                Map<Long, Integer> posting = postings.get(key);
+                if (posting == null) return Optional.of(List.of());
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            Map<Long, Integer> scores = new HashMap<>(lists.getFirst());
+            for (int i = 1; i < lists.size() && !scores.isEmpty(); i++) {
+                Map<Long, Integer> posting = lists.get(i);
+                scores.entrySet().removeIf(e -> !posting.containsKey(e.getKey()));
+                scores.replaceAll((postId, score) -> score + posting.get(postId));
+            }
+
+            return Optional.of(scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Integer>comparingByKey().reversed()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(SalePostSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.postId());
+            putInternal(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putInternal(SalePostSearchDocument document) {
+        Map<String, Integer> weights = new HashMap<>();
+        addField(weights, document.postTitle(), POST_TITLE_WEIGHT);
+        addField(weights, document.bookTitle(), BOOK_TITLE_WEIGHT);
+        addField(weights, document.author(), AUTHOR_WEIGHT);
+
+        weights.forEach((key, weight) ->
+                postings.computeIfAbsent(key, k -> new HashMap<>()).put(document.postId(), weight));
+        forward.put(document.postId(), weights.keySet());
+    }
+
+    private void removeInternal(Long postId) {
+        Set<String> keys = forward.remove(postId);
+        if (keys == null) return;
+        for (String key : keys) {
+            Map<Long, Integer> posting = postings.get(key);
+            if (posting == null) continue;
+            posting.remove(postId);
+            if (posting.isEmpty()) postings.remove(key);
+        }
+    }
+
+    private void addField(Map<String, Integer> weights, String text, int weight) {
+        for (String key : KoreanNgramTokenizer.indexKeys(text)) {
+            weights.merge(key, weight, Integer::sum);
+        }
+    }
+}
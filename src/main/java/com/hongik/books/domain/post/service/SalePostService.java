@@ -1,37 +1,57 @@
 package com.hongik.books.domain.post.service;
 
+import com.hongik.books.common.dto.CursorResponse;
+import com.hongik.books.common.util.GeoUtils;
+import com.hongik.books.common.util.IdCursor;
 import com.hongik.books.common.util.ImageStorage;
+import com.hongik.books.common.util.ParallelImageUploader;
 import com.hongik.books.domain.book.domain.Book;
 import com.hongik.books.domain.book.repository.BookRepository;
 import com.hongik.books.domain.post.domain.PostImage;
 import com.hongik.books.domain.chat.repository.ChatRoomRepository;
 import com.hongik.books.domain.post.domain.SalePost;
 import com.hongik.books.domain.post.dto.*;
+import com.hongik.books.domain.post.event.SalePostChangedEvent;
 import com.hongik.books.domain.post.repository.PostSpecification;
 import com.hongik.books.domain.post.repository.SalePostRepository;
+import com.hongik.books.domain.post.support.DecayedTopK;
+import com.hongik.books.domain.post.support.GeoGridIndex;
 import com.hongik.books.domain.user.domain.User;
 import com.hongik.books.domain.user.repository.UserRepository;
 import com.hongik.books.domain.book.domain.Category;
 import com.hongik.books.domain.book.domain.BookCategory;
 import com.hongik.books.domain.book.repository.CategoryRepository;
+import com.hongik.books.domain.book.service.CategoryService;
+import com.hongik.books.domain.book.service.CategoryTrie;
 import lombok.RequiredArgsConstructor;
 import com.hongik.books.moderation.ModerationPolicyProperties;
 import com.hongik.books.moderation.ModerationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 // ✅ detail(학과/전공) 값을 항상 한국어로 맞추기
-import com.hongik.books.domain.post.support.DepartmentNormalizer;
+import com.hongik.books.domain.post.support.PostCursor;
 
 /**
  * 판매 게시글 관련 비즈니스 로직을 처리하는 서비스
@@ -40,142 +60,376 @@ import com.hongik.books.domain.post.support.DepartmentNormalizer;
 @RequiredArgsConstructor
 @Transactional
 public class SalePostService {
+    // 주변 검색: 거리순 후보에 검색 조건을 적용하는 묶음 크기 (size개가 찰 때까지 다음 묶음으로),
+    // 요청당 DB로 확인하는 최대 묶음 수, 최대 반경, 지도 사각형의 최대 위도/경도 폭
+    private static final int GEO_CANDIDATE_CHUNK = 1000;
+    private static final int MAX_GEO_CHUNKS = 5;
+    private static final int MAX_NEARBY_RADIUS_METERS = 20_000;
+    private static final double MAX_BOX_SPAN_DEGREES = 0.5;
+    private static final int MAX_IMAGES_PER_POST = 3;
+    private static final String POST_IMAGE_DIRECTORY = "post-images";
+
     private final SalePostRepository salePostRepository;
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
     private final ImageStorage imageStorage;
+    private final ParallelImageUploader parallelImageUploader;
+    private final TransactionTemplate transactionTemplate;
     private final ChatRoomRepository chatRoomRepository;
     private final com.hongik.books.moderation.toxic.ToxicFilterClient toxicFilterClient;
     private final ModerationService moderationService;
     private final ModerationPolicyProperties moderationPolicy;
     private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
+    private final CategoryTrie categoryTrie;
+    private final SalePostSearchIndex salePostSearchIndex;
+    private final PostViewCounter postViewCounter;
+    private final TrendingPostRanker trendingPostRanker;
+    private final PostDetailCache postDetailCache;
+    private final PostFacetIndex postFacetIndex;
+    private final PostGeoIndex postGeoIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 검색 색인 후보를 SQL IN 목록으로 넘기는 최대 개수 (넘으면 LIKE 검색으로, 바인드 변수 한도/대형 쿼리 방지)
+    @Value("${app.post.search.max-in-candidates:1000}")
+    private int maxInCandidates;
 
     /**
      * [ISBN 조회된 책]으로 판매 게시글을 생성 (이미지 업로드 포함)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long createSalePostFromSearch(
             SalePostCreateRequestDTO request,
             List<MultipartFile> imageFiles,
             Long sellerId) throws IOException {
-        User seller = userRepository.findById(sellerId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        validateImageCount(0, imageFiles);
 
-        // 정책 기반 유해 표현 검사
+        // 정책 기반 유해 표현 검사 (외부 API 호출이므로 트랜잭션 밖에서)
         var titleMode = moderationPolicy.getSalePost().getTitle();
         var contentMode = moderationPolicy.getSalePost().getContent();
         moderationService.checkOrThrow(request.getPostTitle(), titleMode, "postTitle");
         var contentModeration = moderationService.checkOrThrow(request.getPostContent(), contentMode, "postContent");
 
-        // Book (ISBN 기반 존재하면 사용, 없으면 신규 생성)
-        Book book = bookRepository.findByIsbn(request.getIsbn())
-                .orElseGet(() -> bookRepository.save(
-                        Book.builder()
-                                .isbn(request.getIsbn())
-                                .title(request.getBookTitle())
-                                .author(request.getAuthor())
-                                .publisher(request.getPublisher())
-                                .isCustom(false)
-                                .originalPrice(request.getOriginalPrice())
-                                .build()
-                ));
-
-        // ✅ 카테고리 정규화(특히 detail -> KO)
-        CategoryTriple cats = extractCategories(request);
-        // Book-Category 연결(선택)
-        attachCategoriesIfPresent(book, cats.main, cats.sub, cats.detail);
-
-        // SalePost 생성 (카테고리 필드까지 저장)
-        SalePost newSalePost = createNewSalePost(request, seller, book, cats);
-
-        // Moderation 결과 반영
-        if (contentModeration != null) {
-            newSalePost.applyContentModeration(
-                    contentModeration.predictionLevel(),
-                    contentModeration.malicious(),
-                    contentModeration.clean(),
-                    contentModeration.blocked(),
-                    contentModeration.reason()
-            );
-        }
+        // 이미지 업로드를 먼저 병렬로 끝내고, DB 반영만 짧은 트랜잭션으로 처리
+        List<String> imageUrls = parallelImageUploader.uploadAll(imageFiles, POST_IMAGE_DIRECTORY);
+        return persistOrCleanUp(imageUrls, () -> {
+            User seller = userRepository.findById(sellerId)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+
+            Book book = bookRepository.findByIsbn(request.getIsbn())
+                    .orElseGet(() -> bookRepository.save(
+                            Book.builder()
+                                    .isbn(request.getIsbn())
+                                    .title(request.getBookTitle())
+                                    .author(request.getAuthor())
+                                    .publisher(request.getPublisher())
+                                    .isCustom(false)
+                                    .originalPrice(request.getOriginalPrice())
+                                    .build()
+                    ));
+
+            // ✅ 카테고리 정규화(특히 detail -> KO)
+            CategoryTriple cats = extractCategories(request);
+            // Book-Category 연결(선택)
+            attachCategoriesIfPresent(book, cats.main, cats.sub, cats.detail);
+
+            // SalePost 생성 (카테고리 필드까지 저장)
+            SalePost newSalePost = createNewSalePost(request, seller, book, cats);
+
+            // Moderation 결과 반영
+            if (contentModeration != null) {
+                newSalePost.applyContentModeration(
+                        contentModeration.predictionLevel(),
+                        contentModeration.malicious(),
+                        contentModeration.clean(),
+                        contentModeration.blocked(),
+                        contentModeration.reason()
+                );
+            }
 
-        salePostRepository.save(newSalePost);
-        uploadAndAttachImages(imageFiles, newSalePost);
-        return newSalePost.getId();
+            salePostRepository.save(newSalePost);
+            attachImages(imageUrls, newSalePost);
+            eventPublisher.publishEvent(SalePostChangedEvent.created(newSalePost.getId()));
+            return newSalePost.getId();
+        });
     }
 
     /**
      * ISBN 없는 경우 (프린트물 교재 등)
      * [직접 등록]으로 판매 게시글을 생성 (이미지 업로드 포함)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long createSalePostCustom(
             SalePostCustomCreateRequestDTO request,
             List<MultipartFile> imageFiles,
             Long sellerId) throws IOException {
-        User seller = userRepository.findById(sellerId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        validateImageCount(0, imageFiles);
 
-        // 정책 기반 유해 표현 검사
+        // 정책 기반 유해 표현 검사 (외부 API 호출이므로 트랜잭션 밖에서)
         var titleMode = moderationPolicy.getSalePost().getTitle();
         var contentMode = moderationPolicy.getSalePost().getContent();
         moderationService.checkOrThrow(request.getPostTitle(), titleMode, "postTitle");
         var contentModeration = moderationService.checkOrThrow(request.getPostContent(), contentMode, "postContent");
 
-        // Book 신규 생성
-        Book newBook = bookRepository.save(
-                Book.builder()
-                        .title(request.getBookTitle())
-                        .author(request.getAuthor())
-                        .publisher(request.getPublisher())
-                        .isCustom(true)
-                        .originalPrice(request.getOriginalPrice())
-                        .build()
-        );
+        List<String> imageUrls = parallelImageUploader.uploadAll(imageFiles, POST_IMAGE_DIRECTORY);
+        return persistOrCleanUp(imageUrls, () -> {
+            User seller = userRepository.findById(sellerId)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+
+            // Book 신규 생성
+            Book newBook = bookRepository.save(
+                    Book.builder()
+                            .title(request.getBookTitle())
+                            .author(request.getAuthor())
+                            .publisher(request.getPublisher())
+                            .isCustom(true)
+                            .originalPrice(request.getOriginalPrice())
+                            .build()
+            );
+
+            // ✅ 카테고리 정규화
+            CategoryTriple cats = extractCategories(request);
+            attachCategoriesIfPresent(newBook, cats.main, cats.sub, cats.detail);
+
+            // SalePost 생성 (카테고리 포함)
+            SalePost newSalePost = createNewSalePost(request, seller, newBook, cats);
+
+            if (contentModeration != null) {
+                newSalePost.applyContentModeration(
+                        contentModeration.predictionLevel(),
+                        contentModeration.malicious(),
+                        contentModeration.clean(),
+                        contentModeration.blocked(),
+                        contentModeration.reason()
+                );
+            }
+            salePostRepository.save(newSalePost);
+            attachImages(imageUrls, newSalePost);
+            eventPublisher.publishEvent(SalePostChangedEvent.created(newSalePost.getId()));
+            return newSalePost.getId();
+        });
+    }
 
-        // ✅ 카테고리 정규화
-        CategoryTriple cats = extractCategories(request);
-        attachCategoriesIfPresent(newBook, cats.main, cats.sub, cats.detail);
+    /**
+     * 판매 게시글 목록 조회
+     */
+    public Page<SalePostSummaryResponseDTO> getSalePosts(PostSearchCondition condition, Pageable pageable) {
+        Optional<Specification<SalePost>> spec = searchSpecification(condition);
+        if (spec.isEmpty()) return Page.empty(pageable);
 
-        // SalePost 생성 (카테고리 포함)
-        SalePost newSalePost = createNewSalePost(request, seller, newBook, cats);
+        return salePostRepository.findSummaries(spec.get(), pageable);
+    }
 
-        if (contentModeration != null) {
-            newSalePost.applyContentModeration(
-                    contentModeration.predictionLevel(),
-                    contentModeration.malicious(),
-                    contentModeration.clean(),
-                    contentModeration.blocked(),
-                    contentModeration.reason()
-            );
+    /**
+     * 판매 게시글 목록 (커서 기반 무한 스크롤)
+     * - (정렬 키, post_id) keyset 조건으로 다음 페이지를 바로 찾으므로 OFFSET 스캔과 count 쿼리가 없다
+     * - size + 1건을 조회해 다음 페이지 존재 여부를 판단
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<SalePostSummaryResponseDTO> getSalePostsByCursor(
+            PostSearchCondition condition, String sort, String cursor, int size) {
+        PostCursor.Order order = PostCursor.Order.from(sort);
+        PostCursor after = PostCursor.decode(cursor, order);
+
+        Optional<Specification<SalePost>> spec = searchSpecification(condition);
+        if (spec.isEmpty()) return new CursorResponse<>(List.of(), false, null);
+
+        List<SalePostSummaryResponseDTO> rows = salePostRepository.findSummaries(
+                spec.get().and(PostSpecification.after(after)), order.sort(), size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<SalePostSummaryResponseDTO> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? PostCursor.of(order, page.getLast()).encode() : null;
+        return new CursorResponse<>(page, hasNext, nextCursor);
+    }
+
+    /**
+     * 판매 게시글 목록 패싯 (카테고리/판매 상태/책 상태/가격대별 개수)
+     * 목록 조회와 같은 검색 조건을 받아 PostFacetIndex에서 한 번에 계산
+     */
+    @Transactional(readOnly = true)
+    public PostFacetResponseDTO getSalePostFacets(PostSearchCondition condition) {
+        List<String> categories = categoryTrie.departmentSearchNames(condition.getCategory());
+
+        List<Long> matchedIds = null;
+        if (StringUtils.hasText(condition.getQuery())) {
+            matchedIds = searchCandidates(condition.getQuery())
+                    .orElseGet(() -> salePostRepository.findIdsByKeyword(condition.getQuery()));
         }
-        salePostRepository.save(newSalePost);
-        uploadAndAttachImages(imageFiles, newSalePost);
-        return newSalePost.getId();
+        return postFacetIndex.count(matchedIds, categories, condition.getMinPrice(), condition.getMaxPrice());
     }
 
     /**
-     * 판매 게시글 목록 조회
+     * 주변 판매 게시글 (반경 검색, 가까운 순)
+     * 위치 색인에서 반경 안의 후보 전체를 거리순으로 고른 뒤 목록과 같은 검색 조건을 적용
      */
-    public Page<SalePostSummaryResponseDTO> getSalePosts(PostSearchCondition condition, Pageable pageable) {
-        // ✅ 다국어 카테고리 필터 KO로 정규화
-        String categoryKo = DepartmentNormalizer.toKoreanOrNull(condition.getCategory());
+    @Transactional(readOnly = true)
+    public List<SalePostNearbyResponseDTO> getNearbySalePosts(
+            PostSearchCondition condition, double latitude, double longitude, int radiusMeters, int size) {
+        validateCoordinate(latitude, longitude);
+        if (radiusMeters < 1 || radiusMeters > MAX_NEARBY_RADIUS_METERS) {
+            throw new IllegalArgumentException("반경은 1m 이상 " + MAX_NEARBY_RADIUS_METERS + "m 이하여야 합니다.");
+        }
+        List<GeoGridIndex.Hit> hits = postGeoIndex.withinRadius(latitude, longitude, radiusMeters, Integer.MAX_VALUE);
+        return filterInDistanceOrder(condition, hits, size);
+    }
+
+    /**
+     * 지도 화면(사각형) 안의 판매 게시글 (사각형 중심에서 가까운 순)
+     */
+    @Transactional(readOnly = true)
+    public List<SalePostNearbyResponseDTO> getSalePostsWithinBox(
+            PostSearchCondition condition, double minLat, double minLng, double maxLat, double maxLng, int size) {
+        validateCoordinate(minLat, minLng);
+        validateCoordinate(maxLat, maxLng);
+        if (minLat > maxLat || minLng > maxLng) {
+            throw new IllegalArgumentException("남서쪽 좌표는 북동쪽 좌표보다 작아야 합니다.");
+        }
+        if (maxLat - minLat > MAX_BOX_SPAN_DEGREES || maxLng - minLng > MAX_BOX_SPAN_DEGREES) {
+            throw new IllegalArgumentException("지도 범위는 위도/경도 " + MAX_BOX_SPAN_DEGREES + "도 이내여야 합니다.");
+        }
+        List<GeoGridIndex.Hit> hits = postGeoIndex.withinBox(minLat, minLng, maxLat, maxLng, Integer.MAX_VALUE);
+        return filterInDistanceOrder(condition, hits, size);
+    }
 
+    // 거리순 후보에 검색 조건을 적용하고, 요약은 프로젝션으로 조회해 거리순을 유지한 채 size개까지
+    // 검색어/카테고리/가격은 메모리 색인(검색/패싯)으로 먼저 걸러, DB에는 거리순 묶음의 ID만 넘긴다
+    // 조건에 맞는 게시글이 size개 찰 때까지 가까운 후보부터 묶음 단위로 넓혀 가되, 최대 MAX_GEO_CHUNKS 묶음까지
+    private List<SalePostNearbyResponseDTO> filterInDistanceOrder(
+            PostSearchCondition condition, List<GeoGridIndex.Hit> hits, int size) {
+        if (hits.isEmpty()) return List.of();
+        List<String> categories = categoryTrie.departmentSearchNames(condition.getCategory());
+
+        // 검색 색인을 쓸 수 없을 때만 DB에서 LIKE 검색
+        String likeQuery = condition.getQuery();
+        if (StringUtils.hasText(likeQuery)) {
+            Optional<List<Long>> matched = searchCandidates(likeQuery);
+            if (matched.isPresent()) {
+                Set<Long> matchedIds = new HashSet<>(matched.get());
+                hits = hits.stream().filter(hit -> matchedIds.contains(hit.id())).toList();
+                likeQuery = null;
+            }
+        }
+        Optional<List<Long>> narrowed = postFacetIndex.filter(hits.stream().map(GeoGridIndex.Hit::id).toList(),
+                categories, condition.getMinPrice(), condition.getMaxPrice());
+        if (narrowed.isPresent() && narrowed.get().size() < hits.size()) {
+            Set<Long> kept = new HashSet<>(narrowed.get());
+            hits = hits.stream().filter(hit -> kept.contains(hit.id())).toList();
+        }
+        if (hits.isEmpty()) return List.of();
+
+        // 색인이 반영하기 전의 변경(가격 수정 등)도 걸러지도록 카테고리/가격은 DB 조건으로도 둔다
         Specification<SalePost> spec = Specification.allOf(
-                PostSpecification.hasQuery(condition.getQuery()),
-                PostSpecification.inCategory(categoryKo),
+                PostSpecification.hasQuery(likeQuery),
+                PostSpecification.inAnyCategory(categories),
+                PostSpecification.priceBetween(condition.getMinPrice(), condition.getMaxPrice()));
+        int scanLimit = Math.min(hits.size(), GEO_CANDIDATE_CHUNK * MAX_GEO_CHUNKS);
+
+        List<SalePostNearbyResponseDTO> result = new ArrayList<>(Math.min(size, hits.size()));
+        for (int from = 0; from < scanLimit && result.size() < size; from += GEO_CANDIDATE_CHUNK) {
+            List<GeoGridIndex.Hit> chunk = hits.subList(from, Math.min(from + GEO_CANDIDATE_CHUNK, scanLimit));
+            List<Long> candidateIds = chunk.stream().map(GeoGridIndex.Hit::id).toList();
+            Map<Long, SalePostSummaryResponseDTO> byId = salePostRepository.findSummaries(
+                            spec.and(PostSpecification.idIn(candidateIds)), Sort.unsorted(), candidateIds.size())
+                    .stream()
+                    .collect(Collectors.toMap(SalePostSummaryResponseDTO::getPostId, s -> s));
+
+            for (GeoGridIndex.Hit hit : chunk) {
+                SalePostSummaryResponseDTO summary = byId.get(hit.id());
+                if (summary == null) continue;
+                result.add(new SalePostNearbyResponseDTO(summary, Math.round(hit.distanceMeters())));
+                if (result.size() == size) break;
+            }
+        }
+        return result;
+    }
+
+    private void validateCoordinate(double latitude, double longitude) {
+        if (!GeoUtils.isValid(latitude, longitude)) {
+            throw new IllegalArgumentException("위도/경도 범위가 올바르지 않습니다.");
+        }
+    }
+
+    // 목록 검색 조건 → Specification. 검색 색인상 매칭 결과가 없으면 Optional.empty()
+    private Optional<Specification<SalePost>> searchSpecification(PostSearchCondition condition) {
+        // ✅ 다국어 카테고리 필터 KO로 정규화
+        List<String> categories = categoryTrie.departmentSearchNames(condition.getCategory());
+
+        // 검색어는 n-gram 색인으로 후보 ID를 먼저 좁히고, 색인을 쓸 수 없을 때만 LIKE 검색
+        // 후보는 잘라내지 않는다 (잘라내면 필터 결과/전체 개수/정렬이 상위 일부 기준이 됨)
+        // 대신 max-in-candidates를 넘는 흔한 검색어는 IN 목록 대신 LIKE 검색으로 DB에서 거른다
+        Specification<SalePost> queryFilter = PostSpecification.hasQuery(condition.getQuery());
+        if (StringUtils.hasText(condition.getQuery())) {
+            Optional<List<Long>> matched = searchCandidates(condition.getQuery());
+            if (matched.isPresent()) {
+                // 카테고리/가격 조건을 패싯 색인으로 먼저 적용해 IN 목록을 실제 결과 크기로 줄인다 (준비 전이면 DB 조건만)
+                List<Long> candidates = postFacetIndex.filter(
+                                matched.get(), categories, condition.getMinPrice(), condition.getMaxPrice())
+                        .orElse(matched.get());
+                if (candidates.isEmpty()) return Optional.empty();
+                if (candidates.size() <= maxInCandidates) queryFilter = PostSpecification.idIn(candidates);
+            }
+        }
+
+        return Optional.of(Specification.allOf(
+                queryFilter,
+                PostSpecification.inAnyCategory(categories),
                 PostSpecification.priceBetween(condition.getMinPrice(), condition.getMaxPrice())
-        );
+        ));
+    }
 
-        Page<SalePost> salePosts = salePostRepository.findAll(spec, pageable);
-        return salePosts.map(SalePostSummaryResponseDTO::fromEntity);
+    // 검색어 매칭 게시글 ID 전체 (목록과 패싯이 같은 후보 집합을 쓰도록 한 곳에서). 색인을 쓸 수 없으면 Optional.empty()
+    private Optional<List<Long>> searchCandidates(String query) {
+        return salePostSearchIndex.search(query, Integer.MAX_VALUE);
     }
 
     /**
      * 특정 판매 게시글 상세 + 조회수 증가
+     * 조회수는 PostViewCounter에 누적 후 주기적으로 반영되므로 읽기 전용 트랜잭션으로 처리
+     * 상세 본문은 PostDetailCache에서 먼저 찾고, 조회수만 PK 조회로 최신 값을 채운다
      */
+    @Transactional(readOnly = true)
     public SalePostDetailResponseDTO getSalePostById(Long postId) {
-        SalePost salePost = findSalePostById(postId);
-        salePost.increaseViewCount();
-        return SalePostDetailResponseDTO.fromEntity(salePost);
+        SalePostDetailResponseDTO detail;
+        int views;
+        Optional<SalePostDetailResponseDTO> cached = postDetailCache.get(postId);
+        if (cached.isPresent()) {
+            detail = cached.get();
+            views = salePostRepository.findViewsById(postId)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글 ID입니다."));
+        } else {
+            // 읽기 전 세대 번호: 읽는 사이 수정이 커밋되면 이 값은 캐시되지 않는다
+            long cacheVersion = postDetailCache.version(postId);
+            SalePost salePost = findSalePostById(postId);
+            detail = SalePostDetailResponseDTO.fromEntity(salePost);
+            views = salePost.getViews();
+            postDetailCache.put(postId, detail, cacheVersion);
+        }
+        recordView(postId);
+        return detail.withViews(views + postViewCounter.pendingViews(postId));
+    }
+
+    /**
+     * 상세 조회 한 번의 기록 (조회수 누적 + 지금 뜨는 점수)
+     * 본문 없이 304로 끝난 조회도 같은 기록을 남긴다 (PostNotModifiedViewListener)
+     * 메모리 카운터만 건드리므로 DB 트랜잭션을 열지 않는다
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordView(Long postId) {
+        postViewCounter.increment(postId);
+        trendingPostRanker.recordView(postId);
+    }
+
+    /**
+     * 지금 뜨는 판매 게시글 (조회/찜/채팅 문의 감쇠 점수 상위 size개)
+     * 순위는 메모리에서 바로 꺼내고, 요약은 ID 조회 한 번으로 순위 순서를 유지한 채 채운다
+     */
+    @Transactional(readOnly = true)
+    public List<SalePostSummaryResponseDTO> getTrendingPosts(int size) {
+        List<Long> ids = trendingPostRanker.top(size).stream()
+                .map(DecayedTopK.Entry::id)
+                .toList();
+        return salePostRepository.findSummariesByIds(ids);
     }
 
     /**
@@ -183,9 +437,31 @@ public class SalePostService {
      */
     @Transactional(readOnly = true)
     public List<MyPostSummaryResponseDTO> getMySalePosts(Long userId) {
-        return salePostRepository.findAllBySellerIdOrderByCreatedAtDesc(userId).stream()
-                .map(MyPostSummaryResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+        return toMyPostSummaries(salePostRepository.findMyPostRows(userId, null, Pageable.unpaged()));
+    }
+
+    /**
+     * 내 판매글 목록 (커서 페이지네이션, 최신순)
+     * 페이지마다 프로젝션 1회 + 대표 이미지 1회
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<MyPostSummaryResponseDTO> getMySalePostsByCursor(Long userId, String cursor, int size) {
+        List<MyPostRow> rows = salePostRepository.findMyPostRows(
+                userId, IdCursor.decode(cursor), PageRequest.of(0, size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<MyPostRow> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? IdCursor.encode(page.getLast().postId()) : null;
+        return new CursorResponse<>(toMyPostSummaries(page), hasNext, nextCursor);
+    }
+
+    private List<MyPostSummaryResponseDTO> toMyPostSummaries(List<MyPostRow> rows) {
+        if (rows.isEmpty()) return List.of();
+        Map<Long, String> thumbnails = salePostRepository.findFirstImageUrls(
+                rows.stream().map(MyPostRow::postId).toList());
+        return rows.stream()
+                .map(row -> MyPostSummaryResponseDTO.of(row, thumbnails.get(row.postId())))
+                .toList();
     }
 
     /**
@@ -209,24 +485,34 @@ public class SalePostService {
                     contentModeration2.reason()
             );
         }
+        eventPublisher.publishEvent(SalePostChangedEvent.updated(postId));
     }
 
     /**
      * 판매 게시글 이미지 추가
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void addImagesToPost(Long postId, List<MultipartFile> imageFiles, Long userId) throws IOException {
-        SalePost salePost = findSalePostById(postId);
-        validatePostOwner(salePost, userId);
+        // 권한/개수 사전 검사 (업로드 전에 빠르게 거절)
+        transactionTemplate.executeWithoutResult(status -> {
+            SalePost salePost = findSalePostById(postId);
+            validatePostOwner(salePost, userId);
+            validateImageCount(salePost.getPostImages().size(), imageFiles);
+        });
 
         if (imageFiles == null || imageFiles.isEmpty()) return;
 
-        int existing = salePost.getPostImages() != null ? salePost.getPostImages().size() : 0;
-        int incoming = imageFiles.size();
-        if (existing + incoming > 3) {
-            throw new IllegalArgumentException("이미지는 최대 3장까지 업로드할 수 있습니다.");
-        }
-
-        uploadAndAttachImages(imageFiles, salePost);
+        List<String> imageUrls = parallelImageUploader.uploadAll(imageFiles, POST_IMAGE_DIRECTORY);
+        persistOrCleanUp(imageUrls, () -> {
+            // 업로드 중 다른 요청으로 이미지가 추가됐을 수 있으므로 다시 검사
+            SalePost salePost = findSalePostById(postId);
+            validatePostOwner(salePost, userId);
+            validateImageCount(salePost.getPostImages().size(), imageFiles);
+
+            attachImages(imageUrls, salePost);
+            eventPublisher.publishEvent(SalePostChangedEvent.updated(postId));
+            return postId;
+        });
     }
 
     /**
@@ -252,6 +538,7 @@ public class SalePostService {
             }
             salePost.setBuyer(buyer);
         }
+        eventPublisher.publishEvent(SalePostChangedEvent.updated(postId));
     }
 
     /**
@@ -260,8 +547,14 @@ public class SalePostService {
     public void deleteSalePost(Long postId, Long userId) {
         SalePost salePost = findSalePostById(postId);
         validatePostOwner(salePost, userId);
-        salePost.getPostImages().forEach(image -> imageStorage.deleteImage(image.getImageUrl()));
+        salePost.getPostImages().forEach(image -> {
+            imageStorage.deleteImage(image.getImageUrl());
+            // 파생 이미지는 원본과 별도로 참조 해제 (아직 없거나 원본 URL이면 무시됨)
+            imageStorage.releaseDerivative(image.getThumbnailUrl());
+            imageStorage.releaseDerivative(image.getDetailUrl());
+        });
         salePostRepository.delete(salePost);
+        eventPublisher.publishEvent(SalePostChangedEvent.deleted(postId));
     }
 
     // --- Private Helper Methods ---
@@ -297,6 +590,9 @@ public class SalePostService {
                     .negotiable(req.isNegotiable())
                     .oncampusPlaceCode(req.getOncampusPlaceCode())
                     .offcampusStationCode(req.getOffcampusStationCode())
+                    .locationName(req.getLocationName())
+                    .latitude(req.getLatitude())
+                    .longitude(req.getLongitude())
                     .mainCategory(cats.main)
                     .subCategory(cats.sub)
                     .detailCategory(cats.detail)
@@ -315,6 +611,9 @@ public class SalePostService {
                     .negotiable(req.isNegotiable())
                     .oncampusPlaceCode(req.getOncampusPlaceCode())
                     .offcampusStationCode(req.getOffcampusStationCode())
+                    .locationName(req.getLocationName())
+                    .latitude(req.getLatitude())
+                    .longitude(req.getLongitude())
                     .mainCategory(cats.main)
                     .subCategory(cats.sub)
                     .detailCategory(cats.detail)
@@ -323,52 +622,49 @@ public class SalePostService {
         throw new IllegalArgumentException("지원하지 않는 요청 타입입니다.");
     }
 
-    private void uploadAndAttachImages(List<MultipartFile> imageFiles, SalePost salePost) throws IOException {
-        if (imageFiles != null && !imageFiles.isEmpty()) {
-            if (imageFiles.size() > 3) {
-                throw new IllegalArgumentException("이미지는 최대 3장까지 업로드할 수 있습니다.");
-            }
-            for (MultipartFile imageFile : imageFiles) {
-                String imageUrl = imageStorage.uploadImage(imageFile, "post-images");
-                PostImage postImage = PostImage.builder()
-                        .salePost(salePost)
-                        .imageUrl(imageUrl)
-                        .build();
-                salePost.addPostImage(postImage);
-            }
+    private void validateImageCount(int existing, List<MultipartFile> imageFiles) {
+        int incoming = imageFiles == null ? 0 : imageFiles.size();
+        if (existing + incoming > MAX_IMAGES_PER_POST) {
+            throw new IllegalArgumentException("이미지는 최대 3장까지 업로드할 수 있습니다.");
+        }
+    }
+
+    private void attachImages(List<String> imageUrls, SalePost salePost) {
+        for (String imageUrl : imageUrls) {
+            PostImage postImage = PostImage.builder()
+                    .salePost(salePost)
+                    .imageUrl(imageUrl)
+                    .build();
+            salePost.addPostImage(postImage);
+        }
+    }
+
+    /**
+     * 업로드가 끝난 이미지를 DB에 반영하는 짧은 트랜잭션
+     * 트랜잭션이 실패(롤백)하면 이미 올라간 이미지를 지워 고아 파일을 남기지 않는다
+     */
+    private Long persistOrCleanUp(List<String> uploadedUrls, Supplier<Long> persist) {
+        try {
+            return transactionTemplate.execute(status -> persist.get());
+        } catch (RuntimeException e) {
+            parallelImageUploader.deleteAllQuietly(uploadedUrls);
+            throw e;
         }
     }
 
     // --- Category helpers ---
     private void attachCategoriesIfPresent(Book book, String main, String sub, String detail) {
         if (detail == null || detail.isBlank()) return; // leaf 없으면 스킵
-        Category leaf = ensureCategoryPath(main, sub, detail);
+        Long leafId = categoryService.resolveCategoryPath(main, sub, detail);
         boolean exists = book.getBookCategories().stream()
-                .anyMatch(bc -> bc.getCategory() != null && leaf.getId() != null && leaf.getId().equals(bc.getCategory().getId()));
+                .anyMatch(bc -> bc.getCategory() != null && leafId.equals(bc.getCategory().getId()));
         if (!exists) {
+            // book은 영속 상태이고 bookCategories는 cascade = ALL 이므로 flush 시 함께 저장된다
+            Category leaf = categoryRepository.getReferenceById(leafId);
             book.getBookCategories().add(BookCategory.builder().book(book).category(leaf).build());
-            bookRepository.save(book);
         }
     }
 
-    private Category ensureCategoryPath(String main, String sub, String detail) {
-        Category root = findOrCreateCategory(normalize(main, "교양"), null);
-        Category mid = (sub != null && !sub.isBlank()) ? findOrCreateCategory(sub.trim(), root) : root;
-        return findOrCreateCategory(detail.trim(), mid);
-    }
-
-    private Category findOrCreateCategory(String name, Category parent) {
-        return parent == null
-                ? categoryRepository.findByNameAndParentIsNull(name)
-                .orElseGet(() -> categoryRepository.save(Category.builder().name(name).parent(null).build()))
-                : categoryRepository.findByNameAndParent(name, parent)
-                .orElseGet(() -> categoryRepository.save(Category.builder().name(name).parent(parent).build()));
-    }
-
-    private String normalize(String v, String def) {
-        return (v == null || v.isBlank()) ? def : v.trim();
-    }
-
     // ✅ DTO에서 카테고리 꺼내고 detail은 한국어로 정규화
     private CategoryTriple extractCategories(Object dto) {
         String main = null, sub = null, detail = null;
@@ -382,7 +678,7 @@ public class SalePostService {
             detail = safe(r.getDetailCategory());
         }
         // detail만 한글 정규화
-        detail = DepartmentNormalizer.toKoreanOrNull(detail);
+        detail = categoryTrie.normalizeDepartment(detail);
         return new CategoryTriple(safe(main), safe(sub), safe(detail));
     }
 
@@ -396,12 +692,10 @@ public class SalePostService {
     @Transactional(readOnly = true)
     public List<SalePostSummaryResponseDTO> getSellerPosts(Long sellerId, int limit) {
         int size = Math.max(1, Math.min(limit, 50));
-        var page = salePostRepository.findAllBySellerId(
-                sellerId,
-                PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt"))
+        return salePostRepository.findSummaries(
+                PostSpecification.soldBy(sellerId),
+                Sort.by(Sort.Direction.DESC, "createdAt"),
+                size
         );
-        return page.getContent().stream()
-                .map(SalePostSummaryResponseDTO::fromEntity)
-                .collect(Collectors.toList());
     }
 }
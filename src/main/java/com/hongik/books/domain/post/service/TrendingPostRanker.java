@@ -0,0 +1,156 @@
+package com.hongik.books.domain.post.service;
+
+import com.hongik.books.domain.chat.dto.ChatRoomCreatedRow;
+import com.hongik.books.domain.chat.event.ChatRoomCreatedEvent;
+import com.hongik.books.domain.chat.repository.ChatRoomRepository;
+import com.hongik.books.domain.post.domain.SalePost;
+import com.hongik.books.domain.post.dto.PostActivityRow;
+import com.hongik.books.domain.post.dto.PostViewSeedRow;
+import com.hongik.books.domain.post.event.PostLikeChangedEvent;
+import com.hongik.books.domain.post.event.SalePostChangedEvent;
+import com.hongik.books.domain.post.repository.PostLikeRepository;
+import com.hongik.books.domain.post.repository.SalePostRepository;
+import com.hongik.books.domain.post.support.DecayedTopK;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 지금 뜨는 판매 게시글 순위 (조회/찜/채팅 문의를 가중치로 더한 지수 감쇠 점수, DecayedTopK 래퍼)
+ * - 조회는 상세 조회 시 바로, 찜/채팅방 생성은 커밋 이후 이벤트로 반영
+ * - 판매 완료/삭제된 게시글은 순위에서 뺀다
+ * - 애플리케이션 시작 시 최근 window-days 동안의 찜/채팅방과 게시글 누적 조회수로 다시 채운다
+ *   (조회는 시각 기록이 없으므로 게시글 등록 시각에 일어난 것으로 보수적으로 계산)
+ * - 인스턴스 로컬 집계이므로 인스턴스마다 조회 신호는 조금씩 다를 수 있다
+ */
+@Slf4j
+@Component
+public class TrendingPostRanker {
+
+    private final SalePostRepository salePostRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final ChatRoomRepository chatRoomRepository;
+
+    private final long halfLifeMillis;
+    private final int capacity;
+    private final int windowDays;
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double chatWeight;
+
+    private volatile DecayedTopK scores;
+
+    public TrendingPostRanker(SalePostRepository salePostRepository,
+                              PostLikeRepository postLikeRepository,
+                              ChatRoomRepository chatRoomRepository,
+                              @Value("${app.post.trending.half-life-hours:6}") long halfLifeHours,
+                              @Value("${app.post.trending.capacity:2000}") int capacity,
+                              @Value("${app.post.trending.window-days:7}") int windowDays,
+                              @Value("${app.post.trending.view-weight:1}") double viewWeight,
+                              @Value("${app.post.trending.like-weight:5}") double likeWeight,
+                              @Value("${app.post.trending.chat-weight:10}") double chatWeight) {
+        this.salePostRepository = salePostRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.halfLifeMillis = Duration.ofHours(halfLifeHours).toMillis();
+        this.capacity = capacity;
+        this.windowDays = windowDays;
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.chatWeight = chatWeight;
+        this.scores = new DecayedTopK(halfLifeMillis, capacity, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            LocalDateTime since = LocalDateTime.now().minusDays(windowDays);
+            DecayedTopK rebuilt = new DecayedTopK(halfLifeMillis, capacity, System.currentTimeMillis());
+
+            for (PostViewSeedRow row : salePostRepository.findViewSeedRowsSince(since)) {
+                if (row.views() == null || row.views() == 0 || row.createdAt() == null) continue;
+                rebuilt.add(row.postId(), viewWeight * row.views(), toMillis(row.createdAt()));
+            }
+            for (PostActivityRow row : postLikeRepository.findActivityRowsSince(since)) {
+                if (row.occurredAt() == null) continue;
+                rebuilt.add(row.postId(), likeWeight, toMillis(row.occurredAt()));
+            }
+            for (ChatRoomCreatedRow row : chatRoomRepository.findCreatedRowsSince(since.toString())) {
+                Long at = parseMillis(row.createdAt());
+                if (at != null) rebuilt.add(row.salePostId(), chatWeight, at);
+            }
+
+            synchronized (this) {
+                scores = rebuilt;
+            }
+            log.info("Trending post ranking built: {} posts", rebuilt.size());
+        } catch (Exception e) {
+            log.warn("Trending post ranking build failed: {}", e.getMessage());
+        }
+    }
+
+    public void recordView(Long postId) {
+        record(postId, viewWeight);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostLikeChanged(PostLikeChangedEvent event) {
+        // 찜 취소는 점수를 깎지 않는다 (감쇠로 자연히 줄어듦)
+        if (event.liked()) record(event.postId(), likeWeight);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChatRoomCreated(ChatRoomCreatedEvent event) {
+        record(event.salePostId(), chatWeight);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSalePostChanged(SalePostChangedEvent event) {
+        boolean gone = switch (event.type()) {
+            case CREATED -> false;
+            case DELETED -> true;
+            case UPDATED -> salePostRepository.findStatusById(event.postId())
+                    .map(status -> status == SalePost.SaleStatus.SOLD_OUT)
+                    .orElse(true);
+        };
+        if (!gone) return;
+        synchronized (this) {
+            scores.remove(event.postId());
+        }
+    }
+
+    /**
+     * 현재 감쇠 점수 상위 limit개 게시글 (높은 순)
+     */
+    public synchronized List<DecayedTopK.Entry> top(int limit) {
+        return scores.top(limit, System.currentTimeMillis());
+    }
+
+    private synchronized void record(Long postId, double weight) {
+        if (postId == null) return;
+        scores.add(postId, weight, System.currentTimeMillis());
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static Long parseMillis(String isoDateTime) {
+        if (isoDateTime == null) return null;
+        try {
+            return toMillis(LocalDateTime.parse(isoDateTime));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
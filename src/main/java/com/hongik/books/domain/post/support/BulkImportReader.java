@@ -0,0 +1,188 @@
+package com.hongik.books.domain.post.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 판매 게시글 일괄 등록 입력(CSV / JSON Lines)을 한 행씩 읽는 리더
+ * - 파일 전체를 메모리에 올리지 않고 스트림에서 레코드 단위로 읽는다
+ * - CSV: 첫 줄은 헤더(요청 DTO 필드 이름), 따옴표 안의 쉼표/줄바꿈 허용 (RFC 4180), 빈 칸은 값 없음으로 처리
+ * - JSON Lines: 한 줄에 JSON 객체 하나, 빈 줄은 건너뜀
+ * - 행 하나의 형식 오류는 오류 메시지를 담은 Row로 돌려주고, 이후 행은 계속 읽는다
+ */
+public final class BulkImportReader implements Closeable {
+
+    private static final int MAX_RECORD_CHARS = 64 * 1024;
+    private static final TypeReference<LinkedHashMap<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    public enum Format {
+        CSV, JSONL;
+
+        /**
+         * 명시한 형식(csv | jsonl | ndjson)을 우선하고, 없으면 파일 확장자로 판단
+         */
+        public static Format resolve(String format, String filename) {
+            String value = (format != null && !format.isBlank()) ? format : extensionOf(filename);
+            return switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "csv" -> CSV;
+                case "jsonl", "ndjson", "json" -> JSONL;
+                default -> throw new IllegalArgumentException("지원하지 않는 일괄 등록 형식입니다. (csv, jsonl)");
+            };
+        }
+
+        private static String extensionOf(String filename) {
+            if (filename == null) return "";
+            int dot = filename.lastIndexOf('.');
+            return dot < 0 ? "" : filename.substring(dot + 1);
+        }
+    }
+
+    /**
+     * 읽은 행 (error가 있으면 fields는 비어 있음)
+     */
+    public record Row(int number, Map<String, Object> fields, String error) {
+        public boolean valid() {
+            return error == null;
+        }
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private int rowNumber;
+
+    private BulkImportReader(BufferedReader reader, Format format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    public static BulkImportReader open(InputStream in, Format format, ObjectMapper objectMapper) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return new BulkImportReader(reader, format, objectMapper);
+    }
+
+    /**
+     * 다음 행을 읽는다. 입력이 끝나면 null
+     * @throws IllegalArgumentException CSV 구조가 깨져 이후 행을 신뢰할 수 없을 때 (헤더 없음, 닫히지 않은 따옴표)
+     */
+    public Row next() throws IOException {
+        return format == Format.CSV ? nextCsv() : nextJsonLine();
+    }
+
+    private Row nextJsonLine() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (rowNumber == 0) line = stripBom(line);
+            if (line.isBlank()) continue;
+            int number = ++rowNumber;
+            try {
+                return new Row(number, objectMapper.readValue(line, MAP_TYPE), null);
+            } catch (JsonProcessingException e) {
+                return new Row(number, Map.of(), "JSON 형식이 올바르지 않습니다.");
+            }
+        }
+        return null;
+    }
+
+    private Row nextCsv() throws IOException {
+        if (header == null) {
+            List<String> names = readCsvRecord();
+            if (names == null || isEmptyRecord(names)) {
+                throw new IllegalArgumentException("CSV 헤더 행이 필요합니다.");
+            }
+            names.set(0, stripBom(names.get(0)));
+            header = names.stream().map(String::trim).toList();
+        }
+
+        List<String> values;
+        do {
+            values = readCsvRecord();
+            if (values == null) return null;
+        } while (isEmptyRecord(values));
+
+        int number = ++rowNumber;
+        if (values.size() != header.size()) {
+            return new Row(number, Map.of(), "열 개수(" + values.size() + ")가 헤더(" + header.size() + ")와 다릅니다.");
+        }
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = values.get(i);
+            if (!value.isBlank()) fields.put(header.get(i), value);
+        }
+        return new Row(number, fields, null);
+    }
+
+    // RFC 4180 레코드 하나 (따옴표 안의 구분자/줄바꿈, "" 이스케이프). 입력 끝이면 null
+    private List<String> readCsvRecord() throws IOException {
+        int c = reader.read();
+        if (c < 0) return null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        while (c >= 0) {
+            if (++length > MAX_RECORD_CHARS) {
+                throw new IllegalArgumentException("CSV 행이 너무 깁니다. 따옴표가 닫혔는지 확인해 주세요.");
+            }
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int peek = reader.read();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (peek >= 0) reader.reset();
+                    }
+                } else {
+                    field.append(ch);
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+            c = reader.read();
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("CSV 따옴표가 닫히지 않았습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static boolean isEmptyRecord(List<String> record) {
+        return record.size() == 1 && record.get(0).isBlank();
+    }
+
+    private static String stripBom(String value) {
+        return (!value.isEmpty() && value.charAt(0) == '\uFEFF') ? value.substring(1) : value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
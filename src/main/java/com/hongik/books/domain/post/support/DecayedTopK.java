@@ -0,0 +1,114 @@
+package com.hongik.books.domain.post.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 지수 감쇠 점수 상위 K 집계 (forward decay)
+ * - 시각 t의 가중치 w 이벤트를 기준 시각(landmark) L에 대해 w·e^(λ(t−L))로 더해 둔다
+ *   모든 항목이 같은 e^(−λ(now−L))로 줄어들므로 저장값 순서 = 현재 감쇠 점수 순서 (시간이 흘러도 재계산 없음)
+ * - 점수는 HashMap(id → 저장값) + TreeSet(저장값, id) 으로 보관: 갱신 O(log n), 상위 K개 O(K)
+ * - 항목 수가 capacity를 넘으면 가장 낮은 항목부터 버린다 (오래 활동이 없던 항목이 자연히 밀려남)
+ * - 저장값이 너무 커지기 전에 기준 시각을 현재로 옮기고 전체를 같은 비율로 줄인다 (순서 불변)
+ * - 동기화하지 않으므로 호출 측에서 잠금을 건다
+ */
+public final class DecayedTopK {
+
+    /**
+     * 상위 항목 한 건 (score: 조회 시점의 감쇠 점수)
+     */
+    public record Entry(long id, double score) {
+    }
+
+    private record Ranked(long id, double forward) {
+    }
+
+    private static final Comparator<Ranked> BY_FORWARD =
+            Comparator.comparingDouble(Ranked::forward).thenComparingLong(Ranked::id);
+
+    // e^300 ≈ 1.9e130 : 이벤트가 많이 쌓여도 double 범위(1.8e308)에 충분히 못 미치는 지점에서 기준 시각 이동
+    private static final double MAX_EXPONENT = 300;
+
+    private final double lambdaPerMilli;
+    private final int capacity;
+    private long landmarkMillis;
+
+    private final Map<Long, Double> forwardById = new HashMap<>();
+    private final TreeSet<Ranked> ordered = new TreeSet<>(BY_FORWARD);
+
+    /**
+     * @param halfLifeMillis 점수가 절반으로 줄어드는 시간
+     * @param capacity       보관할 최대 항목 수
+     * @param nowMillis      처음 기준 시각
+     */
+    public DecayedTopK(long halfLifeMillis, int capacity, long nowMillis) {
+        if (halfLifeMillis <= 0 || capacity <= 0) throw new IllegalArgumentException("invalid decay settings");
+        this.lambdaPerMilli = Math.log(2) / halfLifeMillis;
+        this.capacity = capacity;
+        this.landmarkMillis = nowMillis;
+    }
+
+    /**
+     * 시각 atMillis에 일어난 가중치 weight 이벤트를 반영
+     */
+    public void add(long id, double weight, long atMillis) {
+        if (weight <= 0) return;
+        if (lambdaPerMilli * (atMillis - landmarkMillis) > MAX_EXPONENT) rebase(atMillis);
+
+        double increment = weight * Math.exp(lambdaPerMilli * (atMillis - landmarkMillis));
+        Double previous = forwardById.get(id);
+        if (previous != null) ordered.remove(new Ranked(id, previous));
+        double forward = (previous == null ? 0 : previous) + increment;
+        forwardById.put(id, forward);
+        ordered.add(new Ranked(id, forward));
+
+        while (ordered.size() > capacity) {
+            Ranked lowest = ordered.pollFirst();
+            forwardById.remove(lowest.id());
+        }
+    }
+
+    public boolean remove(long id) {
+        Double previous = forwardById.remove(id);
+        if (previous == null) return false;
+        ordered.remove(new Ranked(id, previous));
+        return true;
+    }
+
+    public int size() {
+        return forwardById.size();
+    }
+
+    /**
+     * 감쇠 점수 상위 k개 (높은 순)
+     */
+    public List<Entry> top(int k, long nowMillis) {
+        double decay = Math.exp(-lambdaPerMilli * (nowMillis - landmarkMillis));
+        List<Entry> top = new ArrayList<>(Math.min(k, ordered.size()));
+        Iterator<Ranked> it = ordered.descendingIterator();
+        while (it.hasNext() && top.size() < k) {
+            Ranked ranked = it.next();
+            top.add(new Entry(ranked.id(), ranked.forward() * decay));
+        }
+        return top;
+    }
+
+    // 기준 시각을 옮기며 모든 저장값에 같은 배율을 곱한다 (순서가 그대로이므로 TreeSet은 같은 순서로 다시 채움)
+    private void rebase(long newLandmarkMillis) {
+        double factor = Math.exp(-lambdaPerMilli * (newLandmarkMillis - landmarkMillis));
+        List<Ranked> rescaled = new ArrayList<>(ordered.size());
+        for (Ranked ranked : ordered) {
+            double forward = ranked.forward() * factor;
+            rescaled.add(new Ranked(ranked.id(), forward));
+            forwardById.put(ranked.id(), forward);
+        }
+        ordered.clear();
+        ordered.addAll(rescaled);
+        landmarkMillis = newLandmarkMillis;
+    }
+}
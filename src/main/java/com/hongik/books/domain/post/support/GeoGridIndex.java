@@ -0,0 +1,172 @@
+package com.hongik.books.domain.post.support;
+
+import com.hongik.books.common.util.GeoUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 위경도 격자(grid) 버킷 공간 색인
+ * - 좌표를 cellSizeDeg 크기 격자 칸으로 나눠 칸마다 (id, 위도, 경도)를 원시 배열로 보관
+ * - 반경/사각형 질의는 겹치는 칸만 훑고, 칸 안에서는 사각형 선검사 후 하버사인 거리를 계산
+ * - 거리순 상위 limit개는 크기 limit의 힙으로 고른다
+ * - 동기화하지 않으므로 호출 측에서 읽기/쓰기 잠금을 건다
+ */
+public final class GeoGridIndex {
+
+    /**
+     * 질의 결과 한 건 (기준점으로부터의 거리, m)
+     */
+    public record Hit(long id, double distanceMeters) {
+    }
+
+    private static final Comparator<Hit> BY_DISTANCE =
+            Comparator.comparingDouble(Hit::distanceMeters).thenComparingLong(Hit::id);
+
+    private final double cellSizeDeg;
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final Map<Long, Long> cellKeyOf = new HashMap<>();
+
+    public GeoGridIndex(double cellSizeDeg) {
+        if (!(cellSizeDeg > 0)) throw new IllegalArgumentException("cellSizeDeg must be positive");
+        this.cellSizeDeg = cellSizeDeg;
+    }
+
+    public void put(long id, double latitude, double longitude) {
+        remove(id);
+        long key = cellKey(cellIndex(latitude), cellIndex(longitude));
+        cells.computeIfAbsent(key, k -> new Cell()).add(id, latitude, longitude);
+        cellKeyOf.put(id, key);
+    }
+
+    public boolean remove(long id) {
+        Long key = cellKeyOf.remove(id);
+        if (key == null) return false;
+        Cell cell = cells.get(key);
+        if (cell != null && cell.remove(id) && cell.size == 0) cells.remove(key);
+        return true;
+    }
+
+    public void clear() {
+        cells.clear();
+        cellKeyOf.clear();
+    }
+
+    public int size() {
+        return cellKeyOf.size();
+    }
+
+    /**
+     * 기준점에서 radiusMeters 안의 항목을 가까운 순으로 최대 limit개
+     */
+    public List<Hit> withinRadius(double latitude, double longitude, double radiusMeters, int limit) {
+        double dLat = GeoUtils.latitudeDelta(radiusMeters);
+        double dLng = GeoUtils.longitudeDelta(radiusMeters, latitude);
+        return search(latitude - dLat, longitude - dLng, latitude + dLat, longitude + dLng,
+                latitude, longitude, radiusMeters, limit);
+    }
+
+    /**
+     * 사각형(남서~북동) 안의 항목을 기준점(origin)에서 가까운 순으로 최대 limit개
+     */
+    public List<Hit> withinBox(double minLat, double minLng, double maxLat, double maxLng,
+                               double originLat, double originLng, int limit) {
+        return search(minLat, minLng, maxLat, maxLng, originLat, originLng, Double.POSITIVE_INFINITY, limit);
+    }
+
+    private List<Hit> search(double minLat, double minLng, double maxLat, double maxLng,
+                             double originLat, double originLng, double maxDistance, int limit) {
+        if (limit <= 0 || cells.isEmpty()) return List.of();
+        PriorityQueue<Hit> nearest = new PriorityQueue<>(Math.min(limit, 1024) + 1, BY_DISTANCE.reversed());
+
+        long fromLat = cellIndex(minLat), toLat = cellIndex(maxLat);
+        long fromLng = cellIndex(minLng), toLng = cellIndex(maxLng);
+        long cellCount = (toLat - fromLat + 1) * (toLng - fromLng + 1);
+
+        if (cellCount > cells.size()) {
+            // 질의 범위가 색인보다 넓으면 범위 칸을 도는 대신 존재하는 칸만 검사
+            scanCells(cells.values(), minLat, minLng, maxLat, maxLng, originLat, originLng, maxDistance, limit, nearest);
+        } else {
+            List<Cell> overlapping = new ArrayList<>();
+            for (long la = fromLat; la <= toLat; la++) {
+                for (long ln = fromLng; ln <= toLng; ln++) {
+                    Cell cell = cells.get(cellKey(la, ln));
+                    if (cell != null) overlapping.add(cell);
+                }
+            }
+            scanCells(overlapping, minLat, minLng, maxLat, maxLng, originLat, originLng, maxDistance, limit, nearest);
+        }
+
+        Hit[] hits = nearest.toArray(new Hit[0]);
+        Arrays.sort(hits, BY_DISTANCE);
+        return List.of(hits);
+    }
+
+    private static void scanCells(Collection<Cell> candidates,
+                                  double minLat, double minLng, double maxLat, double maxLng,
+                                  double originLat, double originLng, double maxDistance,
+                                  int limit, PriorityQueue<Hit> nearest) {
+        for (Cell cell : candidates) {
+            for (int i = 0; i < cell.size; i++) {
+                double lat = cell.lats[i];
+                double lng = cell.lngs[i];
+                if (lat < minLat || lat > maxLat || lng < minLng || lng > maxLng) continue;
+                double distance = GeoUtils.haversineMeters(originLat, originLng, lat, lng);
+                if (distance > maxDistance) continue;
+                if (nearest.size() < limit) {
+                    nearest.add(new Hit(cell.ids[i], distance));
+                } else if (distance < nearest.peek().distanceMeters()) {
+                    nearest.poll();
+                    nearest.add(new Hit(cell.ids[i], distance));
+                }
+            }
+        }
+    }
+
+    private long cellIndex(double degree) {
+        return (long) Math.floor(degree / cellSizeDeg);
+    }
+
+    private static long cellKey(long latIndex, long lngIndex) {
+        return (latIndex << 32) ^ (lngIndex & 0xffffffffL);
+    }
+
+    // 격자 칸 하나: 병렬 원시 배열 (삭제는 마지막 항목과 자리 바꿈)
+    private static final class Cell {
+        long[] ids = new long[8];
+        double[] lats = new double[8];
+        double[] lngs = new double[8];
+        int size;
+
+        void add(long id, double lat, double lng) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                lats = Arrays.copyOf(lats, capacity);
+                lngs = Arrays.copyOf(lngs, capacity);
+            }
+            ids[size] = id;
+            lats[size] = lat;
+            lngs[size] = lng;
+            size++;
+        }
+
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] != id) continue;
+                int last = --size;
+                ids[i] = ids[last];
+                lats[i] = lats[last];
+                lngs[i] = lngs[last];
+                return true;
+            }
+            return false;
+        }
+    }
+}
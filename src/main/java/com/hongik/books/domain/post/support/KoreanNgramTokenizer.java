@@ -0,0 +1,112 @@
+package com.hongik.books.domain.post.support;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 판매글 검색 색인용 한국어 n-gram 토크나이저
+ * - 음절 bigram ("자바의" → "자바", "바의") + 1글자 검색을 위한 unigram
+ * - 초성 bigram ("자바의" → "#ㅈㅂ", "#ㅂㅇ") : "ㅈㅂ", "자바ㅇ" 같은 초성/자모 입력 지원
+ * - 입력은 NFC 정규화 후 소문자로 통일 (macOS NFD 자모 입력 대응)
+ */
+public final class KoreanNgramTokenizer {
+
+    // 초성 키는 본문에 섞인 호환 자모("ㅋㅋ")와 구분되도록 접두사를 붙인다
+    private static final String CHOSUNG_PREFIX = "#";
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    private KoreanNgramTokenizer() {}
+
+    /**
+     * 색인할 문서(게시글 제목, 책 제목, 저자)의 키 집합
+     */
+    public static Set<String> indexKeys(String text) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String token : tokens(text)) {
+            for (int i = 0; i < token.length(); i++) {
+                keys.add(token.substring(i, i + 1));
+            }
+            addBigrams(keys, token, "");
+            addBigrams(keys, toChosung(token), CHOSUNG_PREFIX);
+        }
+        return keys;
+    }
+
+    /**
+     * 검색어의 키 목록 (모든 키를 포함하는 문서만 매칭)
+     * - 초성/자모가 섞인 토큰은 초성 키로 변환
+     * - 1글자 토큰은 unigram, 그 외는 bigram
+     * 매칭에 쓸 수 있는 키가 없으면 빈 목록을 반환한다 (예: 초성 1글자)
+     */
+    public static List<String> queryKeys(String query) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String token : tokens(query)) {
+            if (containsJamo(token)) {
+                addBigrams(keys, toChosung(token), CHOSUNG_PREFIX);
+            } else if (token.length() == 1) {
+                keys.add(token);
+            } else {
+                addBigrams(keys, token, "");
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+
+    private static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) return tokens;
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            } else if (!sb.isEmpty()) {
+                tokens.add(sb.toString());
+                sb.setLength(0);
+            }
+        }
+        if (!sb.isEmpty()) tokens.add(sb.toString());
+        return tokens;
+    }
+
+    private static void addBigrams(Set<String> keys, String token, String prefix) {
+        for (int i = 0; i + 2 <= token.length(); i++) {
+            keys.add(prefix + token.substring(i, i + 2));
+        }
+    }
+
+    // 음절은 초성으로, 자모/영문/숫자는 그대로 둔다
+    private static String toChosung(String token) {
+        StringBuilder sb = new StringBuilder(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                sb.append(CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean containsJamo(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㆎ') return true; // 호환 자모
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package com.hongik.books.domain.post.support;
+
+import com.hongik.books.domain.post.dto.SalePostSummaryResponseDTO;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 판매글 목록 keyset 페이지네이션 커서
+ * - 마지막으로 내려준 게시글의 (정렬 키, post_id)를 담아 다음 페이지의 시작 위치로 사용
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출 (형식은 서버 내부 구현)
+ */
+public record PostCursor(Order order, LocalDateTime createdAt, Integer price, Long postId) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서 페이지네이션이 지원하는 정렬 (항상 post_id를 보조 키로 사용해 순서를 유일하게 만든다)
+     */
+    public enum Order {
+        LATEST(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))),
+        PRICE_ASC(Sort.by(Sort.Order.asc("price"), Sort.Order.asc("id"))),
+        PRICE_DESC(Sort.by(Sort.Order.desc("price"), Sort.Order.desc("id")));
+
+        private final Sort sort;
+
+        Order(Sort sort) {
+            this.sort = sort;
+        }
+
+        public Sort sort() {
+            return sort;
+        }
+
+        public static Order from(String value) {
+            if (!StringUtils.hasText(value)) return LATEST;
+            try {
+                return Order.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 정렬입니다: " + value);
+            }
+        }
+    }
+
+    public static PostCursor of(Order order, SalePostSummaryResponseDTO last) {
+        return new PostCursor(order, last.getCreatedAt(), last.getPrice(), last.getPostId());
+    }
+
+    public String encode() {
+        String key = (order == Order.LATEST) ? createdAt.toString() : String.valueOf(price);
+        String raw = order.name() + DELIMITER + key + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석한다. 커서가 없으면 null (첫 페이지)
+     * 요청한 정렬과 커서의 정렬이 다르거나 형식이 잘못된 경우 IllegalArgumentException
+     */
+    public static PostCursor decode(String cursor, Order order) {
+        if (!StringUtils.hasText(cursor)) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3 || Order.valueOf(parts[0]) != order) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            Long postId = Long.parseLong(parts[2]);
+            if (order == Order.LATEST) {
+                return new PostCursor(order, LocalDateTime.parse(parts[1]), null, postId);
+            }
+            return new PostCursor(order, null, Integer.parseInt(parts[1]), postId);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
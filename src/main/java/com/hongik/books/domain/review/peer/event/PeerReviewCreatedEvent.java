@@ -0,0 +1,7 @@
+package com.hongik.books.domain.review.peer.event;
+
+/**
+ * 거래 후기 작성 이벤트 (커밋 이후 대상 사용자의 후기 요약 응답 버전 갱신에 사용)
+ */
+public record PeerReviewCreatedEvent(Long targetUserId) {
+}
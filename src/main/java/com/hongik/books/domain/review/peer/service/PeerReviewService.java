@@ -5,12 +5,14 @@ import com.hongik.books.domain.post.repository.SalePostRepository;
 import com.hongik.books.domain.review.peer.domain.PeerReview;
 import com.hongik.books.domain.review.peer.domain.PeerReview.TargetRole;
 import com.hongik.books.domain.review.peer.dto.PeerReviewDtos;
+import com.hongik.books.domain.review.peer.event.PeerReviewCreatedEvent;
 import com.hongik.books.domain.review.peer.repository.PeerReviewRepository;
 import com.hongik.books.domain.user.domain.User;
 import com.hongik.books.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import com.hongik.books.moderation.ModerationPolicyProperties;
 import com.hongik.books.moderation.ModerationService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +33,7 @@ public class PeerReviewService {
     private final com.hongik.books.moderation.toxic.ToxicFilterClient toxicFilterClient;
     private final ModerationService moderationService;
     private final ModerationPolicyProperties moderationPolicy;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void createReview(Long reviewerId, PeerReviewDtos.CreateRequest request, TargetRole role) {
         User reviewer = userRepository.findById(reviewerId)
@@ -87,6 +90,7 @@ public class PeerReviewService {
                 .ratingKeywords(keywords)
                 .build();
         peerReviewRepository.save(entity);
+        eventPublisher.publishEvent(new PeerReviewCreatedEvent(target.getId()));
     }
 
     @Transactional(readOnly = true)
@@ -1,5 +1,6 @@
 package com.hongik.books.domain.review.summary.controller;
 
+import com.hongik.books.common.web.VersionedResource;
 import com.hongik.books.domain.review.peer.domain.PeerReview.TargetRole;
 import com.hongik.books.domain.review.peer.repository.PeerReviewRepository;
 import com.hongik.books.domain.review.summary.dto.UserReviewAggregateSummaryDTO;
@@ -20,6 +21,7 @@ public class ReviewSummaryController {
     private final PeerReviewRepository peerReviewRepository;
 
     @GetMapping("/users/{userId}")
+    @VersionedResource("reviews:user:{userId}")
     public ResponseEntity<UserReviewAggregateSummaryDTO> getUserAggregate(@PathVariable Long userId) {
         Double sellerAvgD = peerReviewRepository.findAverageScoreByTargetUserAndRole(userId, TargetRole.SELLER);
         long sellerCnt = peerReviewRepository.countByTargetUserIdAndTargetRole(userId, TargetRole.SELLER);
@@ -0,0 +1,43 @@
+package com.hongik.books.domain.savedsearch.controller;
+
+import com.hongik.books.auth.dto.LoginUserDTO;
+import com.hongik.books.domain.savedsearch.domain.SavedSearch;
+import com.hongik.books.domain.savedsearch.dto.SavedSearchDto;
+import com.hongik.books.domain.savedsearch.service.SavedSearchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 저장된 검색(새 게시글 알림) API
+ */
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+public class SavedSearchController {
+
+    private final SavedSearchService service;
+
+    @GetMapping
+    public ResponseEntity<List<SavedSearchDto.Response>> list(@AuthenticationPrincipal LoginUserDTO user) {
+        List<SavedSearch> list = service.list(user.id());
+        return ResponseEntity.ok(list.stream().map(SavedSearchDto.Response::new).toList());
+    }
+
+    @PostMapping
+    public ResponseEntity<SavedSearchDto.Response> create(@AuthenticationPrincipal LoginUserDTO user,
+                                                          @Valid @RequestBody SavedSearchDto.CreateRequest req) {
+        SavedSearch saved = service.create(user.id(), req);
+        return ResponseEntity.ok(new SavedSearchDto.Response(saved));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@AuthenticationPrincipal LoginUserDTO user, @PathVariable Long id) {
+        service.delete(user.id(), id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.hongik.books.domain.savedsearch.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자가 저장한 판매글 검색 조건 (새 게시글이 조건에 맞으면 알림)
+ * - 조건 의미는 판매글 목록 검색(PostSearchCondition)과 같다: 검색어 AND 카테고리 AND 가격 범위
+ * - category는 한국어로 정규화된 카테고리 이름으로 저장
+ */
+@Getter
+@Entity
+@Table(name = "saved_search", indexes = {
+        @Index(name = "idx_saved_search_user", columnList = "user_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SavedSearch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "saved_search_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(length = 200)
+    private String query;
+
+    @Column(length = 100)
+    private String category;
+
+    private Integer minPrice;
+
+    private Integer maxPrice;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public SavedSearch(Long userId, String query, String category, Integer minPrice, Integer maxPrice) {
+        this.userId = userId;
+        this.query = query;
+        this.category = category;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+}
@@ -0,0 +1,55 @@
+package com.hongik.books.domain.savedsearch.dto;
+
+import com.hongik.books.domain.savedsearch.domain.SavedSearch;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+public class SavedSearchDto {
+
+    /**
+     * 저장할 검색 조건 (목록 검색과 같은 필드, 하나 이상 필요)
+     */
+    @Getter @Setter @NoArgsConstructor
+    public static class CreateRequest {
+        @Size(max = 200)
+        private String query;
+        @Size(max = 100)
+        private String category;
+        @Min(0) @Max(1_000_000_000)
+        private Integer minPrice;
+        @Min(0) @Max(1_000_000_000)
+        private Integer maxPrice;
+
+        @AssertTrue(message = "minPrice는 maxPrice보다 작거나 같아야 합니다.")
+        public boolean isValidRange() {
+            if (minPrice == null || maxPrice == null) return true;
+            return minPrice <= maxPrice;
+        }
+    }
+
+    @Getter
+    public static class Response {
+        private final Long id;
+        private final String query;
+        private final String category;
+        private final Integer minPrice;
+        private final Integer maxPrice;
+        private final LocalDateTime createdAt;
+
+        public Response(SavedSearch s) {
+            this.id = s.getId();
+            this.query = s.getQuery();
+            this.category = s.getCategory();
+            this.minPrice = s.getMinPrice();
+            this.maxPrice = s.getMaxPrice();
+            this.createdAt = s.getCreatedAt();
+        }
+    }
+}
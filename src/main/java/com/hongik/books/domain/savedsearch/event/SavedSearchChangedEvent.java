@@ -0,0 +1,7 @@
+package com.hongik.books.domain.savedsearch.event;
+
+/**
+ * 저장된 검색 생성/삭제 이벤트 (커밋 이후 매칭 색인 갱신용)
+ */
+public record SavedSearchChangedEvent(Long savedSearchId) {
+}
@@ -0,0 +1,21 @@
+package com.hongik.books.domain.savedsearch.repository;
+
+import com.hongik.books.domain.savedsearch.domain.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    List<SavedSearch> findAllByUserIdOrderByIdDesc(Long userId);
+
+    Optional<SavedSearch> findByIdAndUserId(Long id, Long userId);
+
+    long countByUserId(Long userId);
+
+    // 다른 인스턴스에서의 추가/삭제 감지용 (개수와 함께 비교)
+    @Query("select max(s.id) from SavedSearch s")
+    Optional<Long> findMaxId();
+}
@@ -0,0 +1,64 @@
+package com.hongik.books.domain.savedsearch.service;
+
+import com.hongik.books.domain.notification.service.NotificationService;
+import com.hongik.books.domain.post.dto.SalePostMatchRow;
+import com.hongik.books.domain.post.event.SalePostChangedEvent;
+import com.hongik.books.domain.post.repository.SalePostRepository;
+import com.hongik.books.domain.post.support.KoreanNgramTokenizer;
+import com.hongik.books.domain.savedsearch.support.SavedSearchMatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 새 판매 게시글이 등록되면 맞는 저장 검색의 주인에게 알림
+ * - 게시글 한 건만 프로젝션으로 읽어 매칭 색인에 넣어 보고, 후보 조건만 검사한다
+ * - 판매자 본인의 저장 검색은 제외, 한 사용자에게는 게시글당 한 번만 알린다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SavedSearchAlertListener {
+
+    private final SalePostRepository salePostRepository;
+    private final SavedSearchIndex savedSearchIndex;
+    private final NotificationService notificationService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSalePostChanged(SalePostChangedEvent event) {
+        if (event.type() != SalePostChangedEvent.Type.CREATED) return;
+        try {
+            salePostRepository.findMatchRowById(event.postId()).ifPresent(this::notifyMatches);
+        } catch (Exception e) {
+            log.warn("Saved search alert failed for post {}: {}", event.postId(), e.getMessage());
+        }
+    }
+
+    private void notifyMatches(SalePostMatchRow post) {
+        Set<String> keys = new HashSet<>();
+        keys.addAll(KoreanNgramTokenizer.indexKeys(post.postTitle()));
+        keys.addAll(KoreanNgramTokenizer.indexKeys(post.bookTitle()));
+        keys.addAll(KoreanNgramTokenizer.indexKeys(post.author()));
+        Set<String> categories = new HashSet<>(salePostRepository.findCategoryNamesById(post.postId()));
+        int price = (post.price() == null) ? 0 : post.price();
+
+        Map<Long, SavedSearchMatcher.Predicate> byUser = new LinkedHashMap<>();
+        for (SavedSearchMatcher.Predicate predicate
+                : savedSearchIndex.match(new SavedSearchMatcher.Target(keys, categories, price))) {
+            if (post.sellerId() != null && predicate.userId() == post.sellerId()) continue;
+            byUser.putIfAbsent(predicate.userId(), predicate);
+        }
+        byUser.forEach((userId, predicate) ->
+                notificationService.notifySavedSearchMatch(userId, post.postId(), post.postTitle()));
+        if (!byUser.isEmpty()) {
+            log.debug("Saved search alerts for post {}: {} users", post.postId(), byUser.size());
+        }
+    }
+}
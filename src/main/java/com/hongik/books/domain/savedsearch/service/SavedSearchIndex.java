@@ -0,0 +1,130 @@
+package com.hongik.books.domain.savedsearch.service;
+
+import com.hongik.books.domain.post.support.KoreanNgramTokenizer;
+import com.hongik.books.domain.savedsearch.domain.SavedSearch;
+import com.hongik.books.domain.savedsearch.event.SavedSearchChangedEvent;
+import com.hongik.books.domain.savedsearch.repository.SavedSearchRepository;
+import com.hongik.books.domain.savedsearch.support.SavedSearchMatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 저장된 검색 조건 인메모리 매칭 색인 (SavedSearchMatcher 래퍼)
+ * - 애플리케이션 시작 시 전체 적재, 이후 SavedSearchChangedEvent(커밋 이후)로 한 건씩 갱신
+ * - 다른 인스턴스에서 추가/삭제된 조건은 주기적인 개수/최대 ID 비교로 따라잡는다
+ * - 적재가 끝나기 전에는 요청 스레드에서 적재하지 않고 매칭 결과 없이 넘긴다 (적재 실패 시 주기 작업이 다시 시도)
+ */
+@Slf4j
+@Component
+public class SavedSearchIndex {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMatcher matcher;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+    private volatile long loadedMaxId = 0;
+
+    public SavedSearchIndex(SavedSearchRepository savedSearchRepository,
+                            @Value("${app.saved-search.price-bucket-width:5000}") int priceBucketWidth,
+                            @Value("${app.saved-search.max-price-bucket:40}") int maxPriceBucket) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.matcher = new SavedSearchMatcher(priceBucketWidth, maxPriceBucket);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            matcher.clear();
+            long maxId = 0;
+            for (SavedSearch savedSearch : savedSearchRepository.findAll()) {
+                matcher.put(compile(savedSearch));
+                maxId = Math.max(maxId, savedSearch.getId());
+            }
+            loadedMaxId = maxId;
+            ready = true;
+            log.info("Saved search index built: {} searches", matcher.size());
+        } catch (Exception e) {
+            log.warn("Saved search index build failed: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        Optional<SavedSearch> savedSearch = savedSearchRepository.findById(event.savedSearchId());
+
+        lock.writeLock().lock();
+        try {
+            matcher.remove(event.savedSearchId());
+            savedSearch.ifPresent(s -> {
+                matcher.put(compile(s));
+                loadedMaxId = Math.max(loadedMaxId, s.getId());
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.saved-search.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        if (!ready) {
+            rebuild();
+            return;
+        }
+        try {
+            long maxId = savedSearchRepository.findMaxId().orElse(0L);
+            if (savedSearchRepository.count() != size() || maxId != loadedMaxId) rebuild();
+        } catch (Exception e) {
+            log.warn("Saved search index refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글에 맞는 저장 검색 조건 목록 (색인 준비 전이면 빈 목록)
+     */
+    public List<SavedSearchMatcher.Predicate> match(SavedSearchMatcher.Target target) {
+        if (!ready) {
+            log.warn("Saved search index not ready, skipping alerts");
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return matcher.match(target);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return matcher.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static SavedSearchMatcher.Predicate compile(SavedSearch savedSearch) {
+        return new SavedSearchMatcher.Predicate(
+                savedSearch.getId(),
+                savedSearch.getUserId(),
+                new LinkedHashSet<>(KoreanNgramTokenizer.queryKeys(savedSearch.getQuery())),
+                savedSearch.getCategory(),
+                savedSearch.getMinPrice(),
+                savedSearch.getMaxPrice());
+    }
+}
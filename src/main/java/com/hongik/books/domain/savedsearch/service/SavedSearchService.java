@@ -0,0 +1,75 @@
+package com.hongik.books.domain.savedsearch.service;
+
+import com.hongik.books.domain.book.service.CategoryTrie;
+import com.hongik.books.domain.post.support.KoreanNgramTokenizer;
+import com.hongik.books.domain.savedsearch.domain.SavedSearch;
+import com.hongik.books.domain.savedsearch.dto.SavedSearchDto;
+import com.hongik.books.domain.savedsearch.event.SavedSearchChangedEvent;
+import com.hongik.books.domain.savedsearch.repository.SavedSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SavedSearchService {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final CategoryTrie categoryTrie;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.saved-search.max-per-user:20}")
+    private int maxPerUser;
+
+    @Transactional(readOnly = true)
+    public List<SavedSearch> list(Long userId) {
+        return savedSearchRepository.findAllByUserIdOrderByIdDesc(userId);
+    }
+
+    @Transactional
+    public SavedSearch create(Long userId, SavedSearchDto.CreateRequest req) {
+        String query = StringUtils.hasText(req.getQuery()) ? req.getQuery().trim() : null;
+        if (query != null && KoreanNgramTokenizer.queryKeys(query).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색어가 너무 짧습니다.");
+        }
+
+        String category = null;
+        if (StringUtils.hasText(req.getCategory())) {
+            // 게시글 저장과 같은 다국어 카테고리 정규화 (오타 보정 값을 조건으로 굳히지 않는다)
+            category = categoryTrie.normalizeDepartment(req.getCategory());
+            if (category == null) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "알 수 없는 카테고리");
+        }
+
+        if (query == null && category == null && req.getMinPrice() == null && req.getMaxPrice() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색 조건이 하나 이상 필요합니다.");
+        }
+        if (savedSearchRepository.countByUserId(userId) >= maxPerUser) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "검색 조건은 최대 " + maxPerUser + "개까지 저장할 수 있습니다.");
+        }
+
+        SavedSearch saved = savedSearchRepository.save(SavedSearch.builder()
+                .userId(userId)
+                .query(query)
+                .category(category)
+                .minPrice(req.getMinPrice())
+                .maxPrice(req.getMaxPrice())
+                .build());
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(saved.getId()));
+        return saved;
+    }
+
+    @Transactional
+    public void delete(Long userId, Long id) {
+        SavedSearch savedSearch = savedSearchRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        savedSearchRepository.delete(savedSearch);
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(id));
+    }
+}
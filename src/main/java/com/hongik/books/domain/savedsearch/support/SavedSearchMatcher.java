@@ -0,0 +1,159 @@
+package com.hongik.books.domain.savedsearch.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 저장된 검색 조건의 역색인 (새 게시글 → 맞는 저장 검색)
+ * - 조건마다 가장 선택적인 술어 하나를 "앵커"로 골라 그 값 아래에만 등록한다
+ *   검색어가 있으면 검색어 키 중 등록 수가 가장 적은 키, 없으면 카테고리, 둘 다 없으면 가격 버킷
+ * - 게시글이 조건을 만족하려면 앵커도 반드시 만족하므로, 게시글의 키/카테고리/가격 버킷으로
+ *   앵커 목록만 모으면 후보가 되고, 후보만 전체 조건으로 다시 확인한다 (전체 조건 순회 없음)
+ * - 동기화하지 않으므로 호출 측에서 읽기/쓰기 잠금을 건다
+ */
+public final class SavedSearchMatcher {
+
+    /**
+     * 컴파일된 저장 검색 조건
+     * @param keys 검색어 키 (KoreanNgramTokenizer.queryKeys, 검색어가 없으면 빈 집합)
+     */
+    public record Predicate(long id, long userId, Set<String> keys, String category,
+                            Integer minPrice, Integer maxPrice) {
+        boolean matches(Target target) {
+            if (minPrice != null && target.price() < minPrice) return false;
+            if (maxPrice != null && target.price() > maxPrice) return false;
+            if (category != null && !target.categories().contains(category)) return false;
+            return target.keys().containsAll(keys);
+        }
+    }
+
+    /**
+     * 매칭 대상 게시글
+     * @param keys 게시글 제목/책 제목/저자의 색인 키 합집합 (KoreanNgramTokenizer.indexKeys)
+     */
+    public record Target(Set<String> keys, Set<String> categories, int price) {
+    }
+
+    private final int priceBucketWidth;
+    private final int maxPriceBucket;
+
+    private final Map<Long, Predicate> predicates = new HashMap<>();
+    private final Map<String, Set<Long>> byKey = new HashMap<>();
+    private final Map<String, Set<Long>> byCategory = new HashMap<>();
+    private final Map<Integer, Set<Long>> byPriceBucket = new HashMap<>();
+    // id -> 등록된 앵커 (제거용)
+    private final Map<Long, Anchor> anchors = new HashMap<>();
+
+    private interface Anchor {}
+    private record KeyAnchor(String key) implements Anchor {}
+    private record CategoryAnchor(String category) implements Anchor {}
+    private record PriceAnchor(int from, int to) implements Anchor {}
+
+    /**
+     * @param priceBucketWidth 가격 버킷 폭(원)
+     * @param maxPriceBucket   마지막 버킷 번호 (이 이상 가격은 모두 마지막 버킷)
+     */
+    public SavedSearchMatcher(int priceBucketWidth, int maxPriceBucket) {
+        if (priceBucketWidth <= 0 || maxPriceBucket < 0) throw new IllegalArgumentException("invalid price buckets");
+        this.priceBucketWidth = priceBucketWidth;
+        this.maxPriceBucket = maxPriceBucket;
+    }
+
+    public void put(Predicate predicate) {
+        remove(predicate.id());
+        predicates.put(predicate.id(), predicate);
+
+        Anchor anchor;
+        if (!predicate.keys().isEmpty()) {
+            String rarest = null;
+            int rarestSize = Integer.MAX_VALUE;
+            for (String key : predicate.keys()) {
+                Set<Long> ids = byKey.get(key);
+                int size = (ids == null) ? 0 : ids.size();
+                if (size < rarestSize) {
+                    rarest = key;
+                    rarestSize = size;
+                }
+            }
+            byKey.computeIfAbsent(rarest, k -> new HashSet<>()).add(predicate.id());
+            anchor = new KeyAnchor(rarest);
+        } else if (predicate.category() != null) {
+            byCategory.computeIfAbsent(predicate.category(), k -> new HashSet<>()).add(predicate.id());
+            anchor = new CategoryAnchor(predicate.category());
+        } else {
+            int from = bucket(predicate.minPrice() == null ? 0 : predicate.minPrice());
+            int to = (predicate.maxPrice() == null) ? maxPriceBucket : bucket(predicate.maxPrice());
+            for (int b = from; b <= to; b++) {
+                byPriceBucket.computeIfAbsent(b, k -> new HashSet<>()).add(predicate.id());
+            }
+            anchor = new PriceAnchor(from, to);
+        }
+        anchors.put(predicate.id(), anchor);
+    }
+
+    public boolean remove(long id) {
+        if (predicates.remove(id) == null) return false;
+        Anchor anchor = anchors.remove(id);
+        if (anchor instanceof KeyAnchor a) {
+            removeFrom(byKey, a.key(), id);
+        } else if (anchor instanceof CategoryAnchor a) {
+            removeFrom(byCategory, a.category(), id);
+        } else if (anchor instanceof PriceAnchor a) {
+            for (int b = a.from(); b <= a.to(); b++) removeFrom(byPriceBucket, b, id);
+        }
+        return true;
+    }
+
+    public void clear() {
+        predicates.clear();
+        byKey.clear();
+        byCategory.clear();
+        byPriceBucket.clear();
+        anchors.clear();
+    }
+
+    public int size() {
+        return predicates.size();
+    }
+
+    /**
+     * 게시글을 만족하는 저장 검색 조건 목록
+     */
+    public List<Predicate> match(Target target) {
+        Set<Long> candidates = new HashSet<>();
+        collect(candidates, byKey, target.keys());
+        collect(candidates, byCategory, target.categories());
+        Set<Long> priced = byPriceBucket.get(bucket(target.price()));
+        if (priced != null) candidates.addAll(priced);
+
+        List<Predicate> matched = new ArrayList<>();
+        for (Long id : candidates) {
+            Predicate predicate = predicates.get(id);
+            if (predicate != null && predicate.matches(target)) matched.add(predicate);
+        }
+        return matched;
+    }
+
+    private int bucket(int price) {
+        return Math.min(Math.max(price, 0) / priceBucketWidth, maxPriceBucket);
+    }
+
+    private static <K> void collect(Set<Long> into, Map<K, Set<Long>> index, Collection<K> values) {
+        for (K value : values) {
+            Set<Long> ids = index.get(value);
+            if (ids != null) into.addAll(ids);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Long>> index, K key, long id) {
+        Set<Long> ids = index.get(key);
+        if (ids == null) return;
+        ids.remove(id);
+        if (ids.isEmpty()) index.remove(key);
+    }
+}
@@ -22,6 +22,8 @@ public class User {
 
     private String profileImagePath; // 프로필 이미지 경로
 
+    private String avatarImagePath; // 프로필 축소본 (ImageVariant.AVATAR), 만들어지기 전이나 실패 시 null
+
     // 역할(Role) 필드
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -50,21 +52,30 @@ public class User {
         if (newUsername != null && !newUsername.isBlank()) {
             this.username = newUsername;
         }
-        if (newProfileImagePath != null) {
-            this.profileImagePath = newProfileImagePath;
+        if (newProfileImagePath != null && !newProfileImagePath.equals(this.profileImagePath)) {
+            setProfileImagePath(newProfileImagePath);
         }
     }
 
     // 소셜 로그인 시 닉네임은 변경하지 않고, 프로필 이미지는 이미 설정되어 있지 않은 경우에만 반영
     public User updateOAuthInfo(String name, String picture) {
         if ((this.profileImagePath == null || this.profileImagePath.isBlank()) && picture != null && !picture.isBlank()) {
-            this.profileImagePath = picture;
+            setProfileImagePath(picture);
         }
         return this;
     }
 
+    // 이미지가 바뀌면 예전 이미지의 축소본은 더 이상 맞지 않는다
     public void setProfileImagePath(String url) {
         this.profileImagePath = url;
+        this.avatarImagePath = null;
+    }
+
+    /**
+     * 작은 프로필 표시용(채팅방 헤더 등) 이미지: 축소본이 있으면 축소본, 없으면 원본
+     */
+    public String getAvatarImageUrl() {
+        return avatarImagePath != null ? avatarImagePath : profileImagePath;
     }
 
     /**
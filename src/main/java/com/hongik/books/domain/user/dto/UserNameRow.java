@@ -0,0 +1,11 @@
+package com.hongik.books.domain.user.dto;
+
+/**
+ * 알림 표시용 사용자 이름 프로젝션 (닉네임이 없으면 이메일)
+ */
+public record UserNameRow(Long userId, String username, String email) {
+
+    public String displayName() {
+        return (username != null && !username.isBlank()) ? username : email;
+    }
+}
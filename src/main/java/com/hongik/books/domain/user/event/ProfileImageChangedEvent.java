@@ -0,0 +1,9 @@
+package com.hongik.books.domain.user.event;
+
+/**
+ * 프로필 이미지 변경 이벤트 (커밋 이후 아바타용 축소 이미지 생성에 사용)
+ * @param imageUrl          새 프로필 이미지 (지워졌으면 null → 축소본을 만들지 않음)
+ * @param previousAvatarUrl 변경으로 더 이상 쓰이지 않는 예전 축소본 (없으면 null, 커밋 이후 참조 해제)
+ */
+public record ProfileImageChangedEvent(Long userId, String imageUrl, String previousAvatarUrl) {
+}
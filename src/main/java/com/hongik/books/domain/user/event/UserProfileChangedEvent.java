@@ -0,0 +1,8 @@
+package com.hongik.books.domain.user.event;
+
+/**
+ * 다른 화면에 보이는 프로필(닉네임/프로필 이미지) 변경 이벤트
+ * 커밋 이후 판매자 정보가 들어간 게시글 상세 캐시와 조회 응답 버전을 갱신하는 데 사용
+ */
+public record UserProfileChangedEvent(Long userId) {
+}
@@ -1,11 +1,15 @@
 package com.hongik.books.domain.user.repository;
 
 import com.hongik.books.domain.user.domain.User;
+import com.hongik.books.domain.user.dto.UserNameRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -22,6 +26,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByUnivEmailAndStudentVerifiedIsTrue(String univEmail);
 
+    /**
+     * 알림 표시용 이름만 여러 명 한 번에 조회
+     */
+    @Query("select new com.hongik.books.domain.user.dto.UserNameRow(u.id, u.username, u.email) from User u where u.id in :ids")
+    List<UserNameRow> findNameRowsByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 탈퇴 처리 시 개인정보 노출을 최소화하기 위한 마스킹
      */
@@ -30,6 +40,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
         update User u
            set u.username = :username,
                u.profileImagePath = null,
+               u.avatarImagePath = null,
                u.studentVerified = false,
                u.univEmail = null,
                u.emailVerificationToken = null,
@@ -37,4 +48,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
          where u.id = :userId
     """)
     int maskForDeactivation(@Param("userId") Long userId, @Param("username") String username);
+
+    /**
+     * 프로필 축소본 경로 반영 (프로필 이미지가 아직 source일 때만 → 그 사이 바뀐 이미지에 예전 축소본을 붙이지 않음)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update User u set u.avatarImagePath = :avatar where u.id = :userId and u.profileImagePath = :source")
+    int updateAvatarImagePath(@Param("userId") Long userId,
+                              @Param("source") String source,
+                              @Param("avatar") String avatar);
 }
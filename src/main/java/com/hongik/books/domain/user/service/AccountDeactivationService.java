@@ -2,9 +2,13 @@ package com.hongik.books.domain.user.service;
 
 import com.hongik.books.domain.review.place.repository.PlaceReviewRepository;
 import com.hongik.books.domain.user.domain.DeactivatedUser;
+import com.hongik.books.domain.user.domain.User;
+import com.hongik.books.domain.user.event.ProfileImageChangedEvent;
+import com.hongik.books.domain.user.event.UserProfileChangedEvent;
 import com.hongik.books.domain.user.repository.DeactivatedUserRepository;
 import com.hongik.books.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +21,7 @@ public class AccountDeactivationService {
     private final DeactivatedUserRepository deactivatedRepo;
     private final UserRepository userRepository;
     private final PlaceReviewRepository placeReviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void deactivate(Long userId, String reason) {
@@ -32,7 +37,12 @@ public class AccountDeactivationService {
 
         // 닉네임 마스킹(고유 보장), 이미지/인증 정보 제거
         final String maskedUsername = "탈퇴회원#" + userId;
+        String avatar = userRepository.findById(userId).map(User::getAvatarImagePath).orElse(null);
         userRepository.maskForDeactivation(userId, maskedUsername);
+        // 지운 축소본은 커밋 이후 참조 해제
+        if (avatar != null) eventPublisher.publishEvent(new ProfileImageChangedEvent(userId, null, avatar));
+        // 판매 게시글에 보이는 판매자 정보도 갱신
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
 
         // 과거 장소 리뷰의 작성자명도 '탈퇴한 회원'으로 일괄 마스킹
         placeReviewRepository.maskUserNamesByUserId(userId, "탈퇴한 회원");
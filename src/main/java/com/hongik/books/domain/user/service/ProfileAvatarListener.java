@@ -0,0 +1,49 @@
+package com.hongik.books.domain.user.service;
+
+import com.hongik.books.common.util.ImageDerivativeGenerator;
+import com.hongik.books.common.util.ImageStorage;
+import com.hongik.books.common.util.ImageVariant;
+import com.hongik.books.domain.user.event.ProfileImageChangedEvent;
+import com.hongik.books.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 프로필 이미지 업로드 후 아바타(ImageVariant.AVATAR) 축소본을 비동기로 만들고,
+ * 준비되면 축소본 경로(User.avatarImagePath)에 반영한다 (그 사이 다른 이미지로 바뀌었으면 반영하지 않음)
+ * 프로필 이미지 경로는 원본 그대로 두고, 작은 표시용만 User.getAvatarImageUrl()로 축소본을 쓴다
+ * 축소본은 참조 수로 관리하므로, 반영하지 못한 새 축소본과 교체된 예전 축소본은 참조를 돌려준다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileAvatarListener {
+
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+    private final UserRepository userRepository;
+    private final ImageStorage imageStorage;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileImageChanged(ProfileImageChangedEvent event) {
+        imageStorage.releaseDerivative(event.previousAvatarUrl());
+        if (event.imageUrl() == null) return;
+
+        imageDerivativeGenerator.generateAsync(event.imageUrl(), List.of(ImageVariant.AVATAR))
+                .thenAccept(urls -> {
+                    String avatarUrl = urls.get(ImageVariant.AVATAR);
+                    if (avatarUrl != null
+                            && userRepository.updateAvatarImagePath(event.userId(), event.imageUrl(), avatarUrl) == 0) {
+                        imageStorage.releaseDerivative(avatarUrl);
+                    }
+                })
+                .exceptionally(e -> {
+                    log.warn("Profile avatar update failed (userId={}): {}", event.userId(), e.getMessage());
+                    return null;
+                });
+    }
+}
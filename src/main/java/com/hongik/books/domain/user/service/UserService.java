@@ -6,9 +6,12 @@ import com.hongik.books.common.dto.ApiResponse;
 import com.hongik.books.domain.user.dto.StudentVerificationRequestDTO;
 import com.hongik.books.domain.user.dto.UserResponseDTO;
 import com.hongik.books.domain.user.dto.UserRequestDTO;
+import com.hongik.books.domain.user.event.ProfileImageChangedEvent;
+import com.hongik.books.domain.user.event.UserProfileChangedEvent;
 import com.hongik.books.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +20,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,6 +31,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final MailService mailService;
     private final ImageStorage imageStorage;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${email.verification.expiration-hours:24}")
     private int verificationExpirationHours;
@@ -53,7 +58,18 @@ public class UserService {
         }
 
         // User 엔티티의 update 메서드를 호출
+        String previousUsername = user.getUsername();
+        String previousImage = user.getProfileImagePath();
+        String previousAvatar = user.getAvatarImagePath();
         user.updateProfile(newUsername, userRequestDTO.profileImagePath());
+        boolean imageChanged = !Objects.equals(previousImage, user.getProfileImagePath());
+        // 이미지가 바뀌었으면 예전 축소본을 돌려주고 새 이미지의 축소본을 만든다
+        if (imageChanged) {
+            eventPublisher.publishEvent(new ProfileImageChangedEvent(userId, user.getProfileImagePath(), previousAvatar));
+        }
+        if (imageChanged || !Objects.equals(previousUsername, user.getUsername())) {
+            eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
+        }
 
         UserResponseDTO userResponse = new UserResponseDTO(
                 user.getId(),
@@ -155,8 +171,12 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
         String url = imageStorage.uploadImage(imageFile, "profile-images");
+        String previousAvatar = user.getAvatarImagePath();
         user.setProfileImagePath(url);
         userRepository.save(user);
+        // 커밋 이후 아바타 축소본 생성 (준비되면 축소본 경로 반영, 원본 경로는 그대로)
+        eventPublisher.publishEvent(new ProfileImageChangedEvent(userId, url, previousAvatar));
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
         return url;
     }
 }
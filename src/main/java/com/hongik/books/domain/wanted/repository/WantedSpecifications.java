@@ -3,6 +3,8 @@ package com.hongik.books.domain.wanted.repository;
 import com.hongik.books.domain.wanted.domain.Wanted;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+
 public final class WantedSpecifications {
     private WantedSpecifications() {}
 
@@ -18,6 +20,13 @@ public final class WantedSpecifications {
                         : cb.equal(root.get("department"), department);
     }
 
+    // 여러 학과 이름 중 하나 (비어 있으면 조건 없음)
+    public static Specification<Wanted> departmentIn(Collection<String> departments) {
+        return (root, cq, cb) ->
+                (departments == null || departments.isEmpty()) ? cb.conjunction()
+                        : root.get("department").in(departments);
+    }
+
     public static Specification<Wanted> keywordContains(String keyword) {
         return (root, cq, cb) -> {
             if (keyword == null || keyword.isBlank()) return cb.conjunction();
@@ -15,7 +15,9 @@ import org.springframework.util.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import com.hongik.books.domain.wanted.support.DepartmentNormalizer; // ✅ 추가
+import com.hongik.books.common.util.DepartmentNormalizer; // ✅ 추가
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -41,11 +43,15 @@ public class WantedService {
         Pageable pageable = PageRequest.of(page, size, s);
 
         // ✅ 검색 파라미터도 KO로 정규화하여 DB 필터가 정확히 동작
+        // 저장 때와 같은 값(입력 그대로 저장된 학과명 포함) 또는 오타 보정된 학과명
         String deptKo = DepartmentNormalizer.toKoreanOrNull(department);
+        String deptCorrected = DepartmentNormalizer.toKoreanForSearch(department);
+        List<String> departments = (deptKo == null) ? List.of()
+                : deptKo.equals(deptCorrected) ? List.of(deptKo) : List.of(deptKo, deptCorrected);
 
         Specification<Wanted> spec = Specification.allOf(
                 WantedSpecifications.categoryEquals(category),
-                WantedSpecifications.departmentEquals(deptKo),
+                WantedSpecifications.departmentIn(departments),
                 WantedSpecifications.keywordContains(keyword)
         );
 
@@ -41,6 +41,10 @@ public class ModerationPolicyProperties {
     @Getter @Setter
     public static class ChatPolicy {
         private Mode message = Mode.BLOCK;
+        // BLOCK일 때 검사 결과를 기다리지 않고 저장 후 보낸 사람에게만 먼저 전달 (상대에게는 판정 후 전달)
+        private boolean async = false;
+        // 비동기 검사 판정 대기 한도(ms). 넘으면 상대에게 그대로 전달 (fail-open)
+        private long verdictBudgetMs = 800;
     }
 
     private SalePostPolicy salePost = new SalePostPolicy();
@@ -0,0 +1,96 @@
+package com.hongik.books.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 트라이 정규화가 예전 HashMap 매핑 표의 모든 키를 같은 값으로 풀고,
+ * 오타 보정은 검색용(toKoreanForSearch)에만 적용되는지 검증
+ */
+class DepartmentNormalizerTest {
+
+    // 트라이 도입 전 매핑 표 그대로 (ko, ja, en, zh)
+    private static final String[][] LEGACY_ROWS = {
+            {"컴퓨터공학과", "コンピュータ工学科", "Computer Science", "计算机工学科"},
+            {"산업데이터공학과", "産業データ工学科", "Industrial Data Engineering", "产业数据工学科"},
+            {"전자전기공학부", "電子電気工学部", "Electronic & Electrical Engineering", "电子电气工学部"},
+            {"경영학부", "経営学部", "Business Administration", "经营学部"},
+            {"신소재공학전공", "新素材工学科", "Advanced Materials Engineering", "新材料工学科"},
+            {"화학공학전공", "化学工学科", "Chemical Engineering", "化学工学科"},
+            {"기계시스템디자인공학과", "機械システムデザイン工学科", "Mechanical System Design Engineering", "机械系统设计工学科"},
+            {"건설환경공학과", "建設環境工学科", "Civil & Environmental Engineering", "建设环境工学科"},
+            {"건축학전공", "建築学専攻", "Architecture", "建筑学专攻"},
+            {"실내건축학전공", "インテリア建築学専攻", "Interior Architecture", "室内建筑学专攻"},
+            {"도시공학과", "都市工学科", "Urban Engineering", "城市工程学科"},
+            {"법학부", "法学部", "School of Law", "法学部(中文)"},
+            {"동양학과", "東洋学科", "Oriental Studies", "东方学科"},
+            {"경제학전공", "経済学専攻", "Economics", "经济学专攻"},
+            {"영어영문학과", "英語英文学科", "English Language & Literature", "英语英文学科"},
+            {"독어독문학과", "独語独文学科", "German Language & Literature", "德语德文学科"},
+            {"불어불문학과", "仏語仏文学科", "French Language & Literature", "法语法文学科"},
+            {"국어국문학과", "国語国文学科", "Korean Language & Literature", "国语国文学科"},
+            {"수학교육과", "数学教育科", "Mathematics Education", "数学教育科"},
+            {"국어교육과", "国語教育科", "Korean Language Education", "国语教育科"},
+            {"영어교육과", "英語教育科", "English Education", "英语教育科"},
+            {"역사교육과", "歴史教育科", "History Education", "历史教育科"},
+            {"교육학과", "教育学科", "Education", "教育学科"},
+            {"회화과", "絵画科", "Painting", "绘画科"},
+            {"판화과", "版画科", "Printmaking", "版画科"},
+            {"조소과", "彫塑科", "Sculpture", "雕塑科"},
+            {"시각디자인전공", "視覚デザイン専攻", "Visual Design", "视觉设计专攻"},
+            {"산업디자인전공", "インダストリアルデザイン専攻", "Industrial Design", "工业设计专攻"},
+            {"금속조형디자인과", "金属造形デザイン科", "Metal Art & Design", "金属造型设计科"},
+            {"도예유리과", "陶芸ガラス科", "Ceramics & Glass", "陶艺玻璃科"},
+            {"목조형가구학과", "木造形家具学科", "Woodworking & Furniture", "木造型家具学科"},
+            {"섬유미술패션디자인과", "繊維美術ファッションデザイン科", "Textile Art & Fashion Design", "纤维美术时尚设计科"},
+            {"예술학과", "芸術学科", "Art Studies", "艺术学科"},
+            {"디자인경영전공", "デザイン経営専攻", "Design Management", "设计经营专攻"},
+            {"예술경영전공", "芸術経営専攻", "Arts Management", "艺术经营专攻"},
+            {"뮤지컬전공", "ミュージカル専攻", "Musical", "音乐剧专攻"},
+            {"실용음악전공", "実用音楽専攻", "Practical Music", "实用音乐专攻"},
+    };
+
+    private static final String[] LEGACY_SIMPLE = {"ABEEK 교양", "인문계열", "영어계열", "사회계열", "제2외국어계열", "자연계열", "예체능계열", "교직"};
+
+    private static final String[] PREFIXES = {"", "department.", "departments."};
+
+    @Test
+    void everyLegacyKeyResolvesAsBefore() {
+        Map<String, String> legacy = legacyTable();
+        assertThat(legacy).hasSize(456);
+        legacy.forEach((key, ko) -> {
+            assertThat(DepartmentNormalizer.toKoreanOrNull(key)).as(key).isEqualTo(ko);
+            assertThat(DepartmentNormalizer.toKoreanForSearch(key)).as(key).isEqualTo(ko);
+        });
+    }
+
+    @Test
+    void writePathKeepsUnknownNamesAsIs() {
+        assertThat(DepartmentNormalizer.toKoreanOrNull("미술학과")).isEqualTo("미술학과");
+        assertThat(DepartmentNormalizer.toKoreanOrNull("department.미술학과")).isEqualTo("미술학과");
+        assertThat(DepartmentNormalizer.toKoreanOrNull("Computer Sciense")).isEqualTo("Computer Sciense");
+    }
+
+    @Test
+    void searchPathCorrectsTypos() {
+        assertThat(DepartmentNormalizer.toKoreanForSearch("미술학과")).isEqualTo("예술학과");
+        assertThat(DepartmentNormalizer.toKoreanForSearch("Computer Sciense")).isEqualTo("컴퓨터공학과");
+    }
+
+    private static Map<String, String> legacyTable() {
+        Map<String, String> table = new LinkedHashMap<>();
+        for (String[] row : LEGACY_ROWS) {
+            for (String name : row) {
+                for (String prefix : PREFIXES) table.put(prefix + name, row[0]);
+            }
+        }
+        for (String ko : LEGACY_SIMPLE) {
+            for (String prefix : PREFIXES) table.put(prefix + ko, ko);
+        }
+        return table;
+    }
+}
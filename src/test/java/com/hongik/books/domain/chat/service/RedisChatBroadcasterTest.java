@@ -0,0 +1,106 @@
+package com.hongik.books.domain.chat.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 두 인스턴스를 인메모리 pub/sub(모든 구독자에게 그대로 돌려주는 StringRedisTemplate 대역)으로 묶어
+ * 한쪽에서 보낸 STOMP 메시지가 다른 쪽 로컬 브로커로 한 번씩만 전달되는지 검증
+ */
+class RedisChatBroadcasterTest {
+
+    private static final String CHANNEL = "chat:fanout:test";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    private final SimpMessagingTemplate templateA = mock(SimpMessagingTemplate.class);
+    private final SimpMessagingTemplate templateB = mock(SimpMessagingTemplate.class);
+
+    private RedisChatBroadcaster nodeA;
+    private RedisChatBroadcaster nodeB;
+
+    /**
+     * linger를 테스트 시간보다 길게 잡아, 묶음은 batch-size가 찼을 때만 나가도록 한다 (타이밍과 무관)
+     */
+    private void startNodes(int batchSize) {
+        nodeA = new RedisChatBroadcaster(templateA, redis, objectMapper, CHANNEL, batchSize, 60_000, 100);
+        nodeB = new RedisChatBroadcaster(templateB, redis, objectMapper, CHANNEL, batchSize, 60_000, 100);
+
+        doAnswer(invocation -> {
+            String body = invocation.getArgument(1);
+            DefaultMessage message = new DefaultMessage(
+                    CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+            nodeA.onMessage(message, null);
+            nodeB.onMessage(message, null);
+            return 2L;
+        }).when(redis).convertAndSend(eq(CHANNEL), anyString());
+
+        nodeA.start();
+        nodeB.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        nodeA.shutdown();
+        nodeB.shutdown();
+    }
+
+    @Test
+    void roomMessagesReachOtherNodeOnceInOneBatch() throws Exception {
+        // batch-size 2: 두 메시지가 모두 큐에 들어와야 PUBLISH 한 번으로 나간다
+        startNodes(2);
+        nodeA.sendToRoom(7L, Map.of("messageId", 1, "message", "안녕하세요"));
+        nodeA.sendToRoom(7L, Map.of("messageId", 2, "message", "책 아직 있나요?"));
+
+        ArgumentCaptor<Object> delivered = ArgumentCaptor.forClass(Object.class);
+        verify(templateB, timeout(5000).times(2)).convertAndSend(eq("/sub/chat/room/7"), delivered.capture());
+        List<Object> payloads = delivered.getAllValues();
+        assertThat(((JsonNode) payloads.get(0)).get("messageId").asInt()).isEqualTo(1);
+        assertThat(((JsonNode) payloads.get(1)).get("message").asText()).isEqualTo("책 아직 있나요?");
+
+        // 발행된 묶음 하나에 두 메시지가 순서대로 담겨 있다
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redis).convertAndSend(eq(CHANNEL), published.capture());
+        JsonNode batch = objectMapper.readTree(published.getValue());
+        assertThat(batch.get("node").asText()).isEqualTo(nodeA.nodeId());
+        assertThat(batch.get("messages")).hasSize(2);
+        assertThat(batch.get("messages").get(0).get("destination").asText()).isEqualTo("/sub/chat/room/7");
+        assertThat(batch.get("messages").get(1).get("payload").get("messageId").asInt()).isEqualTo(2);
+
+        // 보낸 인스턴스는 로컬로 바로 전달하고, 자기 묶음은 다시 전달하지 않는다
+        verify(templateA, times(2)).convertAndSend(eq("/sub/chat/room/7"), any(Object.class));
+    }
+
+    @Test
+    void userMessagesAreResolvedByEachNode() {
+        startNodes(1);
+        nodeB.sendToUser("buyer@hongik.ac.kr", "/queue/chat-errors", Map.of("success", false));
+
+        verify(templateB).convertAndSendToUser(eq("buyer@hongik.ac.kr"), eq("/queue/chat-errors"), any(Object.class));
+        verify(templateA, timeout(5000)).convertAndSendToUser(
+                eq("buyer@hongik.ac.kr"), eq("/queue/chat-errors"), any(JsonNode.class));
+        verify(redis).convertAndSend(eq(CHANNEL), anyString());
+        verify(templateA, never()).convertAndSend(anyString(), any(Object.class));
+    }
+}
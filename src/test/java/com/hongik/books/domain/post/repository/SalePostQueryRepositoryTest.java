@@ -0,0 +1,123 @@
+package com.hongik.books.domain.post.repository;
+
+import com.hongik.books.domain.book.domain.Book;
+import com.hongik.books.domain.post.domain.Condition;
+import com.hongik.books.domain.post.domain.PostImage;
+import com.hongik.books.domain.post.domain.SalePost;
+import com.hongik.books.domain.post.dto.SalePostSummaryResponseDTO;
+import com.hongik.books.domain.user.domain.User;
+import com.hongik.books.domain.user.domain.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 판매글 요약 프로젝션이 페이지 크기와 무관하게 고정된 수의 SQL만 실행하는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class SalePostQueryRepositoryTest {
+
+    private static final int POST_COUNT = 30;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    SalePostRepository salePostRepository;
+
+    @Autowired
+    TestEntityManager em;
+
+    Statistics statistics;
+    Long sellerId;
+
+    @BeforeEach
+    void setUp() {
+        User seller = em.persist(User.builder()
+                .email("seller@example.com")
+                .username("seller")
+                .role(UserRole.STUDENT)
+                .build());
+        sellerId = seller.getId();
+        for (int i = 0; i < POST_COUNT; i++) {
+            Book book = em.persist(Book.builder()
+                    .title("자바의 정석 " + i)
+                    .author("남궁성")
+                    .publisher("도우출판")
+                    .isCustom(true)
+                    .build());
+            SalePost post = SalePost.builder()
+                    .seller(seller)
+                    .book(book)
+                    .postTitle("자바의 정석 팝니다 " + i)
+                    .postContent("상태 좋아요")
+                    .price(10_000 + i)
+                    .status(SalePost.SaleStatus.FOR_SALE)
+                    .writingCondition(Condition.HIGH)
+                    .tearCondition(Condition.HIGH)
+                    .waterCondition(Condition.HIGH)
+                    .oncampusPlaceCode("T")
+                    .offcampusStationCode("HONGIK_UNIV")
+                    .build();
+            post.addPostImage(PostImage.builder().salePost(post).imageUrl("https://img.test/" + i + "/first.jpg").build());
+            post.addPostImage(PostImage.builder().salePost(post).imageUrl("https://img.test/" + i + "/second.jpg").build());
+            em.persist(post);
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void firstPageRunsContentImageAndCountQueriesOnly() {
+        Page<SalePostSummaryResponseDTO> page = salePostRepository.findSummaries(
+                PostSpecification.soldBy(sellerId),
+                PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(POST_COUNT);
+        // 본문 + 대표 이미지 + count
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void lastPageSkipsCountQuery() {
+        Page<SalePostSummaryResponseDTO> page = salePostRepository.findSummaries(
+                PostSpecification.soldBy(sellerId),
+                PageRequest.of(1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(page.getContent()).hasSize(POST_COUNT - PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void summaryCarriesFirstImageAndSellerWithoutLazyLoading() {
+        List<SalePostSummaryResponseDTO> summaries = salePostRepository.findSummaries(
+                PostSpecification.soldBy(sellerId), Sort.by(Sort.Direction.ASC, "price"), PAGE_SIZE);
+
+        SalePostSummaryResponseDTO first = summaries.getFirst();
+        assertThat(first.getThumbnailUrl()).isEqualTo("https://img.test/0/first.jpg");
+        assertThat(first.getSellerNickname()).isEqualTo("seller");
+        assertThat(first.getAuthor()).isEqualTo("남궁성");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
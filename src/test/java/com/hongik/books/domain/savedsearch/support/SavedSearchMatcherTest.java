@@ -0,0 +1,89 @@
+package com.hongik.books.domain.savedsearch.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장 검색 역색인: 앵커 하나로 후보를 모아도 조건 전체(검색어 AND 카테고리 AND 가격)로 판정되는지 검증
+ */
+class SavedSearchMatcherTest {
+
+    // 가격 버킷 5천원, 0~4번 버킷 (2만원 이상은 모두 마지막 버킷)
+    private final SavedSearchMatcher matcher = new SavedSearchMatcher(5_000, 4);
+
+    @Test
+    void keywordSearchRequiresEveryKeyCategoryAndPrice() {
+        matcher.put(new SavedSearchMatcher.Predicate(1L, 10L, Set.of("자바", "바의", "의정"), "컴퓨터공학과", 5_000, 15_000));
+
+        Set<String> keys = Set.of("자바", "바의", "의정", "정석");
+        assertThat(ids(new SavedSearchMatcher.Target(keys, Set.of("컴퓨터공학과"), 10_000))).containsExactly(1L);
+
+        // 앵커가 아닌 키가 빠져도, 카테고리나 가격이 어긋나도 매칭되지 않는다
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of("자바", "바의"), Set.of("컴퓨터공학과"), 10_000))).isEmpty();
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of("의정"), Set.of("컴퓨터공학과"), 10_000))).isEmpty();
+        assertThat(ids(new SavedSearchMatcher.Target(keys, Set.of("경영학과"), 10_000))).isEmpty();
+        assertThat(ids(new SavedSearchMatcher.Target(keys, Set.of("컴퓨터공학과"), 4_999))).isEmpty();
+        assertThat(ids(new SavedSearchMatcher.Target(keys, Set.of("컴퓨터공학과"), 15_001))).isEmpty();
+    }
+
+    @Test
+    void keywordSearchIsAnchoredOnItsRarestKey() {
+        matcher.put(new SavedSearchMatcher.Predicate(1L, 10L, Set.of("자바"), null, null, null));
+        matcher.put(new SavedSearchMatcher.Predicate(2L, 11L, Set.of("자바"), null, null, null));
+        // "자바"는 이미 두 건이라 3번은 "스프"에 등록된다
+        matcher.put(new SavedSearchMatcher.Predicate(3L, 12L, Set.of("자바", "스프"), null, null, null));
+
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of("자바"), Set.of(), 0))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of("스프"), Set.of(), 0))).isEmpty();
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of("자바", "스프"), Set.of(), 0)))
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+
+        // 앵커 키에서 빠지면 다른 조건은 그대로 남는다
+        assertThat(matcher.remove(3L)).isTrue();
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of("자바", "스프"), Set.of(), 0)))
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(matcher.size()).isEqualTo(2);
+    }
+
+    @Test
+    void categoryOnlySearchIsAnchoredOnCategoryAndStillChecksPrice() {
+        matcher.put(new SavedSearchMatcher.Predicate(1L, 10L, Set.of(), "경영학과", null, 9_000));
+
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of("회계"), Set.of("경영학과", "경제학과"), 9_000)))
+                .containsExactly(1L);
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of("회계"), Set.of("경영학과"), 9_001))).isEmpty();
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of("회계"), Set.of("경제학과"), 1_000))).isEmpty();
+    }
+
+    @Test
+    void priceOnlySearchCoversEveryBucketInItsRange() {
+        matcher.put(new SavedSearchMatcher.Predicate(1L, 10L, Set.of(), null, 7_000, 12_000));
+        matcher.put(new SavedSearchMatcher.Predicate(2L, 11L, Set.of(), null, 30_000, null));
+
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of(), Set.of(), 7_000))).containsExactly(1L);
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of(), Set.of(), 12_000))).containsExactly(1L);
+        // 같은 버킷(5천~1만)이라도 범위 밖이면 제외
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of(), Set.of(), 6_000))).isEmpty();
+        // 상한 없는 조건은 마지막 버킷을 넘는 가격도 매칭
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of(), Set.of(), 250_000))).containsExactly(2L);
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of(), Set.of(), 25_000))).isEmpty();
+    }
+
+    @Test
+    void putReplacesPreviousConditionWithSameId() {
+        matcher.put(new SavedSearchMatcher.Predicate(1L, 10L, Set.of(), "경영학과", null, null));
+        matcher.put(new SavedSearchMatcher.Predicate(1L, 10L, Set.of(), "경제학과", null, null));
+
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of(), Set.of("경영학과"), 0))).isEmpty();
+        assertThat(ids(new SavedSearchMatcher.Target(Set.of(), Set.of("경제학과"), 0))).containsExactly(1L);
+        assertThat(matcher.size()).isEqualTo(1);
+    }
+
+    private List<Long> ids(SavedSearchMatcher.Target target) {
+        return matcher.match(target).stream().map(SavedSearchMatcher.Predicate::id).toList();
+    }
+}